@@ -0,0 +1,59 @@
+package io.vertx.codegen.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated JSON converters with Jackson databind on the same payloads.
+ *
+ * The converter benchmarks include the {@link JsonObject} encoding/decoding step, so both sides go from a data object
+ * to a JSON string and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  @Param
+  public Payload payload;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private Object obj;
+  private String json;
+
+  @Setup
+  public void setup() throws Exception {
+    obj = payload.create();
+    json = payload.toJson(obj).encode();
+    // Sanity check: both sides must agree on the payload
+    if (!obj.equals(payload.fromJson(new JsonObject(json))) || !obj.equals(mapper.readValue(json, payload.type()))) {
+      throw new IllegalStateException("Invalid JSON round trip for " + payload);
+    }
+  }
+
+  @Benchmark
+  public String converterEncode() {
+    return payload.toJson(obj).encode();
+  }
+
+  @Benchmark
+  public Object converterDecode() {
+    return payload.fromJson(new JsonObject(json));
+  }
+
+  @Benchmark
+  public String jacksonEncode() throws Exception {
+    return mapper.writeValueAsString(obj);
+  }
+
+  @Benchmark
+  public Object jacksonDecode() throws Exception {
+    return mapper.readValue(json, payload.type());
+  }
+}
@@ -0,0 +1,226 @@
+package io.vertx.codegen.benchmarks;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.vertx.codegen.benchmarks.model.*;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The payloads exercised by the benchmarks, each payload binds a sample data object to its generated converters and
+ * to the {@code protoc} message compiled from the generated {@code dataobjects.proto} file.
+ */
+public enum Payload {
+
+  FLAT(FlatItem.class, Payload::flatItem, FlatItem::toJson, FlatItem::new,
+    FlatItemProtoConverter::toProto, FlatItemProtoConverter::computeSize, FlatItemProtoConverter::fromProto,
+    io.vertx.protobuf.generated.FlatItem.parser()),
+
+  WIDE(WideItem.class, Payload::wideItem, WideItem::toJson, WideItem::new,
+    WideItemProtoConverter::toProto, WideItemProtoConverter::computeSize, WideItemProtoConverter::fromProto,
+    io.vertx.protobuf.generated.WideItem.parser()),
+
+  COLLECTION(CollectionItem.class, Payload::collectionItem, CollectionItem::toJson, CollectionItem::new,
+    CollectionItemProtoConverter::toProto, CollectionItemProtoConverter::computeSize, CollectionItemProtoConverter::fromProto,
+    io.vertx.protobuf.generated.CollectionItem.parser()),
+
+  USER(User.class, Payload::user, User::toJson, User::new,
+    UserProtoConverter::toProto, UserProtoConverter::computeSize, UserProtoConverter::fromProto,
+    io.vertx.protobuf.generated.User.parser()),
+
+  RECURSIVE(RecursiveItem.class, () -> recursiveItem(6), RecursiveItem::toJson, RecursiveItem::new,
+    RecursiveItemProtoConverter::toProto, RecursiveItemProtoConverter::computeSize, RecursiveItemProtoConverter::fromProto,
+    io.vertx.protobuf.generated.RecursiveItem.parser());
+
+  @FunctionalInterface
+  interface ProtoEncoder<T> {
+    void toProto(T obj, CodedOutputStream output) throws IOException;
+  }
+
+  @FunctionalInterface
+  interface ProtoDecoder<T> {
+    void fromProto(CodedInputStream input, T obj) throws IOException;
+  }
+
+  private final Class<?> type;
+  private final Supplier<?> factory;
+  private final Function<Object, JsonObject> toJson;
+  private final Function<JsonObject, Object> fromJson;
+  private final ProtoEncoder<Object> toProto;
+  private final Function<Object, Integer> computeSize;
+  private final ProtoDecoder<Object> fromProto;
+  private final Parser<? extends MessageLite> parser;
+
+  @SuppressWarnings("unchecked")
+  <T> Payload(Class<T> type,
+              Supplier<T> factory,
+              Function<T, JsonObject> toJson,
+              Function<JsonObject, T> fromJson,
+              ProtoEncoder<T> toProto,
+              Function<T, Integer> computeSize,
+              ProtoDecoder<T> fromProto,
+              Parser<? extends MessageLite> parser) {
+    this.type = type;
+    this.factory = factory;
+    this.toJson = (Function<Object, JsonObject>) toJson;
+    this.fromJson = (Function<JsonObject, Object>) fromJson;
+    this.toProto = (ProtoEncoder<Object>) toProto;
+    this.computeSize = (Function<Object, Integer>) computeSize;
+    this.fromProto = (ProtoDecoder<Object>) fromProto;
+    this.parser = parser;
+  }
+
+  public Class<?> type() {
+    return type;
+  }
+
+  public Object create() {
+    return factory.get();
+  }
+
+  public JsonObject toJson(Object obj) {
+    return toJson.apply(obj);
+  }
+
+  public Object fromJson(JsonObject json) {
+    return fromJson.apply(json);
+  }
+
+  public byte[] toProto(Object obj) throws IOException {
+    byte[] bytes = new byte[computeSize.apply(obj)];
+    CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+    toProto.toProto(obj, output);
+    output.checkNoSpaceLeft();
+    return bytes;
+  }
+
+  public Object fromProto(byte[] bytes) throws IOException {
+    Object obj = factory.get();
+    fromProto.fromProto(CodedInputStream.newInstance(bytes), obj);
+    return obj;
+  }
+
+  public MessageLite parseMessage(byte[] bytes) throws IOException {
+    return parser.parseFrom(bytes);
+  }
+
+  private static FlatItem flatItem() {
+    FlatItem item = new FlatItem();
+    item.setId("d5b8a5f4-8a4e-4f1c-9a40-0c3f4e2b6a11");
+    item.setCount(1234);
+    item.setEnabled(true);
+    item.setRatio(0.75);
+    item.setTimestamp(1700000000000L);
+    return item;
+  }
+
+  private static WideItem wideItem() {
+    WideItem item = new WideItem();
+    item.setString01("alpha");
+    item.setString02("bravo");
+    item.setString03("charlie");
+    item.setString04("delta");
+    item.setString05("echo");
+    item.setString06("foxtrot");
+    item.setString07("golf");
+    item.setString08("hotel");
+    item.setInt01(1);
+    item.setInt02(-2);
+    item.setInt03(300);
+    item.setInt04(-4000);
+    item.setInt05(50000);
+    item.setInt06(-600000);
+    item.setInt07(7000000);
+    item.setInt08(Integer.MAX_VALUE);
+    item.setLong01(1L);
+    item.setLong02(-20000L);
+    item.setLong03(3000000000L);
+    item.setLong04(Long.MAX_VALUE);
+    item.setDouble01(0.1);
+    item.setDouble02(-2.5);
+    item.setDouble03(3.14159);
+    item.setDouble04(1e10);
+    return item;
+  }
+
+  private static CollectionItem collectionItem() {
+    List<Integer> integers = new ArrayList<>();
+    List<Address> addresses = new ArrayList<>();
+    Map<String, String> labels = new HashMap<>();
+    Map<String, Integer> counters = new HashMap<>();
+    Map<String, Address> places = new HashMap<>();
+    for (int i = 0; i < 32; i++) {
+      integers.add(i * 31);
+      addresses.add(address("Street " + i, i, -i));
+      labels.put("label-" + i, "value-" + i);
+      counters.put("counter-" + i, i * 1000);
+      places.put("place-" + i, address("Place " + i, -i, i));
+    }
+    CollectionItem item = new CollectionItem();
+    item.setIntegers(integers);
+    item.setAddresses(addresses);
+    item.setLabels(labels);
+    item.setCounters(counters);
+    item.setPlaces(places);
+    return item;
+  }
+
+  private static User user() {
+    Map<String, String> stringValueMap = new HashMap<>();
+    stringValueMap.put("key1", "value1");
+    stringValueMap.put("key2", "value2");
+    Map<String, Integer> integerValueMap = new HashMap<>();
+    integerValueMap.put("key1", 1);
+    integerValueMap.put("key2", 2);
+    Map<String, Address> structValueMap = new HashMap<>();
+    structValueMap.put("home", address("Home", 1.0f, 2.0f));
+    structValueMap.put("work", address("Work", 3.0f, 4.0f));
+    User user = new User();
+    user.setUserName("jviet");
+    user.setAge(21);
+    user.setIntegerListField(Arrays.asList(1, 2, 3, 4, 5));
+    user.setStructListField(Arrays.asList(address("First", 1.5f, 2.5f), address("Second", 3.5f, 4.5f)));
+    user.setAddress(address("Main", 48.85f, 2.35f));
+    user.setDoubleField(5.5);
+    user.setFloatField(7.7f);
+    user.setLongField(1234567890123L);
+    user.setBoolField(true);
+    user.setStringValueMap(stringValueMap);
+    user.setIntegerValueMap(integerValueMap);
+    user.setStructValueMap(structValueMap);
+    user.setPrimitiveBoolean(true);
+    user.setPrimitiveInt(42);
+    user.setPrimitiveLong(42L);
+    user.setPrimitiveDouble(42.5);
+    return user;
+  }
+
+  private static RecursiveItem recursiveItem(int depth) {
+    RecursiveItem item = new RecursiveItem();
+    item.setId("item-" + depth);
+    if (depth > 0) {
+      item.setChildA(recursiveItem(depth - 1));
+      item.setChildB(recursiveItem(depth - 1));
+      item.setChildC(recursiveItem(depth - 1));
+    }
+    return item;
+  }
+
+  private static Address address(String name, float latitude, float longitude) {
+    Address address = new Address();
+    address.setName(name);
+    address.setLatitude(latitude);
+    address.setLongitude(longitude);
+    return address;
+  }
+}
@@ -0,0 +1,17 @@
+package io.vertx.codegen.benchmarks;
+
+/**
+ * Prints the encoded size of each benchmark payload, in JSON and in protobuf.
+ */
+public class PayloadSizes {
+
+  public static void main(String[] args) throws Exception {
+    System.out.printf("%-12s %10s %10s%n", "payload", "json", "protobuf");
+    for (Payload payload : Payload.values()) {
+      Object obj = payload.create();
+      int json = payload.toJson(obj).toBuffer().length();
+      int proto = payload.toProto(obj).length;
+      System.out.printf("%-12s %10d %10d%n", payload, json, proto);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * A small nested data object, mirrors the {@code Address} model of the protobuf converter tests.
+ */
+@DataObject(generateConverter = true)
+@ProtobufGen
+public class Address {
+
+  private Float latitude;
+  private Float longitude;
+  private String name;
+
+  public Address() {
+  }
+
+  public Address(JsonObject json) {
+    AddressConverter.fromJson(json, this);
+  }
+
+  public Float getLatitude() {
+    return latitude;
+  }
+
+  public void setLatitude(Float latitude) {
+    this.latitude = latitude;
+  }
+
+  public Float getLongitude() {
+    return longitude;
+  }
+
+  public void setLongitude(Float longitude) {
+    this.longitude = longitude;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    AddressConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    Address that = (Address) o;
+    return Objects.equals(latitude, that.latitude) &&
+      Objects.equals(longitude, that.longitude) &&
+      Objects.equals(name, that.name);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(latitude, longitude, name);
+  }
+}
@@ -0,0 +1,93 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A data object dominated by lists and maps.
+ */
+@DataObject(generateConverter = true)
+@ProtobufGen
+public class CollectionItem {
+
+  private List<Integer> integers;
+  private List<Address> addresses;
+  private Map<String, String> labels;
+  private Map<String, Integer> counters;
+  private Map<String, Address> places;
+
+  public CollectionItem() {
+  }
+
+  public CollectionItem(JsonObject json) {
+    CollectionItemConverter.fromJson(json, this);
+  }
+
+  public List<Integer> getIntegers() {
+    return integers;
+  }
+
+  public void setIntegers(List<Integer> integers) {
+    this.integers = integers;
+  }
+
+  public List<Address> getAddresses() {
+    return addresses;
+  }
+
+  public void setAddresses(List<Address> addresses) {
+    this.addresses = addresses;
+  }
+
+  public Map<String, String> getLabels() {
+    return labels;
+  }
+
+  public void setLabels(Map<String, String> labels) {
+    this.labels = labels;
+  }
+
+  public Map<String, Integer> getCounters() {
+    return counters;
+  }
+
+  public void setCounters(Map<String, Integer> counters) {
+    this.counters = counters;
+  }
+
+  public Map<String, Address> getPlaces() {
+    return places;
+  }
+
+  public void setPlaces(Map<String, Address> places) {
+    this.places = places;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    CollectionItemConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    CollectionItem that = (CollectionItem) o;
+    return Objects.equals(integers, that.integers) &&
+      Objects.equals(addresses, that.addresses) &&
+      Objects.equals(labels, that.labels) &&
+      Objects.equals(counters, that.counters) &&
+      Objects.equals(places, that.places);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(integers, addresses, labels, counters, places);
+  }
+}
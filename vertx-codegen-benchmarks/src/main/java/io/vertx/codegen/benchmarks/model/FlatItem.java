@@ -0,0 +1,91 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * A flat data object with a handful of scalar properties.
+ */
+@DataObject(generateConverter = true)
+@ProtobufGen
+public class FlatItem {
+
+  private String id;
+  private int count;
+  private boolean enabled;
+  private double ratio;
+  private long timestamp;
+
+  public FlatItem() {
+  }
+
+  public FlatItem(JsonObject json) {
+    FlatItemConverter.fromJson(json, this);
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public void setCount(int count) {
+    this.count = count;
+  }
+
+  public boolean getEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public double getRatio() {
+    return ratio;
+  }
+
+  public void setRatio(double ratio) {
+    this.ratio = ratio;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    FlatItemConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    FlatItem that = (FlatItem) o;
+    return Objects.equals(id, that.id) &&
+      count == that.count &&
+      enabled == that.enabled &&
+      Double.compare(ratio, that.ratio) == 0 &&
+      timestamp == that.timestamp;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, count, enabled, ratio, timestamp);
+  }
+}
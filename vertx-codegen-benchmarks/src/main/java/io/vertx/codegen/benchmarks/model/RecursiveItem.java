@@ -0,0 +1,82 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * A self referencing data object used to build deep trees, mirrors the {@code RecursiveItem} model of the protobuf
+ * converter tests.
+ */
+@DataObject(generateConverter = true)
+@ProtobufGen
+public class RecursiveItem {
+
+  private String id;
+  private RecursiveItem childA;
+  private RecursiveItem childB;
+  private RecursiveItem childC;
+
+  public RecursiveItem() {
+  }
+
+  public RecursiveItem(JsonObject json) {
+    RecursiveItemConverter.fromJson(json, this);
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public RecursiveItem getChildA() {
+    return childA;
+  }
+
+  public void setChildA(RecursiveItem childA) {
+    this.childA = childA;
+  }
+
+  public RecursiveItem getChildB() {
+    return childB;
+  }
+
+  public void setChildB(RecursiveItem childB) {
+    this.childB = childB;
+  }
+
+  public RecursiveItem getChildC() {
+    return childC;
+  }
+
+  public void setChildC(RecursiveItem childC) {
+    this.childC = childC;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    RecursiveItemConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    RecursiveItem that = (RecursiveItem) o;
+    return Objects.equals(id, that.id) &&
+      Objects.equals(childA, that.childA) &&
+      Objects.equals(childB, that.childB) &&
+      Objects.equals(childC, that.childC);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, childA, childB, childC);
+  }
+}
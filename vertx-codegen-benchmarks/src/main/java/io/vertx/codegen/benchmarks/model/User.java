@@ -0,0 +1,204 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Mirrors the {@code User} model of the protobuf converter tests, without the {@code ZonedDateTime} and {@code JsonObject}
+ * properties that Jackson databind cannot handle without extra modules.
+ */
+@DataObject(generateConverter = true)
+@ProtobufGen
+public class User {
+
+  private String userName;
+  private Integer age;
+  private List<Integer> integerListField;
+  private List<Address> structListField;
+  private Address address;
+  private Double doubleField;
+  private Float floatField;
+  private Long longField;
+  private Boolean boolField;
+  private Map<String, String> stringValueMap;
+  private Map<String, Integer> integerValueMap;
+  private Map<String, Address> structValueMap;
+  private boolean primitiveBoolean;
+  private int primitiveInt;
+  private long primitiveLong;
+  private double primitiveDouble;
+
+  public User() {
+  }
+
+  public User(JsonObject json) {
+    UserConverter.fromJson(json, this);
+  }
+
+  public String getUserName() {
+    return userName;
+  }
+
+  public void setUserName(String userName) {
+    this.userName = userName;
+  }
+
+  public Integer getAge() {
+    return age;
+  }
+
+  public void setAge(Integer age) {
+    this.age = age;
+  }
+
+  public List<Integer> getIntegerListField() {
+    return integerListField;
+  }
+
+  public void setIntegerListField(List<Integer> integerListField) {
+    this.integerListField = integerListField;
+  }
+
+  public List<Address> getStructListField() {
+    return structListField;
+  }
+
+  public void setStructListField(List<Address> structListField) {
+    this.structListField = structListField;
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public void setAddress(Address address) {
+    this.address = address;
+  }
+
+  public Double getDoubleField() {
+    return doubleField;
+  }
+
+  public void setDoubleField(Double doubleField) {
+    this.doubleField = doubleField;
+  }
+
+  public Float getFloatField() {
+    return floatField;
+  }
+
+  public void setFloatField(Float floatField) {
+    this.floatField = floatField;
+  }
+
+  public Long getLongField() {
+    return longField;
+  }
+
+  public void setLongField(Long longField) {
+    this.longField = longField;
+  }
+
+  public Boolean getBoolField() {
+    return boolField;
+  }
+
+  public void setBoolField(Boolean boolField) {
+    this.boolField = boolField;
+  }
+
+  public Map<String, String> getStringValueMap() {
+    return stringValueMap;
+  }
+
+  public void setStringValueMap(Map<String, String> stringValueMap) {
+    this.stringValueMap = stringValueMap;
+  }
+
+  public Map<String, Integer> getIntegerValueMap() {
+    return integerValueMap;
+  }
+
+  public void setIntegerValueMap(Map<String, Integer> integerValueMap) {
+    this.integerValueMap = integerValueMap;
+  }
+
+  public Map<String, Address> getStructValueMap() {
+    return structValueMap;
+  }
+
+  public void setStructValueMap(Map<String, Address> structValueMap) {
+    this.structValueMap = structValueMap;
+  }
+
+  public boolean getPrimitiveBoolean() {
+    return primitiveBoolean;
+  }
+
+  public void setPrimitiveBoolean(boolean primitiveBoolean) {
+    this.primitiveBoolean = primitiveBoolean;
+  }
+
+  public int getPrimitiveInt() {
+    return primitiveInt;
+  }
+
+  public void setPrimitiveInt(int primitiveInt) {
+    this.primitiveInt = primitiveInt;
+  }
+
+  public long getPrimitiveLong() {
+    return primitiveLong;
+  }
+
+  public void setPrimitiveLong(long primitiveLong) {
+    this.primitiveLong = primitiveLong;
+  }
+
+  public double getPrimitiveDouble() {
+    return primitiveDouble;
+  }
+
+  public void setPrimitiveDouble(double primitiveDouble) {
+    this.primitiveDouble = primitiveDouble;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    UserConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    User that = (User) o;
+    return Objects.equals(userName, that.userName) &&
+      Objects.equals(age, that.age) &&
+      Objects.equals(integerListField, that.integerListField) &&
+      Objects.equals(structListField, that.structListField) &&
+      Objects.equals(address, that.address) &&
+      Objects.equals(doubleField, that.doubleField) &&
+      Objects.equals(floatField, that.floatField) &&
+      Objects.equals(longField, that.longField) &&
+      Objects.equals(boolField, that.boolField) &&
+      Objects.equals(stringValueMap, that.stringValueMap) &&
+      Objects.equals(integerValueMap, that.integerValueMap) &&
+      Objects.equals(structValueMap, that.structValueMap) &&
+      primitiveBoolean == that.primitiveBoolean &&
+      primitiveInt == that.primitiveInt &&
+      primitiveLong == that.primitiveLong &&
+      Double.compare(primitiveDouble, that.primitiveDouble) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(userName, age, integerListField, structListField, address, doubleField, floatField, longField, boolField, stringValueMap, integerValueMap, structValueMap, primitiveBoolean, primitiveInt, primitiveLong, primitiveDouble);
+  }
+}
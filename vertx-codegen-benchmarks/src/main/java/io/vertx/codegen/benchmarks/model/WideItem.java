@@ -0,0 +1,281 @@
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * A wide data object with many scalar properties.
+ */
+@DataObject(generateConverter = true)
+@ProtobufGen
+public class WideItem {
+
+  private String string01;
+  private String string02;
+  private String string03;
+  private String string04;
+  private String string05;
+  private String string06;
+  private String string07;
+  private String string08;
+  private int int01;
+  private int int02;
+  private int int03;
+  private int int04;
+  private int int05;
+  private int int06;
+  private int int07;
+  private int int08;
+  private long long01;
+  private long long02;
+  private long long03;
+  private long long04;
+  private double double01;
+  private double double02;
+  private double double03;
+  private double double04;
+
+  public WideItem() {
+  }
+
+  public WideItem(JsonObject json) {
+    WideItemConverter.fromJson(json, this);
+  }
+
+  public String getString01() {
+    return string01;
+  }
+
+  public void setString01(String string01) {
+    this.string01 = string01;
+  }
+
+  public String getString02() {
+    return string02;
+  }
+
+  public void setString02(String string02) {
+    this.string02 = string02;
+  }
+
+  public String getString03() {
+    return string03;
+  }
+
+  public void setString03(String string03) {
+    this.string03 = string03;
+  }
+
+  public String getString04() {
+    return string04;
+  }
+
+  public void setString04(String string04) {
+    this.string04 = string04;
+  }
+
+  public String getString05() {
+    return string05;
+  }
+
+  public void setString05(String string05) {
+    this.string05 = string05;
+  }
+
+  public String getString06() {
+    return string06;
+  }
+
+  public void setString06(String string06) {
+    this.string06 = string06;
+  }
+
+  public String getString07() {
+    return string07;
+  }
+
+  public void setString07(String string07) {
+    this.string07 = string07;
+  }
+
+  public String getString08() {
+    return string08;
+  }
+
+  public void setString08(String string08) {
+    this.string08 = string08;
+  }
+
+  public int getInt01() {
+    return int01;
+  }
+
+  public void setInt01(int int01) {
+    this.int01 = int01;
+  }
+
+  public int getInt02() {
+    return int02;
+  }
+
+  public void setInt02(int int02) {
+    this.int02 = int02;
+  }
+
+  public int getInt03() {
+    return int03;
+  }
+
+  public void setInt03(int int03) {
+    this.int03 = int03;
+  }
+
+  public int getInt04() {
+    return int04;
+  }
+
+  public void setInt04(int int04) {
+    this.int04 = int04;
+  }
+
+  public int getInt05() {
+    return int05;
+  }
+
+  public void setInt05(int int05) {
+    this.int05 = int05;
+  }
+
+  public int getInt06() {
+    return int06;
+  }
+
+  public void setInt06(int int06) {
+    this.int06 = int06;
+  }
+
+  public int getInt07() {
+    return int07;
+  }
+
+  public void setInt07(int int07) {
+    this.int07 = int07;
+  }
+
+  public int getInt08() {
+    return int08;
+  }
+
+  public void setInt08(int int08) {
+    this.int08 = int08;
+  }
+
+  public long getLong01() {
+    return long01;
+  }
+
+  public void setLong01(long long01) {
+    this.long01 = long01;
+  }
+
+  public long getLong02() {
+    return long02;
+  }
+
+  public void setLong02(long long02) {
+    this.long02 = long02;
+  }
+
+  public long getLong03() {
+    return long03;
+  }
+
+  public void setLong03(long long03) {
+    this.long03 = long03;
+  }
+
+  public long getLong04() {
+    return long04;
+  }
+
+  public void setLong04(long long04) {
+    this.long04 = long04;
+  }
+
+  public double getDouble01() {
+    return double01;
+  }
+
+  public void setDouble01(double double01) {
+    this.double01 = double01;
+  }
+
+  public double getDouble02() {
+    return double02;
+  }
+
+  public void setDouble02(double double02) {
+    this.double02 = double02;
+  }
+
+  public double getDouble03() {
+    return double03;
+  }
+
+  public void setDouble03(double double03) {
+    this.double03 = double03;
+  }
+
+  public double getDouble04() {
+    return double04;
+  }
+
+  public void setDouble04(double double04) {
+    this.double04 = double04;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    WideItemConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    WideItem that = (WideItem) o;
+    return Objects.equals(string01, that.string01) &&
+      Objects.equals(string02, that.string02) &&
+      Objects.equals(string03, that.string03) &&
+      Objects.equals(string04, that.string04) &&
+      Objects.equals(string05, that.string05) &&
+      Objects.equals(string06, that.string06) &&
+      Objects.equals(string07, that.string07) &&
+      Objects.equals(string08, that.string08) &&
+      int01 == that.int01 &&
+      int02 == that.int02 &&
+      int03 == that.int03 &&
+      int04 == that.int04 &&
+      int05 == that.int05 &&
+      int06 == that.int06 &&
+      int07 == that.int07 &&
+      int08 == that.int08 &&
+      long01 == that.long01 &&
+      long02 == that.long02 &&
+      long03 == that.long03 &&
+      long04 == that.long04 &&
+      Double.compare(double01, that.double01) == 0 &&
+      Double.compare(double02, that.double02) == 0 &&
+      Double.compare(double03, that.double03) == 0 &&
+      Double.compare(double04, that.double04) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(string01, string02, string03, string04, string05, string06, string07, string08, int01, int02, int03, int04, int05, int06, int07, int08, long01, long02, long03, long04, double01, double02, double03, double04);
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * The data objects used by the benchmarks, their JSON and protobuf converters are generated at build time.
+ */
+@ModuleGen(name = "vertx-codegen-benchmarks", groupPackage = "io.vertx.codegen.benchmarks")
+package io.vertx.codegen.benchmarks.model;
+
+import io.vertx.codegen.annotations.ModuleGen;
@@ -1,7 +1,9 @@
 package io.vertx.codegen.json.generator;
 
 import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
 import io.vertx.codegen.Generator;
+import io.vertx.codegen.MapperKind;
 import io.vertx.codegen.PropertyInfo;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.format.CamelCase;
@@ -19,7 +21,6 @@ import io.vertx.codegen.type.TypeInfo;
 import io.vertx.codegen.writer.CodeWriter;
 
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
 import java.util.Collection;
@@ -31,11 +32,11 @@ import java.util.Map;
  */
 public class DataObjectJsonGen extends Generator<DataObjectModel> {
 
-  private Case formatter;
-
   public DataObjectJsonGen() {
     kinds = Collections.singleton("dataObject");
     name = "data_object_converters";
+    concurrent = true;
+    isolating = true;
   }
 
   @Override
@@ -57,11 +58,10 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
   }
 
   public String renderJson(DataObjectModel model, int index, int size, Map<String, Object> session) {
-    formatter = getCase(model);
+    Case formatter = getCase(model);
 
-    StringWriter buffer = new StringWriter();
-    PrintWriter writer = new PrintWriter(buffer);
-    CodeWriter code = new CodeWriter(writer);
+    CodeWriter code = new CodeWriter();
+    PrintWriter writer = code;
     String visibility = model.isPublicConverter() ? "public" : "";
     boolean inheritConverter = model.getInheritConverter();
 
@@ -73,6 +73,12 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print("import java.time.Instant;\n");
     writer.print("import java.time.format.DateTimeFormatter;\n");
     writer.print("import java.util.Base64;\n");
+    if (model.getStreamingConverter()) {
+      writer.print("import java.io.IOException;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonGenerator;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonParser;\n");
+      writer.print("import com.fasterxml.jackson.core.JsonToken;\n");
+    }
     writer.print("\n");
     writer.print("/**\n");
     writer.print(" * Converter and mapper for {@link " + model.getType() + "}.\n");
@@ -102,15 +108,27 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
       }
       writer.print("\n");
 
-      genFromJson(visibility, inheritConverter, model, writer);
+      genFromJson(visibility, inheritConverter, model, formatter, writer);
       writer.print("\n");
-      genToJson(visibility, inheritConverter, model, writer);
+      genToJson(visibility, inheritConverter, model, formatter, writer);
+      if (model.getStreamingConverter()) {
+        writer.print("\n");
+        genStreamingFromJson(visibility, inheritConverter, model, formatter, writer);
+        writer.print("\n");
+        genStreamingToJson(visibility, inheritConverter, model, formatter, writer);
+        writer.print("\n");
+        genStreamingHelpers(writer);
+      }
+      if (model.getCopyConverter()) {
+        writer.print("\n");
+        genCopy(visibility, inheritConverter, model, writer);
+      }
     }
     writer.print("}\n");
-    return buffer.toString();
+    return code.writer().toString();
   }
 
-  private void genToJson(String visibility, boolean inheritConverter, DataObjectModel model, PrintWriter writer) {
+  private void genToJson(String visibility, boolean inheritConverter, DataObjectModel model, Case formatter, PrintWriter writer) {
     String simpleName = model.getType().getSimpleName();
     writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, JsonObject json) {\n");
     writer.print("    toJson(obj, json.getMap());\n");
@@ -122,15 +140,15 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
         ClassKind propKind = prop.getType().getKind();
         if (propKind.basic) {
           if (propKind == ClassKind.STRING) {
-            genPropToJson("", "", prop, writer);
+            genPropToJson("", "", prop, formatter, writer);
           } else {
             switch (prop.getType().getSimpleName()) {
               case "char":
               case "Character":
-                genPropToJson("Character.toString(", ")", prop, writer);
+                genPropToJson("Character.toString(", ")", prop, formatter, writer);
                 break;
               default:
-                genPropToJson("", "", prop, writer);
+                genPropToJson("", "", prop, formatter, writer);
             }
           }
         } else {
@@ -152,7 +170,7 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
                 default:
                   throw new UnsupportedOperationException();
               }
-              genPropToJson(m, match, prop, writer);
+              genPropToJson(m, match, prop, formatter, writer);
             } else {
               return;
             }
@@ -160,20 +178,20 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
             switch (propKind) {
               case API:
                 if (prop.getType().getName().equals("io.vertx.core.buffer.Buffer")) {
-                  genPropToJson("BASE64_ENCODER.encodeToString(", ".getBytes())", prop, writer);
+                  genPropToJson("BASE64_ENCODER.encodeToString(", ".getBytes())", prop, formatter, writer);
                 }
                 break;
               case ENUM:
-                genPropToJson("", ".name()", prop, writer);
+                genPropToJson("", ".name()", prop, formatter, writer);
                 break;
               case JSON_OBJECT:
               case JSON_ARRAY:
               case OBJECT:
-                genPropToJson("", "", prop, writer);
+                genPropToJson("", "", prop, formatter, writer);
                 break;
               case OTHER:
                 if (prop.getType().getName().equals(Instant.class.getName())) {
-                  genPropToJson("DateTimeFormatter.ISO_INSTANT.format(", ")", prop, writer);
+                  genPropToJson("DateTimeFormatter.ISO_INSTANT.format(", ")", prop, formatter, writer);
                 }
                 break;
             }
@@ -185,19 +203,37 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print("  }\n");
   }
 
-  private void genPropToJson(String before, String after, PropertyInfo prop, PrintWriter writer) {
+  private void genPropToJson(String before, String after, PropertyInfo prop, Case formatter, PrintWriter writer) {
     String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
     String indent = "    ";
-    if (prop.isList() || prop.isSet()) {
+    if (prop.isArray()) {
+      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
+      writer.print(indent + "  " + prop.getType().getName() + "[] values = obj." + prop.getGetterMethod() + "();\n");
+      writer.print(indent + "  JsonArray array = new JsonArray(new java.util.ArrayList<>(values.length));\n");
+      writer.print(indent + "  for (int i = 0; i < values.length; i++) {\n");
+      writer.print(indent + "    array.add(" + before + "values[i]" + after + ");\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", array);\n");
+      writer.print(indent + "}\n");
+    } else if (prop.isList() || prop.isSet()) {
+      String elementType = prop.getType().getName();
+      String coll = prop.isList() ? "java.util.List" : "java.util.Set";
       writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      writer.print(indent + "  JsonArray array = new JsonArray();\n");
-      writer.print(indent + "  obj." + prop.getGetterMethod() + "().forEach(item -> array.add(" + before + "item" + after + "));\n");
+      writer.print(indent + "  " + coll + "<" + elementType + "> values = obj." + prop.getGetterMethod() + "();\n");
+      writer.print(indent + "  JsonArray array = new JsonArray(new java.util.ArrayList<>(values.size()));\n");
+      writer.print(indent + "  for (" + elementType + " item : values) {\n");
+      writer.print(indent + "    array.add(" + before + "item" + after + ");\n");
+      writer.print(indent + "  }\n");
       writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", array);\n");
       writer.print(indent + "}\n");
     } else if (prop.isMap()) {
+      String valueType = prop.getType().getName();
       writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
-      writer.print(indent + "  JsonObject map = new JsonObject();\n");
-      writer.print(indent + "  obj." + prop.getGetterMethod() + "().forEach((key, value) -> map.put(key, " + before + "value" + after + "));\n");
+      writer.print(indent + "  java.util.Map<String, " + valueType + "> values = obj." + prop.getGetterMethod() + "();\n");
+      writer.print(indent + "  JsonObject map = new JsonObject(new java.util.LinkedHashMap<>(" + mapCapacity("values.size()") + "));\n");
+      writer.print(indent + "  for (java.util.Map.Entry<String, " + valueType + "> entry : values.entrySet()) {\n");
+      writer.print(indent + "    map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
+      writer.print(indent + "  }\n");
       writer.print(indent + "  json.put(\"" + jsonPropertyName + "\", map);\n");
       writer.print(indent + "}\n");
     } else {
@@ -213,7 +249,7 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     }
   }
 
-  private void genFromJson(String visibility, boolean inheritConverter, DataObjectModel model, PrintWriter writer) {
+  private void genFromJson(String visibility, boolean inheritConverter, DataObjectModel model, Case formatter, PrintWriter writer) {
     writer.print("  " + visibility + " static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, " + model.getType().getSimpleName() + " obj) {\n");
     writer.print("    for (java.util.Map.Entry<String, Object> member : json) {\n");
     writer.print("      switch (member.getKey()) {\n");
@@ -222,40 +258,40 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
         ClassKind propKind = prop.getType().getKind();
         if (propKind.basic) {
           if (propKind == ClassKind.STRING) {
-            genPropFromJson("String", "(String)", "", prop, writer);
+            genPropFromJson("String", "(String)", "", prop, formatter, writer);
           } else {
             switch (prop.getType().getSimpleName()) {
               case "boolean":
               case "Boolean":
-                genPropFromJson("Boolean", "(Boolean)", "", prop, writer);
+                genPropFromJson("Boolean", "(Boolean)", "", prop, formatter, writer);
                 break;
               case "byte":
               case "Byte":
-                genPropFromJson("Number", "((Number)", ").byteValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").byteValue()", prop, formatter, writer);
                 break;
               case "short":
               case "Short":
-                genPropFromJson("Number", "((Number)", ").shortValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").shortValue()", prop, formatter, writer);
                 break;
               case "int":
               case "Integer":
-                genPropFromJson("Number", "((Number)", ").intValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").intValue()", prop, formatter, writer);
                 break;
               case "long":
               case "Long":
-                genPropFromJson("Number", "((Number)", ").longValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").longValue()", prop, formatter, writer);
                 break;
               case "float":
               case "Float":
-                genPropFromJson("Number", "((Number)", ").floatValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").floatValue()", prop, formatter, writer);
                 break;
               case "double":
               case "Double":
-                genPropFromJson("Number", "((Number)", ").doubleValue()", prop, writer);
+                genPropFromJson("Number", "((Number)", ").doubleValue()", prop, formatter, writer);
                 break;
               case "char":
               case "Character":
-                genPropFromJson("String", "((String)", ").charAt(0)", prop, writer);
+                genPropFromJson("String", "((String)", ").charAt(0)", prop, formatter, writer);
                 break;
             }
           }
@@ -285,6 +321,7 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
                 match,
                 ")",
                 prop,
+                formatter,
                 writer
               );
 
@@ -293,24 +330,24 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
             switch (propKind) {
               case API:
                 if (prop.getType().getName().equals("io.vertx.core.buffer.Buffer")) {
-                  genPropFromJson("String", "io.vertx.core.buffer.Buffer.buffer(BASE64_DECODER.decode((String)", "))", prop, writer);
+                  genPropFromJson("String", "io.vertx.core.buffer.Buffer.buffer(BASE64_DECODER.decode((String)", "))", prop, formatter, writer);
                 }
                 break;
               case JSON_OBJECT:
-                genPropFromJson("JsonObject", "((JsonObject)", ").copy()", prop, writer);
+                genPropFromJson("JsonObject", "((JsonObject)", model.getTransferJsonOwnership() ? ")" : ").copy()", prop, formatter, writer);
                 break;
               case JSON_ARRAY:
-                genPropFromJson("JsonArray", "((JsonArray)", ").copy()", prop, writer);
+                genPropFromJson("JsonArray", "((JsonArray)", model.getTransferJsonOwnership() ? ")" : ").copy()", prop, formatter, writer);
                 break;
               case ENUM:
-                genPropFromJson("String", prop.getType().getName() + ".valueOf((String)", ")", prop, writer);
+                genPropFromJson("String", prop.getType().getName() + ".valueOf((String)", ")", prop, formatter, writer);
                 break;
               case OBJECT:
-                genPropFromJson("Object", "", "", prop, writer);
+                genPropFromJson("Object", "", "", prop, formatter, writer);
                 break;
               case OTHER:
                 if (prop.getType().getName().equals(Instant.class.getName())) {
-                  genPropFromJson("String", "Instant.from(DateTimeFormatter.ISO_INSTANT.parse((String)", "))", prop, writer);
+                  genPropFromJson("String", "Instant.from(DateTimeFormatter.ISO_INSTANT.parse((String)", "))", prop, formatter, writer);
                 }
                 break;
               default:
@@ -324,41 +361,66 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print("  }\n");
   }
 
-  private void genPropFromJson(String cast, String before, String after, PropertyInfo prop, PrintWriter writer) {
+  private void genPropFromJson(String cast, String before, String after, PropertyInfo prop, Case formatter, PrintWriter writer) {
     String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
     String indent = "        ";
     writer.print(indent + "case \"" + jsonPropertyName + "\":\n");
-    if (prop.isList() || prop.isSet()) {
-      writer.print(indent + "  if (member.getValue() instanceof JsonArray) {\n");
+    if (prop.isArray()) {
       if (prop.isSetter()) {
-        String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
-        writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list =  new " + coll + "<>();\n");
-        writer.print(indent + "    ((Iterable<Object>)member.getValue()).forEach( item -> {\n");
+        String elementType = prop.getType().getName();
+        writer.print(indent + "  if (member.getValue() instanceof JsonArray) {\n");
+        writer.print(indent + "    JsonArray array = (JsonArray) member.getValue();\n");
+        writer.print(indent + "    " + elementType + "[] values = new " + elementType + "[array.size()];\n");
+        writer.print(indent + "    int size = 0;\n");
+        writer.print(indent + "    for (int i = 0; i < values.length; i++) {\n");
+        writer.print(indent + "      Object item = array.getValue(i);\n");
         writer.print(indent + "      if (item instanceof " + cast + ")\n");
-        writer.print(indent + "        list.add(" + before + "item" + after + ");\n");
-        writer.print(indent + "    });\n");
-        writer.print(indent + "    obj." + prop.getSetterMethod() + "(list);\n");
-      } else if (prop.isAdder()) {
-        writer.print(indent + "    ((Iterable<Object>)member.getValue()).forEach( item -> {\n");
+        writer.print(indent + "        values[size++] = " + before + "item" + after + ";\n");
+        writer.print(indent + "    }\n");
+        writer.print(indent + "    obj." + prop.getSetterMethod() + "(size == values.length ? values : java.util.Arrays.copyOf(values, size));\n");
+        writer.print(indent + "  }\n");
+      }
+    } else if (prop.isList() || prop.isSet()) {
+      writer.print(indent + "  if (member.getValue() instanceof JsonArray) {\n");
+      if (prop.isSetter() || prop.isAdder()) {
+        writer.print(indent + "    JsonArray array = (JsonArray) member.getValue();\n");
+        if (prop.isSetter()) {
+          String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+          String capacity = prop.isList() ? "array.size()" : mapCapacity("array.size()");
+          writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list = new " + coll + "<>(" + capacity + ");\n");
+        }
+        writer.print(indent + "    for (int i = 0; i < array.size(); i++) {\n");
+        writer.print(indent + "      Object item = array.getValue(i);\n");
         writer.print(indent + "      if (item instanceof " + cast + ")\n");
-        writer.print(indent + "        obj." + prop.getAdderMethod() + "(" + before + "item" + after + ");\n");
-        writer.print(indent + "    });\n");
+        if (prop.isSetter()) {
+          writer.print(indent + "        list.add(" + before + "item" + after + ");\n");
+        } else {
+          writer.print(indent + "        obj." + prop.getAdderMethod() + "(" + before + "item" + after + ");\n");
+        }
+        writer.print(indent + "    }\n");
+        if (prop.isSetter()) {
+          writer.print(indent + "    obj." + prop.getSetterMethod() + "(list);\n");
+        }
       }
       writer.print(indent + "  }\n");
     } else if (prop.isMap()) {
       writer.print(indent + "  if (member.getValue() instanceof JsonObject) {\n");
-      if (prop.isAdder()) {
-        writer.print(indent + "    ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {\n");
-        writer.print(indent + "      if (entry.getValue() instanceof " + cast + ")\n");
-        writer.print(indent + "        obj." + prop.getAdderMethod() + "(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
-        writer.print(indent + "    });\n");
-      } else if (prop.isSetter()) {
-        writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>();\n");
-        writer.print(indent + "    ((Iterable<java.util.Map.Entry<String, Object>>)member.getValue()).forEach(entry -> {\n");
+      if (prop.isAdder() || prop.isSetter()) {
+        writer.print(indent + "    JsonObject object = (JsonObject) member.getValue();\n");
+        if (!prop.isAdder()) {
+          writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>(" + mapCapacity("object.size()") + ");\n");
+        }
+        writer.print(indent + "    for (java.util.Map.Entry<String, Object> entry : object) {\n");
         writer.print(indent + "      if (entry.getValue() instanceof " + cast + ")\n");
-        writer.print(indent + "        map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
-        writer.print(indent + "    });\n");
-        writer.print(indent + "    obj." + prop.getSetterMethod() + "(map);\n");
+        if (prop.isAdder()) {
+          writer.print(indent + "        obj." + prop.getAdderMethod() + "(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
+        } else {
+          writer.print(indent + "        map.put(entry.getKey(), " + before + "entry.getValue()" + after + ");\n");
+        }
+        writer.print(indent + "    }\n");
+        if (!prop.isAdder()) {
+          writer.print(indent + "    obj." + prop.getSetterMethod() + "(map);\n");
+        }
       }
       writer.print(indent + "  }\n");
     } else {
@@ -371,6 +433,631 @@ public class DataObjectJsonGen extends Generator<DataObjectModel> {
     writer.print(indent + "  break;\n");
   }
 
+  /**
+   * @return the initial capacity of a hash based collection holding {@code size} elements without rehashing
+   */
+  private static String mapCapacity(String size) {
+    return size + " * 4 / 3 + 1";
+  }
+
+  private void genStreamingToJson(String visibility, boolean inheritConverter, DataObjectModel model, Case formatter, PrintWriter writer) {
+    String simpleName = model.getType().getSimpleName();
+    writer.print("  " + visibility + " static void toJson(" + simpleName + " obj, JsonGenerator generator) throws IOException {\n");
+    writer.print("    generator.writeStartObject();\n");
+    model.getPropertyMap().values().forEach(prop -> {
+      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && prop.isJsonifiable()) {
+        ClassKind propKind = prop.getType().getKind();
+        if (propKind.basic) {
+          if (propKind == ClassKind.STRING) {
+            genStreamingPropToJson("generator.writeString(", ")", prop, formatter, writer);
+          } else {
+            switch (prop.getType().getSimpleName()) {
+              case "boolean":
+              case "Boolean":
+                genStreamingPropToJson("generator.writeBoolean(", ")", prop, formatter, writer);
+                break;
+              case "char":
+              case "Character":
+                genStreamingPropToJson("generator.writeString(Character.toString(", "))", prop, formatter, writer);
+                break;
+              default:
+                genStreamingPropToJson("generator.writeNumber(", ")", prop, formatter, writer);
+            }
+          }
+        } else {
+          DataObjectInfo dataObject = prop.getType().getDataObject();
+          if (dataObject != null) {
+            if (dataObject.isSerializable()) {
+              MapperInfo mapperInfo = dataObject.getSerializer();
+              switch (mapperInfo.getKind()) {
+                case SELF:
+                  String converter = streamingConverter(model, prop.getType());
+                  if (converter != null) {
+                    genStreamingPropToJson(converter + ".toJson(", ", generator)", prop, formatter, writer);
+                  } else {
+                    genStreamingPropToJson("writeJsonValue(", "." + String.join(".", mapperInfo.getSelectors()) + "(), generator)", prop, formatter, writer);
+                  }
+                  break;
+                case STATIC_METHOD:
+                  genStreamingPropToJson("writeJsonValue(" + mapperInfo.getQualifiedName() + "." + String.join(".", mapperInfo.getSelectors()) + "(", "), generator)", prop, formatter, writer);
+                  break;
+                default:
+                  throw new UnsupportedOperationException();
+              }
+            }
+          } else {
+            switch (propKind) {
+              case API:
+                if (prop.getType().getName().equals("io.vertx.core.buffer.Buffer")) {
+                  genStreamingPropToJson("generator.writeString(BASE64_ENCODER.encodeToString(", ".getBytes()))", prop, formatter, writer);
+                }
+                break;
+              case ENUM:
+                genStreamingPropToJson("generator.writeString(", ".name())", prop, formatter, writer);
+                break;
+              case JSON_OBJECT:
+              case JSON_ARRAY:
+              case OBJECT:
+                genStreamingPropToJson("writeJsonValue(", ", generator)", prop, formatter, writer);
+                break;
+              case OTHER:
+                if (prop.getType().getName().equals(Instant.class.getName())) {
+                  genStreamingPropToJson("generator.writeString(DateTimeFormatter.ISO_INSTANT.format(", "))", prop, formatter, writer);
+                }
+                break;
+            }
+          }
+        }
+      }
+    });
+    writer.print("    generator.writeEndObject();\n");
+    writer.print("  }\n");
+  }
+
+  private void genStreamingPropToJson(String before, String after, PropertyInfo prop, Case formatter, PrintWriter writer) {
+    String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+    String indent = "    ";
+    if (prop.isArray()) {
+      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
+      writer.print(indent + "  generator.writeArrayFieldStart(\"" + jsonPropertyName + "\");\n");
+      writer.print(indent + "  for (" + prop.getType().getName() + " item : obj." + prop.getGetterMethod() + "()) {\n");
+      writer.print(indent + "    " + before + "item" + after + ";\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  generator.writeEndArray();\n");
+      writer.print(indent + "}\n");
+    } else if (prop.isList() || prop.isSet()) {
+      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
+      writer.print(indent + "  generator.writeArrayFieldStart(\"" + jsonPropertyName + "\");\n");
+      writer.print(indent + "  for (" + prop.getType().getName() + " item : obj." + prop.getGetterMethod() + "()) {\n");
+      writer.print(indent + "    if (item != null) {\n");
+      writer.print(indent + "      " + before + "item" + after + ";\n");
+      writer.print(indent + "    } else {\n");
+      writer.print(indent + "      generator.writeNull();\n");
+      writer.print(indent + "    }\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  generator.writeEndArray();\n");
+      writer.print(indent + "}\n");
+    } else if (prop.isMap()) {
+      writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
+      writer.print(indent + "  generator.writeObjectFieldStart(\"" + jsonPropertyName + "\");\n");
+      writer.print(indent + "  for (java.util.Map.Entry<String, " + prop.getType().getName() + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
+      writer.print(indent + "    generator.writeFieldName(entry.getKey());\n");
+      writer.print(indent + "    if (entry.getValue() != null) {\n");
+      writer.print(indent + "      " + before + "entry.getValue()" + after + ";\n");
+      writer.print(indent + "    } else {\n");
+      writer.print(indent + "      generator.writeNull();\n");
+      writer.print(indent + "    }\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  generator.writeEndObject();\n");
+      writer.print(indent + "}\n");
+    } else {
+      String sp = "";
+      if (prop.getType().getKind() != ClassKind.PRIMITIVE) {
+        sp = "  ";
+        writer.print(indent + "if (obj." + prop.getGetterMethod() + "() != null) {\n");
+      }
+      writer.print(indent + sp + "generator.writeFieldName(\"" + jsonPropertyName + "\");\n");
+      writer.print(indent + sp + before + "obj." + prop.getGetterMethod() + "()" + after + ";\n");
+      if (prop.getType().getKind() != ClassKind.PRIMITIVE) {
+        writer.print(indent + "}\n");
+      }
+    }
+  }
+
+  private void genStreamingFromJson(String visibility, boolean inheritConverter, DataObjectModel model, Case formatter, PrintWriter writer) {
+    writer.print("  " + visibility + " static void fromJson(JsonParser parser, " + model.getType().getSimpleName() + " obj) throws IOException {\n");
+    writer.print("    if (parser.currentToken() == null) {\n");
+    writer.print("      parser.nextToken();\n");
+    writer.print("    }\n");
+    writer.print("    if (parser.currentToken() != JsonToken.START_OBJECT) {\n");
+    writer.print("      throw new IllegalStateException(\"Expected a JSON object instead of \" + parser.currentToken());\n");
+    writer.print("    }\n");
+    writer.print("    while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+    writer.print("      String name = parser.currentName();\n");
+    writer.print("      JsonToken token = parser.nextToken();\n");
+    writer.print("      switch (name) {\n");
+    model.getPropertyMap().values().forEach(prop -> {
+      if (prop.isDeclared() || inheritConverter) {
+        TypeInfo type = prop.getType();
+        ClassKind propKind = type.getKind();
+        if (propKind.basic || propKind.json || propKind == ClassKind.OBJECT) {
+          String check = streamingTokenCheck(type);
+          if (check != null) {
+            genStreamingPropFromJson(check, streamingReadValue(type), prop, formatter, writer);
+          }
+        } else {
+          DataObjectInfo dataObject = type.getDataObject();
+          if (dataObject != null) {
+            String converter = streamingConverter(model, type);
+            if (dataObject.isDeserializable() && dataObject.getDeserializer().getKind() == MapperKind.SELF && converter != null && dataObject.hasEmptyConstructor()) {
+              genStreamingPropFromJson("token == JsonToken.START_OBJECT", converter + ".fromJson(parser)", prop, formatter, writer);
+            } else if (dataObject.isDeserializable()) {
+              MapperInfo mapper = dataObject.getDeserializer();
+              TypeInfo jsonType = mapper.getJsonType();
+              String check = streamingTokenCheck(jsonType);
+              if (check != null) {
+                String value = "(" + jsonType.getSimpleName() + ") " + streamingReadValue(jsonType);
+                switch (mapper.getKind()) {
+                  case SELF:
+                    genStreamingPropFromJson(check, "new " + type.getName() + "(" + value + ")", prop, formatter, writer);
+                    break;
+                  case STATIC_METHOD:
+                    genStreamingPropFromJson(check, mapper.getQualifiedName() + "." + String.join(".", mapper.getSelectors()) + "(" + value + ")", prop, formatter, writer);
+                    break;
+                  default:
+                    throw new AssertionError();
+                }
+              }
+            }
+          } else {
+            switch (propKind) {
+              case API:
+                if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+                  genStreamingPropFromJson("token == JsonToken.VALUE_STRING", "io.vertx.core.buffer.Buffer.buffer(BASE64_DECODER.decode(parser.getText()))", prop, formatter, writer);
+                }
+                break;
+              case ENUM:
+                genStreamingPropFromJson("token == JsonToken.VALUE_STRING", type.getName() + ".valueOf(parser.getText())", prop, formatter, writer);
+                break;
+              case OTHER:
+                if (type.getName().equals(Instant.class.getName())) {
+                  genStreamingPropFromJson("token == JsonToken.VALUE_STRING", "Instant.from(DateTimeFormatter.ISO_INSTANT.parse(parser.getText()))", prop, formatter, writer);
+                }
+                break;
+              default:
+            }
+          }
+        }
+      }
+    });
+    writer.print("      }\n");
+    writer.print("      // Skip the value when it was not consumed\n");
+    writer.print("      parser.skipChildren();\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    if (model.isConcrete() && model.hasEmptyConstructor()) {
+      String simpleName = model.getType().getSimpleName();
+      writer.print("\n");
+      writer.print("  " + visibility + " static " + simpleName + " fromJson(JsonParser parser) throws IOException {\n");
+      writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+      writer.print("    fromJson(parser, obj);\n");
+      writer.print("    return obj;\n");
+      writer.print("  }\n");
+    }
+  }
+
+  private void genStreamingPropFromJson(String check, String value, PropertyInfo prop, Case formatter, PrintWriter writer) {
+    String jsonPropertyName = LowerCamelCase.INSTANCE.to(formatter, prop.getName());
+    String indent = "        ";
+    writer.print(indent + "case \"" + jsonPropertyName + "\":\n");
+    if (prop.isArray()) {
+      if (prop.isSetter()) {
+        String elementType = prop.getType().getName();
+        writer.print(indent + "  if (token == JsonToken.START_ARRAY) {\n");
+        writer.print(indent + "    " + elementType + "[] array = new " + elementType + "[16];\n");
+        writer.print(indent + "    int size = 0;\n");
+        writer.print(indent + "    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {\n");
+        writer.print(indent + "      if (" + check + ") {\n");
+        writer.print(indent + "        if (size == array.length) {\n");
+        writer.print(indent + "          array = java.util.Arrays.copyOf(array, size * 2);\n");
+        writer.print(indent + "        }\n");
+        writer.print(indent + "        array[size++] = " + value + ";\n");
+        writer.print(indent + "      } else {\n");
+        writer.print(indent + "        parser.skipChildren();\n");
+        writer.print(indent + "      }\n");
+        writer.print(indent + "    }\n");
+        writer.print(indent + "    obj." + prop.getSetterMethod() + "(size == array.length ? array : java.util.Arrays.copyOf(array, size));\n");
+        writer.print(indent + "  }\n");
+      }
+    } else if (prop.isList() || prop.isSet()) {
+      if (prop.isSetter() || prop.isAdder()) {
+        writer.print(indent + "  if (token == JsonToken.START_ARRAY) {\n");
+        if (prop.isSetter()) {
+          String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+          writer.print(indent + "    " + coll + "<" + prop.getType().getName() + "> list = new " + coll + "<>();\n");
+        }
+        writer.print(indent + "    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {\n");
+        writer.print(indent + "      if (" + check + ") {\n");
+        if (prop.isSetter()) {
+          writer.print(indent + "        list.add(" + value + ");\n");
+        } else {
+          writer.print(indent + "        obj." + prop.getAdderMethod() + "(" + value + ");\n");
+        }
+        writer.print(indent + "      } else {\n");
+        writer.print(indent + "        parser.skipChildren();\n");
+        writer.print(indent + "      }\n");
+        writer.print(indent + "    }\n");
+        if (prop.isSetter()) {
+          writer.print(indent + "    obj." + prop.getSetterMethod() + "(list);\n");
+        }
+        writer.print(indent + "  }\n");
+      }
+    } else if (prop.isMap()) {
+      if (prop.isSetter() || prop.isAdder()) {
+        writer.print(indent + "  if (token == JsonToken.START_OBJECT) {\n");
+        if (!prop.isAdder()) {
+          writer.print(indent + "    java.util.Map<String, " + prop.getType().getName() + "> map = new java.util.LinkedHashMap<>();\n");
+        }
+        writer.print(indent + "    while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+        writer.print(indent + "      String key = parser.currentName();\n");
+        writer.print(indent + "      token = parser.nextToken();\n");
+        writer.print(indent + "      if (" + check + ") {\n");
+        if (prop.isAdder()) {
+          writer.print(indent + "        obj." + prop.getAdderMethod() + "(key, " + value + ");\n");
+        } else {
+          writer.print(indent + "        map.put(key, " + value + ");\n");
+        }
+        writer.print(indent + "      } else {\n");
+        writer.print(indent + "        parser.skipChildren();\n");
+        writer.print(indent + "      }\n");
+        writer.print(indent + "    }\n");
+        if (!prop.isAdder()) {
+          writer.print(indent + "    obj." + prop.getSetterMethod() + "(map);\n");
+        }
+        writer.print(indent + "  }\n");
+      }
+    } else {
+      if (prop.isSetter()) {
+        writer.print(indent + "  if (" + check + ") {\n");
+        writer.print(indent + "    obj." + prop.getSetterMethod() + "(" + value + ");\n");
+        writer.print(indent + "  }\n");
+      }
+    }
+    writer.print(indent + "  break;\n");
+  }
+
+  /**
+   * @return the converter streaming the values of the data object {@code type} or {@code null} when they are converted
+   *         through their JSON representation
+   */
+  private static String streamingConverter(DataObjectModel model, TypeInfo type) {
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject.isAnnotated() && dataObject.hasStreamingConverter() &&
+      (dataObject.isPublicConverter() || ((ClassTypeInfo) type).getPackageName().equals(model.getType().getPackageName()))) {
+      return type.getName() + "Converter";
+    }
+    return null;
+  }
+
+  /**
+   * @return the condition on the current {@code token} that must hold to read a value of the given {@code type}
+   * or {@code null} when the type cannot be read from the parser
+   */
+  private static String streamingTokenCheck(TypeInfo type) {
+    switch (type.getKind()) {
+      case STRING:
+        return "token == JsonToken.VALUE_STRING";
+      case JSON_OBJECT:
+        return "token == JsonToken.START_OBJECT";
+      case JSON_ARRAY:
+        return "token == JsonToken.START_ARRAY";
+      case OBJECT:
+        return "token != JsonToken.VALUE_NULL";
+      case PRIMITIVE:
+      case BOXED_PRIMITIVE:
+        switch (type.getSimpleName()) {
+          case "boolean":
+          case "Boolean":
+            return "token.isBoolean()";
+          case "char":
+          case "Character":
+            return "token == JsonToken.VALUE_STRING";
+          default:
+            return "token.isNumeric()";
+        }
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return the expression reading a value of the given {@code type} from the parser current token
+   */
+  private static String streamingReadValue(TypeInfo type) {
+    switch (type.getKind()) {
+      case STRING:
+        return "parser.getText()";
+      case JSON_OBJECT:
+        return "(JsonObject) readJsonValue(parser)";
+      case JSON_ARRAY:
+        return "(JsonArray) readJsonValue(parser)";
+      case OBJECT:
+        return "readJsonValue(parser)";
+      default:
+        switch (type.getSimpleName()) {
+          case "boolean":
+          case "Boolean":
+            return "parser.getBooleanValue()";
+          case "byte":
+          case "Byte":
+            return "(byte) parser.getIntValue()";
+          case "short":
+          case "Short":
+            return "(short) parser.getIntValue()";
+          case "int":
+          case "Integer":
+            return "parser.getIntValue()";
+          case "long":
+          case "Long":
+            return "parser.getLongValue()";
+          case "float":
+          case "Float":
+            return "parser.getFloatValue()";
+          case "double":
+          case "Double":
+            return "parser.getDoubleValue()";
+          case "char":
+          case "Character":
+            return "parser.getText().charAt(0)";
+          default:
+            throw new UnsupportedOperationException("Unsupported type " + type.getName());
+        }
+    }
+  }
+
+  private void genCopy(String visibility, boolean inheritConverter, DataObjectModel model, PrintWriter writer) {
+    String simpleName = model.getType().getSimpleName();
+    boolean copyValue = false;
+    writer.print("  " + visibility + " static void copy(" + simpleName + " src, " + simpleName + " dst) {\n");
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if ((prop.isDeclared() || inheritConverter) && prop.getGetterMethod() != null && (prop.isSetter() || prop.isAdder())) {
+        String getter = "src." + prop.getGetterMethod() + "()";
+        String type = prop.getType().getName();
+        copyValue |= prop.getType().getKind() == ClassKind.OBJECT;
+        // collections and arrays are read once in a local
+        String value = prop.getName() + "Value";
+        if (prop.isArray()) {
+          if (prop.isSetter()) {
+            String item = copyExpression(model, prop, "array[i]");
+            writer.print("    " + type + "[] " + value + " = " + getter + ";\n");
+            writer.print("    if (" + value + " != null) {\n");
+            writer.print("      " + type + "[] array = " + value + ".clone();\n");
+            if (item != null) {
+              writer.print("      for (int i = 0; i < array.length; i++) {\n");
+              writer.print("        if (array[i] != null) {\n");
+              writer.print("          array[i] = " + item + ";\n");
+              writer.print("        }\n");
+              writer.print("      }\n");
+            }
+            writer.print("      dst." + prop.getSetterMethod() + "(array);\n");
+            writer.print("    } else {\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(null);\n");
+            writer.print("    }\n");
+          }
+        } else if (prop.isList() || prop.isSet()) {
+          String item = nullSafe(copyExpression(model, prop, "item"), "item");
+          writer.print("    " + (prop.isList() ? "java.util.List" : "java.util.Set") + "<" + type + "> " + value + " = " + getter + ";\n");
+          writer.print("    if (" + value + " != null) {\n");
+          if (prop.isSetter()) {
+            String coll = prop.isList() ? "java.util.ArrayList" : "java.util.LinkedHashSet";
+            String capacity = prop.isList() ? value + ".size()" : mapCapacity(value + ".size()");
+            writer.print("      " + coll + "<" + type + "> collection = new " + coll + "<>(" + capacity + ");\n");
+            writer.print("      for (" + type + " item : " + value + ") {\n");
+            writer.print("        collection.add(" + item + ");\n");
+            writer.print("      }\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(collection);\n");
+            writer.print("    } else {\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(null);\n");
+          } else {
+            writer.print("      for (" + type + " item : " + value + ") {\n");
+            writer.print("        dst." + prop.getAdderMethod() + "(" + item + ");\n");
+            writer.print("      }\n");
+          }
+          writer.print("    }\n");
+        } else if (prop.isMap()) {
+          String entryValue = nullSafe(copyExpression(model, prop, "entry.getValue()"), "entry.getValue()");
+          writer.print("    java.util.Map<String, " + type + "> " + value + " = " + getter + ";\n");
+          writer.print("    if (" + value + " != null) {\n");
+          if (prop.isSetter()) {
+            writer.print("      java.util.LinkedHashMap<String, " + type + "> map = new java.util.LinkedHashMap<>(" + mapCapacity(value + ".size()") + ");\n");
+            writer.print("      for (java.util.Map.Entry<String, " + type + "> entry : " + value + ".entrySet()) {\n");
+            writer.print("        map.put(entry.getKey(), " + entryValue + ");\n");
+            writer.print("      }\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(map);\n");
+            writer.print("    } else {\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(null);\n");
+          } else {
+            writer.print("      for (java.util.Map.Entry<String, " + type + "> entry : " + value + ".entrySet()) {\n");
+            writer.print("        dst." + prop.getAdderMethod() + "(entry.getKey(), " + entryValue + ");\n");
+            writer.print("      }\n");
+          }
+          writer.print("    }\n");
+        } else if (prop.isSetter()) {
+          String copy = copyExpression(model, prop, getter);
+          if (copy == null) {
+            writer.print("    dst." + prop.getSetterMethod() + "(" + getter + ");\n");
+          } else {
+            writer.print("    if (" + getter + " != null) {\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(" + copy + ");\n");
+            writer.print("    } else {\n");
+            writer.print("      dst." + prop.getSetterMethod() + "(null);\n");
+            writer.print("    }\n");
+          }
+        }
+      }
+    }
+    writer.print("  }\n");
+    if (model.isConcrete() && model.hasEmptyConstructor()) {
+      writer.print("\n");
+      writer.print("  " + visibility + " static " + simpleName + " copy(" + simpleName + " src) {\n");
+      writer.print("    " + simpleName + " dst = new " + simpleName + "();\n");
+      writer.print("    copy(src, dst);\n");
+      writer.print("    return dst;\n");
+      writer.print("  }\n");
+    }
+    if (copyValue) {
+      writer.print("\n");
+      writer.print("  private static Object copyValue(Object value) {\n");
+      writer.print("    if (value instanceof JsonObject) {\n");
+      writer.print("      return ((JsonObject) value).copy();\n");
+      writer.print("    } else if (value instanceof JsonArray) {\n");
+      writer.print("      return ((JsonArray) value).copy();\n");
+      writer.print("    }\n");
+      writer.print("    return value;\n");
+      writer.print("  }\n");
+    }
+  }
+
+  private static String nullSafe(String copy, String value) {
+    return copy != null ? value + " != null ? " + copy + " : null" : value;
+  }
+
+  /**
+   * @return the expression copying the non null {@code value} of the type of the property or {@code null} when the
+   *         value is immutable and can be shared
+   */
+  private static String copyExpression(DataObjectModel model, PropertyInfo prop, String value) {
+    TypeInfo type = prop.getType();
+    DataObjectInfo dataObject = type.getDataObject();
+    if (dataObject != null && type.getKind() != ClassKind.ENUM) {
+      if (dataObject.isAnnotated() && dataObject.hasCopyConverter() &&
+        (dataObject.isPublicConverter() || ((ClassTypeInfo) type).getPackageName().equals(model.getType().getPackageName()))) {
+        return type.getName() + "Converter.copy(" + value + ")";
+      }
+      // Round trip through the JSON representation
+      MapperInfo serializer = dataObject.getSerializer();
+      MapperInfo deserializer = dataObject.getDeserializer();
+      if (serializer == null || deserializer == null || !serializer.getJsonType().getName().equals(deserializer.getJsonType().getName())) {
+        throw new GenException(model.getElement(), "Cannot copy property " + prop.getName() + " of type " + type.getName() +
+          ", the data object must declare a copy converter or be converted to and from the same JSON type");
+      }
+      String json;
+      if (serializer.getKind() == MapperKind.SELF) {
+        json = value + "." + String.join(".", serializer.getSelectors()) + "()";
+      } else {
+        json = serializer.getQualifiedName() + "." + String.join(".", serializer.getSelectors()) + "(" + value + ")";
+      }
+      if (deserializer.getKind() == MapperKind.SELF) {
+        return "new " + type.getName() + "(" + json + ")";
+      } else {
+        return deserializer.getQualifiedName() + "." + String.join(".", deserializer.getSelectors()) + "(" + json + ")";
+      }
+    }
+    switch (type.getKind()) {
+      case JSON_OBJECT:
+      case JSON_ARRAY:
+        return value + ".copy()";
+      case OBJECT:
+        return "copyValue(" + value + ")";
+      default:
+        if (type.getName().equals("io.vertx.core.buffer.Buffer")) {
+          return value + ".copy()";
+        }
+        // Basic types, enums, Instant...
+        return null;
+    }
+  }
+
+  private void genStreamingHelpers(PrintWriter writer) {
+    writer.print("  private static Object readJsonValue(JsonParser parser) throws IOException {\n");
+    writer.print("    JsonToken token = parser.currentToken();\n");
+    writer.print("    switch (token) {\n");
+    writer.print("      case START_OBJECT: {\n");
+    writer.print("        JsonObject object = new JsonObject();\n");
+    writer.print("        while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+    writer.print("          String name = parser.currentName();\n");
+    writer.print("          parser.nextToken();\n");
+    writer.print("          object.put(name, readJsonValue(parser));\n");
+    writer.print("        }\n");
+    writer.print("        return object;\n");
+    writer.print("      }\n");
+    writer.print("      case START_ARRAY: {\n");
+    writer.print("        JsonArray array = new JsonArray();\n");
+    writer.print("        while (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+    writer.print("          array.add(readJsonValue(parser));\n");
+    writer.print("        }\n");
+    writer.print("        return array;\n");
+    writer.print("      }\n");
+    writer.print("      case VALUE_STRING:\n");
+    writer.print("        return parser.getText();\n");
+    writer.print("      case VALUE_NUMBER_INT:\n");
+    writer.print("      case VALUE_NUMBER_FLOAT:\n");
+    writer.print("        return parser.getNumberValue();\n");
+    writer.print("      case VALUE_TRUE:\n");
+    writer.print("        return Boolean.TRUE;\n");
+    writer.print("      case VALUE_FALSE:\n");
+    writer.print("        return Boolean.FALSE;\n");
+    writer.print("      case VALUE_NULL:\n");
+    writer.print("        return null;\n");
+    writer.print("      default:\n");
+    writer.print("        throw new IllegalStateException(\"Unexpected token \" + token);\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @SuppressWarnings(\"unchecked\")\n");
+    writer.print("  private static void writeJsonValue(Object value, JsonGenerator generator) throws IOException {\n");
+    writer.print("    if (value == null) {\n");
+    writer.print("      generator.writeNull();\n");
+    writer.print("    } else if (value instanceof String) {\n");
+    writer.print("      generator.writeString((String) value);\n");
+    writer.print("    } else if (value instanceof Boolean) {\n");
+    writer.print("      generator.writeBoolean((Boolean) value);\n");
+    writer.print("    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {\n");
+    writer.print("      generator.writeNumber(((Number) value).intValue());\n");
+    writer.print("    } else if (value instanceof Long) {\n");
+    writer.print("      generator.writeNumber((Long) value);\n");
+    writer.print("    } else if (value instanceof Double) {\n");
+    writer.print("      generator.writeNumber((Double) value);\n");
+    writer.print("    } else if (value instanceof Float) {\n");
+    writer.print("      generator.writeNumber((Float) value);\n");
+    writer.print("    } else if (value instanceof java.math.BigInteger) {\n");
+    writer.print("      generator.writeNumber((java.math.BigInteger) value);\n");
+    writer.print("    } else if (value instanceof java.math.BigDecimal) {\n");
+    writer.print("      generator.writeNumber((java.math.BigDecimal) value);\n");
+    writer.print("    } else if (value instanceof JsonObject) {\n");
+    writer.print("      generator.writeStartObject();\n");
+    writer.print("      for (java.util.Map.Entry<String, Object> entry : (JsonObject) value) {\n");
+    writer.print("        generator.writeFieldName(entry.getKey());\n");
+    writer.print("        writeJsonValue(entry.getValue(), generator);\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndObject();\n");
+    writer.print("    } else if (value instanceof java.util.Map) {\n");
+    writer.print("      generator.writeStartObject();\n");
+    writer.print("      for (java.util.Map.Entry<String, Object> entry : ((java.util.Map<String, Object>) value).entrySet()) {\n");
+    writer.print("        generator.writeFieldName(entry.getKey());\n");
+    writer.print("        writeJsonValue(entry.getValue(), generator);\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndObject();\n");
+    writer.print("    } else if (value instanceof Iterable) {\n");
+    writer.print("      generator.writeStartArray();\n");
+    writer.print("      for (Object item : (Iterable<Object>) value) {\n");
+    writer.print("        writeJsonValue(item, generator);\n");
+    writer.print("      }\n");
+    writer.print("      generator.writeEndArray();\n");
+    writer.print("    } else if (value instanceof Instant) {\n");
+    writer.print("      generator.writeString(DateTimeFormatter.ISO_INSTANT.format((Instant) value));\n");
+    writer.print("    } else if (value instanceof byte[]) {\n");
+    writer.print("      generator.writeString(BASE64_ENCODER.encodeToString((byte[]) value));\n");
+    writer.print("    } else if (value instanceof io.vertx.core.buffer.Buffer) {\n");
+    writer.print("      generator.writeString(BASE64_ENCODER.encodeToString(((io.vertx.core.buffer.Buffer) value).getBytes()));\n");
+    writer.print("    } else if (value instanceof Enum) {\n");
+    writer.print("      generator.writeString(((Enum<?>) value).name());\n");
+    writer.print("    } else {\n");
+    writer.print("      throw new IllegalStateException(\"Unsupported type \" + value.getClass().getName());\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+  }
+
   private Case getCase(DataObjectModel model) {
     AnnotationValueInfo abc = model
       .getAnnotations()
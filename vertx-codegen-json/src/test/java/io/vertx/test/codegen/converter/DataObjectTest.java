@@ -11,6 +11,9 @@
 
 package io.vertx.test.codegen.converter;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -20,6 +23,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.*;
 
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -900,4 +904,224 @@ public class DataObjectTest {
     // parse should fail
     TestDataObjectBase64URLConverter.fromJson(expected, obj);
   }
+
+  @Test
+  public void testStreamingToJson() throws Exception {
+    TestDataObjectStreaming obj = new TestDataObjectStreaming()
+      .setStringValue("the-string")
+      .setIntValue(4)
+      .setBoxedLongValue(5L)
+      .setBooleanValue(true)
+      .setDoubleValue(1.5D)
+      .setEnumValue(TimeUnit.SECONDS)
+      .setBufferValue(Buffer.buffer("<<???>>".getBytes(StandardCharsets.UTF_8)))
+      .setJsonObjectValue(new JsonObject().put("foo", "bar").put("nested", new JsonArray().add(1).add("two")))
+      .setDataObjectValue(new NestedJsonObjectDataObject().setValue("the-nested"))
+      .setStringValues(Arrays.asList("a", null, "c"))
+      .setIntegerValueMap(Collections.singletonMap("one", 1));
+    StringWriter buffer = new StringWriter();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(buffer)) {
+      TestDataObjectStreamingConverter.toJson(obj, generator);
+    }
+    TestDataObjectStreaming copy = new TestDataObjectStreaming();
+    try (JsonParser parser = new JsonFactory().createParser(buffer.toString())) {
+      TestDataObjectStreamingConverter.fromJson(parser, copy);
+    }
+    assertEquals(obj.toJson(), copy.toJson());
+  }
+
+  @Test
+  public void testStreamingNestedDataObjects() throws Exception {
+    TestDataObjectStreaming obj = new TestDataObjectStreaming()
+      .setStreamingDataObjectValue(new NestedStreamingDataObject().setValue("the-nested").setCount(1))
+      .setStreamingDataObjectValues(Arrays.asList(new NestedStreamingDataObject().setValue("first").setCount(2), null))
+      .setStreamingDataObjectValueMap(Collections.singletonMap("key", new NestedStreamingDataObject().setValue("the-value").setCount(3)));
+    StringWriter buffer = new StringWriter();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(buffer)) {
+      TestDataObjectStreamingConverter.toJson(obj, generator);
+    }
+    JsonObject json = new JsonObject(buffer.toString());
+    assertEquals(new JsonObject().put("value", "the-nested").put("count", 1), json.getJsonObject("streamingDataObjectValue"));
+    assertEquals(new JsonArray().add(new JsonObject().put("value", "first").put("count", 2)).addNull(), json.getJsonArray("streamingDataObjectValues"));
+    assertEquals(new JsonObject().put("key", new JsonObject().put("value", "the-value").put("count", 3)), json.getJsonObject("streamingDataObjectValueMap"));
+    TestDataObjectStreaming copy;
+    try (JsonParser parser = new JsonFactory().createParser(buffer.toString())) {
+      copy = TestDataObjectStreamingConverter.fromJson(parser);
+      assertNull(parser.nextToken());
+    }
+    assertEquals(obj.getStreamingDataObjectValue(), copy.getStreamingDataObjectValue());
+    assertEquals(Collections.singletonList(obj.getStreamingDataObjectValues().get(0)), copy.getStreamingDataObjectValues());
+    assertEquals(obj.getStreamingDataObjectValueMap(), copy.getStreamingDataObjectValueMap());
+  }
+
+  @Test
+  public void testStreamingFromJson() throws Exception {
+    String json = "{" +
+      "\"stringValue\":\"the-string\"," +
+      "\"unknown\":{\"skipped\":[1,2,{\"stringValue\":\"skipped\"}]}," +
+      "\"intValue\":4," +
+      "\"boxedLongValue\":5," +
+      "\"booleanValue\":true," +
+      "\"doubleValue\":1.5," +
+      "\"enumValue\":\"SECONDS\"," +
+      "\"bufferValue\":\"" + JsonUtil.BASE64_ENCODER.encodeToString("<<???>>".getBytes(StandardCharsets.UTF_8)) + "\"," +
+      "\"jsonObjectValue\":{\"foo\":\"bar\",\"nested\":[1,\"two\"]}," +
+      "\"dataObjectValue\":{\"value\":\"the-nested\"}," +
+      "\"stringValues\":[\"a\",3,\"c\"]," +
+      "\"integerValueMap\":{\"one\":1}" +
+      "}";
+    TestDataObjectStreaming obj = new TestDataObjectStreaming();
+    try (JsonParser parser = new JsonFactory().createParser(json)) {
+      TestDataObjectStreamingConverter.fromJson(parser, obj);
+      assertNull(parser.nextToken());
+    }
+    assertEquals("the-string", obj.getStringValue());
+    assertEquals(4, obj.getIntValue());
+    assertEquals(Long.valueOf(5L), obj.getBoxedLongValue());
+    assertTrue(obj.isBooleanValue());
+    assertEquals(1.5D, obj.getDoubleValue(), 0D);
+    assertEquals(TimeUnit.SECONDS, obj.getEnumValue());
+    assertEquals(Buffer.buffer("<<???>>".getBytes(StandardCharsets.UTF_8)), obj.getBufferValue());
+    assertEquals(new JsonObject().put("foo", "bar").put("nested", new JsonArray().add(1).add("two")), obj.getJsonObjectValue());
+    assertEquals(new NestedJsonObjectDataObject().setValue("the-nested"), obj.getDataObjectValue());
+    assertEquals(Arrays.asList("a", "c"), obj.getStringValues());
+    assertEquals(Collections.singletonMap("one", 1), obj.getIntegerValueMap());
+  }
+
+  @Test
+  public void testArraysToJson() {
+    TestDataObjectArrays obj = new TestDataObjectArrays()
+      .setIntValues(new int[] { 1, -2, 3 })
+      .setLongValues(new long[] { Long.MAX_VALUE })
+      .setDoubleValues(new double[0]);
+    JsonObject json = obj.toJson();
+    assertEquals(new JsonArray().add(1).add(-2).add(3), json.getJsonArray("intValues"));
+    assertEquals(new JsonArray().add(Long.MAX_VALUE), json.getJsonArray("longValues"));
+    assertEquals(new JsonArray(), json.getJsonArray("doubleValues"));
+    assertFalse(new TestDataObjectArrays().toJson().containsKey("intValues"));
+  }
+
+  @Test
+  public void testArraysFromJson() {
+    TestDataObjectArrays obj = new TestDataObjectArrays(new JsonObject()
+      .put("intValues", new JsonArray().add(1).add("two").add(3))
+      .put("longValues", new JsonArray().add(4).add(Long.MAX_VALUE))
+      .put("doubleValues", new JsonArray().add(0.5D).add(2)));
+    assertArrayEquals(new int[] { 1, 3 }, obj.getIntValues());
+    assertArrayEquals(new long[] { 4L, Long.MAX_VALUE }, obj.getLongValues());
+    assertArrayEquals(new double[] { 0.5D, 2D }, obj.getDoubleValues(), 0D);
+  }
+
+  @Test
+  public void testStreamingArrays() throws Exception {
+    int[] intValues = new int[40];
+    for (int i = 0; i < intValues.length; i++) {
+      intValues[i] = i * 7;
+    }
+    TestDataObjectArrays obj = new TestDataObjectArrays()
+      .setIntValues(intValues)
+      .setLongValues(new long[] { 1L, Long.MIN_VALUE })
+      .setDoubleValues(new double[] { 0.25D });
+    StringWriter buffer = new StringWriter();
+    try (JsonGenerator generator = new JsonFactory().createGenerator(buffer)) {
+      TestDataObjectArraysConverter.toJson(obj, generator);
+    }
+    TestDataObjectArrays copy = new TestDataObjectArrays();
+    try (JsonParser parser = new JsonFactory().createParser(buffer.toString())) {
+      TestDataObjectArraysConverter.fromJson(parser, copy);
+    }
+    assertArrayEquals(obj.getIntValues(), copy.getIntValues());
+    assertArrayEquals(obj.getLongValues(), copy.getLongValues());
+    assertArrayEquals(obj.getDoubleValues(), copy.getDoubleValues(), 0D);
+    copy = new TestDataObjectArrays();
+    try (JsonParser parser = new JsonFactory().createParser("{\"intValues\":[1,\"two\",[3],4]}")) {
+      TestDataObjectArraysConverter.fromJson(parser, copy);
+    }
+    assertArrayEquals(new int[] { 1, 4 }, copy.getIntValues());
+  }
+
+  @Test
+  public void testCopy() {
+    JsonObject json = new JsonObject().put("foo", "bar");
+    TestDataObjectCopy obj = new TestDataObjectCopy()
+      .setStringValue("the-string")
+      .setIntValue(4)
+      .setEnumValue(TimeUnit.SECONDS)
+      .setBufferValue(Buffer.buffer("the-buffer"))
+      .setJsonObjectValue(json)
+      .setJsonArrayValue(new JsonArray().add(1).add(new JsonObject().put("nested", true)))
+      .setObjectValue(new JsonObject().put("object", 1))
+      .setDataObjectValue(new NestedCopyDataObject().setValue("the-nested").setJsonObjectValue(json))
+      .setJsonDataObjectValue(new NestedJsonObjectDataObject().setValue("the-json-nested"))
+      .setIntValues(new int[] { 1, 2, 3 })
+      .setDataObjectValues(Arrays.asList(new NestedCopyDataObject().setValue("first"), null))
+      .setStringSet(new LinkedHashSet<>(Arrays.asList("a", "b")))
+      .setJsonObjectMap(Collections.singletonMap("key", json))
+      .addAddedValue("added");
+    TestDataObjectCopy copy = TestDataObjectCopyConverter.copy(obj);
+    assertEquals(obj.toJson(), copy.toJson());
+    assertEquals(TimeUnit.SECONDS, copy.getEnumValue());
+    assertEquals(Arrays.asList("added"), copy.getAddedValues());
+    assertNotSame(obj.getBufferValue(), copy.getBufferValue());
+    assertNotSame(obj.getJsonObjectValue(), copy.getJsonObjectValue());
+    assertNotSame(obj.getJsonArrayValue().getJsonObject(1), copy.getJsonArrayValue().getJsonObject(1));
+    assertNotSame(obj.getObjectValue(), copy.getObjectValue());
+    assertNotSame(obj.getDataObjectValue(), copy.getDataObjectValue());
+    assertNotSame(obj.getDataObjectValue().getJsonObjectValue(), copy.getDataObjectValue().getJsonObjectValue());
+    // Without copy converter a data object is copied through its JSON representation
+    assertNotSame(obj.getJsonDataObjectValue(), copy.getJsonDataObjectValue());
+    assertEquals("the-json-nested", copy.getJsonDataObjectValue().getValue());
+    assertNotSame(obj.getIntValues(), copy.getIntValues());
+    assertNotSame(obj.getDataObjectValues().get(0), copy.getDataObjectValues().get(0));
+    assertNull(copy.getDataObjectValues().get(1));
+    assertNotSame(obj.getJsonObjectMap().get("key"), copy.getJsonObjectMap().get("key"));
+
+    // Mutating the copy leaves the source untouched
+    copy.getJsonObjectValue().put("foo", "baz");
+    copy.getDataObjectValue().setValue("changed");
+    copy.getStringSet().add("c");
+    copy.getIntValues()[0] = 10;
+    assertEquals("bar", obj.getJsonObjectValue().getString("foo"));
+    assertEquals("the-nested", obj.getDataObjectValue().getValue());
+    assertEquals(2, obj.getStringSet().size());
+    assertEquals(1, obj.getIntValues()[0]);
+  }
+
+  @Test
+  public void testCopyNullValues() {
+    TestDataObjectCopy obj = new TestDataObjectCopy();
+    TestDataObjectCopy copy = new TestDataObjectCopy()
+      .setStringValue("the-string")
+      .setJsonObjectValue(new JsonObject())
+      .setDataObjectValues(new ArrayList<>());
+    TestDataObjectCopyConverter.copy(obj, copy);
+    assertNull(copy.getStringValue());
+    assertNull(copy.getJsonObjectValue());
+    assertNull(copy.getDataObjectValues());
+  }
+
+  @Test
+  public void testTransferJsonOwnership() {
+    JsonObject jsonObject = new JsonObject().put("foo", "bar");
+    JsonArray jsonArray = new JsonArray().add(1);
+    JsonObject element = new JsonObject().put("element", true);
+    JsonArray mapValue = new JsonArray().add("value");
+    JsonObject json = new JsonObject()
+      .put("jsonObjectValue", jsonObject)
+      .put("jsonArrayValue", jsonArray)
+      .put("jsonObjectValues", new JsonArray().add(element))
+      .put("jsonArrayValueMap", new JsonObject().put("key", mapValue));
+    TestDataObjectJsonOwnership obj = new TestDataObjectJsonOwnership(json);
+    assertSame(jsonObject, obj.getJsonObjectValue());
+    assertSame(jsonArray, obj.getJsonArrayValue());
+    assertSame(element, obj.getJsonObjectValues().get(0));
+    assertSame(mapValue, obj.getJsonArrayValueMap().get("key"));
+    assertEquals(json, obj.toJson());
+
+    // The default still copies
+    TestDataObject copied = new TestDataObject();
+    TestDataObjectConverter.fromJson(new JsonObject().put("jsonObject", jsonObject), copied);
+    assertEquals(jsonObject, copied.getJsonObject());
+    assertNotSame(jsonObject, copied.getJsonObject());
+  }
 }
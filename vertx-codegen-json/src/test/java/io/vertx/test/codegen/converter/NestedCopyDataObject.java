@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+@DataObject(generateConverter = true, copyConverter = true)
+public class NestedCopyDataObject {
+
+  private String value;
+  private JsonObject jsonObjectValue;
+
+  public NestedCopyDataObject() {
+  }
+
+  public NestedCopyDataObject(JsonObject json) {
+    NestedCopyDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public NestedCopyDataObject setValue(String value) {
+    this.value = value;
+    return this;
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public NestedCopyDataObject setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    NestedCopyDataObjectConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof NestedCopyDataObject) {
+      NestedCopyDataObject that = (NestedCopyDataObject) obj;
+      return Objects.equals(value, that.value) && Objects.equals(jsonObjectValue, that.jsonObjectValue);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, jsonObjectValue);
+  }
+}
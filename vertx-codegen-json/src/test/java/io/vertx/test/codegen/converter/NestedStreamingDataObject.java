@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+@DataObject(generateConverter = true, streamingConverter = true)
+public class NestedStreamingDataObject {
+
+  private String value;
+  private int count;
+
+  public NestedStreamingDataObject() {
+  }
+
+  public NestedStreamingDataObject(JsonObject json) {
+    NestedStreamingDataObjectConverter.fromJson(json, this);
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public NestedStreamingDataObject setValue(String value) {
+    this.value = value;
+    return this;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public NestedStreamingDataObject setCount(int count) {
+    this.count = count;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    NestedStreamingDataObjectConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof NestedStreamingDataObject) {
+      NestedStreamingDataObject that = (NestedStreamingDataObject) obj;
+      return Objects.equals(value, that.value) && count == that.count;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, count);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject(generateConverter = true, streamingConverter = true)
+public class TestDataObjectArrays {
+
+  private int[] intValues;
+  private long[] longValues;
+  private double[] doubleValues;
+
+  public TestDataObjectArrays() {
+  }
+
+  public TestDataObjectArrays(JsonObject json) {
+    TestDataObjectArraysConverter.fromJson(json, this);
+  }
+
+  public int[] getIntValues() {
+    return intValues;
+  }
+
+  public TestDataObjectArrays setIntValues(int[] intValues) {
+    this.intValues = intValues;
+    return this;
+  }
+
+  public long[] getLongValues() {
+    return longValues;
+  }
+
+  public TestDataObjectArrays setLongValues(long[] longValues) {
+    this.longValues = longValues;
+    return this;
+  }
+
+  public double[] getDoubleValues() {
+    return doubleValues;
+  }
+
+  public TestDataObjectArrays setDoubleValues(double[] doubleValues) {
+    this.doubleValues = doubleValues;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    TestDataObjectArraysConverter.toJson(this, json);
+    return json;
+  }
+}
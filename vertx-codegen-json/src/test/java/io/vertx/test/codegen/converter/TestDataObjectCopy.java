@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@DataObject(generateConverter = true, copyConverter = true)
+public class TestDataObjectCopy {
+
+  private String stringValue;
+  private int intValue;
+  private TimeUnit enumValue;
+  private Buffer bufferValue;
+  private JsonObject jsonObjectValue;
+  private JsonArray jsonArrayValue;
+  private Object objectValue;
+  private NestedCopyDataObject dataObjectValue;
+  private NestedJsonObjectDataObject jsonDataObjectValue;
+  private int[] intValues;
+  private List<NestedCopyDataObject> dataObjectValues;
+  private Set<String> stringSet;
+  private Map<String, JsonObject> jsonObjectMap;
+  private List<String> addedValues = new ArrayList<>();
+
+  public TestDataObjectCopy() {
+  }
+
+  public TestDataObjectCopy(JsonObject json) {
+    TestDataObjectCopyConverter.fromJson(json, this);
+  }
+
+  public String getStringValue() {
+    return stringValue;
+  }
+
+  public TestDataObjectCopy setStringValue(String stringValue) {
+    this.stringValue = stringValue;
+    return this;
+  }
+
+  public int getIntValue() {
+    return intValue;
+  }
+
+  public TestDataObjectCopy setIntValue(int intValue) {
+    this.intValue = intValue;
+    return this;
+  }
+
+  public TimeUnit getEnumValue() {
+    return enumValue;
+  }
+
+  public TestDataObjectCopy setEnumValue(TimeUnit enumValue) {
+    this.enumValue = enumValue;
+    return this;
+  }
+
+  public Buffer getBufferValue() {
+    return bufferValue;
+  }
+
+  public TestDataObjectCopy setBufferValue(Buffer bufferValue) {
+    this.bufferValue = bufferValue;
+    return this;
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public TestDataObjectCopy setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public JsonArray getJsonArrayValue() {
+    return jsonArrayValue;
+  }
+
+  public TestDataObjectCopy setJsonArrayValue(JsonArray jsonArrayValue) {
+    this.jsonArrayValue = jsonArrayValue;
+    return this;
+  }
+
+  public Object getObjectValue() {
+    return objectValue;
+  }
+
+  public TestDataObjectCopy setObjectValue(Object objectValue) {
+    this.objectValue = objectValue;
+    return this;
+  }
+
+  public NestedCopyDataObject getDataObjectValue() {
+    return dataObjectValue;
+  }
+
+  public TestDataObjectCopy setDataObjectValue(NestedCopyDataObject dataObjectValue) {
+    this.dataObjectValue = dataObjectValue;
+    return this;
+  }
+
+  public NestedJsonObjectDataObject getJsonDataObjectValue() {
+    return jsonDataObjectValue;
+  }
+
+  public TestDataObjectCopy setJsonDataObjectValue(NestedJsonObjectDataObject jsonDataObjectValue) {
+    this.jsonDataObjectValue = jsonDataObjectValue;
+    return this;
+  }
+
+  public int[] getIntValues() {
+    return intValues;
+  }
+
+  public TestDataObjectCopy setIntValues(int[] intValues) {
+    this.intValues = intValues;
+    return this;
+  }
+
+  public List<NestedCopyDataObject> getDataObjectValues() {
+    return dataObjectValues;
+  }
+
+  public TestDataObjectCopy setDataObjectValues(List<NestedCopyDataObject> dataObjectValues) {
+    this.dataObjectValues = dataObjectValues;
+    return this;
+  }
+
+  public Set<String> getStringSet() {
+    return stringSet;
+  }
+
+  public TestDataObjectCopy setStringSet(Set<String> stringSet) {
+    this.stringSet = stringSet;
+    return this;
+  }
+
+  public Map<String, JsonObject> getJsonObjectMap() {
+    return jsonObjectMap;
+  }
+
+  public TestDataObjectCopy setJsonObjectMap(Map<String, JsonObject> jsonObjectMap) {
+    this.jsonObjectMap = jsonObjectMap;
+    return this;
+  }
+
+  public List<String> getAddedValues() {
+    return addedValues;
+  }
+
+  public TestDataObjectCopy addAddedValue(String addedValue) {
+    addedValues.add(addedValue);
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    TestDataObjectCopyConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+@DataObject(generateConverter = true, transferJsonOwnership = true)
+public class TestDataObjectJsonOwnership {
+
+  private JsonObject jsonObjectValue;
+  private JsonArray jsonArrayValue;
+  private List<JsonObject> jsonObjectValues;
+  private Map<String, JsonArray> jsonArrayValueMap;
+
+  public TestDataObjectJsonOwnership() {
+  }
+
+  public TestDataObjectJsonOwnership(JsonObject json) {
+    TestDataObjectJsonOwnershipConverter.fromJson(json, this);
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public TestDataObjectJsonOwnership setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public JsonArray getJsonArrayValue() {
+    return jsonArrayValue;
+  }
+
+  public TestDataObjectJsonOwnership setJsonArrayValue(JsonArray jsonArrayValue) {
+    this.jsonArrayValue = jsonArrayValue;
+    return this;
+  }
+
+  public List<JsonObject> getJsonObjectValues() {
+    return jsonObjectValues;
+  }
+
+  public TestDataObjectJsonOwnership setJsonObjectValues(List<JsonObject> jsonObjectValues) {
+    this.jsonObjectValues = jsonObjectValues;
+    return this;
+  }
+
+  public Map<String, JsonArray> getJsonArrayValueMap() {
+    return jsonArrayValueMap;
+  }
+
+  public TestDataObjectJsonOwnership setJsonArrayValueMap(Map<String, JsonArray> jsonArrayValueMap) {
+    this.jsonArrayValueMap = jsonArrayValueMap;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    TestDataObjectJsonOwnershipConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2017 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@DataObject(generateConverter = true, streamingConverter = true)
+public class TestDataObjectStreaming {
+
+  private String stringValue;
+  private int intValue;
+  private Long boxedLongValue;
+  private boolean booleanValue;
+  private double doubleValue;
+  private TimeUnit enumValue;
+  private Buffer bufferValue;
+  private JsonObject jsonObjectValue;
+  private NestedJsonObjectDataObject dataObjectValue;
+  private NestedStreamingDataObject streamingDataObjectValue;
+  private List<NestedStreamingDataObject> streamingDataObjectValues;
+  private Map<String, NestedStreamingDataObject> streamingDataObjectValueMap;
+  private List<String> stringValues;
+  private Map<String, Integer> integerValueMap;
+
+  public TestDataObjectStreaming() {
+  }
+
+  public TestDataObjectStreaming(TestDataObjectStreaming copy) {
+  }
+
+  public TestDataObjectStreaming(JsonObject json) {
+    TestDataObjectStreamingConverter.fromJson(json, this);
+  }
+
+  public String getStringValue() {
+    return stringValue;
+  }
+
+  public TestDataObjectStreaming setStringValue(String stringValue) {
+    this.stringValue = stringValue;
+    return this;
+  }
+
+  public int getIntValue() {
+    return intValue;
+  }
+
+  public TestDataObjectStreaming setIntValue(int intValue) {
+    this.intValue = intValue;
+    return this;
+  }
+
+  public Long getBoxedLongValue() {
+    return boxedLongValue;
+  }
+
+  public TestDataObjectStreaming setBoxedLongValue(Long boxedLongValue) {
+    this.boxedLongValue = boxedLongValue;
+    return this;
+  }
+
+  public boolean isBooleanValue() {
+    return booleanValue;
+  }
+
+  public TestDataObjectStreaming setBooleanValue(boolean booleanValue) {
+    this.booleanValue = booleanValue;
+    return this;
+  }
+
+  public double getDoubleValue() {
+    return doubleValue;
+  }
+
+  public TestDataObjectStreaming setDoubleValue(double doubleValue) {
+    this.doubleValue = doubleValue;
+    return this;
+  }
+
+  public TimeUnit getEnumValue() {
+    return enumValue;
+  }
+
+  public TestDataObjectStreaming setEnumValue(TimeUnit enumValue) {
+    this.enumValue = enumValue;
+    return this;
+  }
+
+  public Buffer getBufferValue() {
+    return bufferValue;
+  }
+
+  public TestDataObjectStreaming setBufferValue(Buffer bufferValue) {
+    this.bufferValue = bufferValue;
+    return this;
+  }
+
+  public JsonObject getJsonObjectValue() {
+    return jsonObjectValue;
+  }
+
+  public TestDataObjectStreaming setJsonObjectValue(JsonObject jsonObjectValue) {
+    this.jsonObjectValue = jsonObjectValue;
+    return this;
+  }
+
+  public NestedJsonObjectDataObject getDataObjectValue() {
+    return dataObjectValue;
+  }
+
+  public TestDataObjectStreaming setDataObjectValue(NestedJsonObjectDataObject dataObjectValue) {
+    this.dataObjectValue = dataObjectValue;
+    return this;
+  }
+
+  public NestedStreamingDataObject getStreamingDataObjectValue() {
+    return streamingDataObjectValue;
+  }
+
+  public TestDataObjectStreaming setStreamingDataObjectValue(NestedStreamingDataObject streamingDataObjectValue) {
+    this.streamingDataObjectValue = streamingDataObjectValue;
+    return this;
+  }
+
+  public List<NestedStreamingDataObject> getStreamingDataObjectValues() {
+    return streamingDataObjectValues;
+  }
+
+  public TestDataObjectStreaming setStreamingDataObjectValues(List<NestedStreamingDataObject> streamingDataObjectValues) {
+    this.streamingDataObjectValues = streamingDataObjectValues;
+    return this;
+  }
+
+  public Map<String, NestedStreamingDataObject> getStreamingDataObjectValueMap() {
+    return streamingDataObjectValueMap;
+  }
+
+  public TestDataObjectStreaming setStreamingDataObjectValueMap(Map<String, NestedStreamingDataObject> streamingDataObjectValueMap) {
+    this.streamingDataObjectValueMap = streamingDataObjectValueMap;
+    return this;
+  }
+
+  public List<String> getStringValues() {
+    return stringValues;
+  }
+
+  public TestDataObjectStreaming setStringValues(List<String> stringValues) {
+    this.stringValues = stringValues;
+    return this;
+  }
+
+  public Map<String, Integer> getIntegerValueMap() {
+    return integerValueMap;
+  }
+
+  public TestDataObjectStreaming setIntegerValueMap(Map<String, Integer> integerValueMap) {
+    this.integerValueMap = integerValueMap;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    TestDataObjectStreamingConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -69,6 +69,7 @@ public class ClassModel implements Model {
   protected final TypeElement modelElt;
   protected final Elements elementUtils;
   protected final Types typeUtils;
+  private final OverrideIndex overrideIndex;
   protected boolean processed = false;
   protected LinkedHashMap<ExecutableElement, MethodInfo> methods = new LinkedHashMap<>();
   protected LinkedHashMap<ExecutableElement, MethodInfo> anyJavaTypeMethods = new LinkedHashMap<>();
@@ -114,6 +115,7 @@ public class ClassModel implements Model {
     this.modelElt = modelElt;
     this.annotationValueInfoFactory = new AnnotationValueInfoFactory(typeFactory);
     this.deprecated = modelElt.getAnnotation(Deprecated.class) != null;
+    this.overrideIndex = new OverrideIndex(env, modelElt);
   }
 
   @Override
@@ -608,32 +610,14 @@ public class ClassModel implements Model {
     // Owner types
     Set<ClassTypeInfo> ownerTypes = new HashSet<>();
 
-    ArrayList<DeclaredType> ancestors = new ArrayList<>(Helper.resolveAncestorTypes(modelElt, true, true));
-
-    // Sort to have super types the last, etc..
-    // solve some problem with diamond inheritance order that can show up in type use
-    Collections.sort(ancestors, (o1, o2) -> {
-      if (typeUtils.isSubtype(o1, o2)) {
-        return -1;
-      } else if (typeUtils.isSubtype(o2, o1)) {
-        return 1;
-      } else {
-        return ((TypeElement) o1.asElement()).getQualifiedName().toString().compareTo(((TypeElement) o2.asElement()).getQualifiedName().toString());
-      }
-    });
-
-    // Check overrides and merge type use
-    for (DeclaredType ancestorType : ancestors) {
+    // Check overrides and merge type use, super types are the last
+    for (DeclaredType ancestorType : overrideIndex.sortedAncestors()) {
       TypeElement ancestorElt = (TypeElement) ancestorType.asElement();
       if (ancestorElt.getAnnotation(VertxGen.class) != null) {
-        elementUtils.getAllMembers(ancestorElt).
-            stream().
-            flatMap(Helper.FILTER_METHOD).
-            filter(meth -> elementUtils.overrides(modelMethod, meth, modelElt)).
-            forEach(overridenMethodElt -> {
-              modelMethods.add(overridenMethodElt);
-              ownerTypes.add(typeFactory.create((DeclaredType) ancestorElt.asType()).getRaw());
-            });
+        for (ExecutableElement overridenMethodElt : overrideIndex.overriddenMethods(modelMethod, ancestorElt)) {
+          modelMethods.add(overridenMethodElt);
+          ownerTypes.add(typeFactory.create((DeclaredType) ancestorElt.asType()).getRaw());
+        }
       }
     }
 
@@ -57,17 +57,20 @@ public class CodeGen {
   private final Elements elementUtils;
   private final Types typeUtils;
   private final TypeMirrorFactory tmf;
+  private final ModuleInfo.Cache moduleCache;
   private final List<Converter> converters = new ArrayList<>();
 
   public CodeGen(ProcessingEnvironment env) {
     this.env = env;
     this.elementUtils = env.getElementUtils();
     this.typeUtils = env.getTypeUtils();
-    this.tmf = new TypeMirrorFactory(elementUtils, typeUtils);
+    this.moduleCache = new ModuleInfo.Cache(elementUtils);
+    this.tmf = new TypeMirrorFactory(elementUtils, typeUtils, moduleCache);
   }
 
   public void init(RoundEnvironment round, ClassLoader loader) {
     loaderMap.put(env, loader);
+    OverrideIndex.membersMap.put(env, new HashMap<>());
     Predicate<Element> implFilter = elt -> {
       try {
         // Since JDK 16, method elementUtils.getPackageOf(Element)
@@ -248,7 +251,7 @@ public class CodeGen {
       .map(element ->
             new ModelEntry<>(element, () -> new PackageModel(
                 element.getQualifiedName().toString(),
-                ModuleInfo.resolve(elementUtils, element))
+                moduleCache.resolve(element))
             ));
   }
 
@@ -10,6 +10,7 @@ import io.vertx.codegen.type.*;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -38,6 +39,7 @@ public class DataObjectModel implements Model {
   private final Doc.Factory docFactory;
   private final TypeMirrorFactory typeFactory;
   private final TypeElement modelElt;
+  private final OverrideIndex overrideIndex;
   // ----------------
   private final Map<String, PropertyInfo> propertyMap = new LinkedHashMap<>();
   private final Set<ClassTypeInfo> superTypes = new LinkedHashSet<>();
@@ -52,6 +54,9 @@ public class DataObjectModel implements Model {
   private boolean generateConverter;
   private boolean inheritConverter;
   private boolean publicConverter;
+  private boolean streamingConverter;
+  private boolean copyConverter;
+  private boolean transferJsonOwnership;
   private String base64Type;
   private int constructors;
   // ----------------
@@ -72,6 +77,7 @@ public class DataObjectModel implements Model {
     this.modelElt = modelElt;
     this.annotationValueInfoFactory = new AnnotationValueInfoFactory(typeFactory);
     this.deprecated = modelElt.getAnnotation(Deprecated.class) != null;
+    this.overrideIndex = new OverrideIndex(env, modelElt);
   }
 
   @Override
@@ -150,6 +156,18 @@ public class DataObjectModel implements Model {
     return publicConverter;
   }
 
+  public boolean getStreamingConverter() {
+    return streamingConverter;
+  }
+
+  public boolean getCopyConverter() {
+    return copyConverter;
+  }
+
+  public boolean getTransferJsonOwnership() {
+    return transferJsonOwnership;
+  }
+
   public String getBase64Type() {
     return base64Type;
   }
@@ -193,6 +211,9 @@ public class DataObjectModel implements Model {
     vars.put("generateConverter", generateConverter);
     vars.put("inheritConverter", inheritConverter);
     vars.put("publicConverter", publicConverter);
+    vars.put("streamingConverter", streamingConverter);
+    vars.put("copyConverter", copyConverter);
+    vars.put("transferJsonOwnership", transferJsonOwnership);
     vars.put("base64Type", base64Type);
     vars.put("concrete", concrete);
     vars.put("isClass", isClass);
@@ -232,6 +253,9 @@ public class DataObjectModel implements Model {
     this.generateConverter = ann.generateConverter();
     this.publicConverter = ann.publicConverter();
     this.inheritConverter = ann.inheritConverter();
+    this.streamingConverter = ann.streamingConverter();
+    this.copyConverter = ann.copyConverter();
+    this.transferJsonOwnership = ann.transferJsonOwnership();
     this.base64Type = ann.base64Type();
     if (base64Type == null) {
       throw new GenException(modelElt, "Data object base64 type cannot be null");
@@ -451,6 +475,11 @@ public class DataObjectModel implements Model {
       propType = typeFactory.create(propTypeMirror);
       propKind = PropertyKind.forType(propType.getKind());
       propertyDeprecated |= setterElt.getAnnotation(Deprecated.class) != null;
+      if (isPrimitiveArray(propType)) {
+        propKind = PropertyKind.ARRAY;
+        propType = ((ArrayTypeInfo) propType).getComponentType();
+        propTypeMirror = ((ArrayType) propTypeMirror).getComponentType();
+      }
       switch (propKind) {
         case LIST:
         case SET:
@@ -470,6 +499,11 @@ public class DataObjectModel implements Model {
       TypeInfo getterType = typeFactory.create(getterTypeMirror);
       PropertyKind getterKind = PropertyKind.forType(getterType.getKind());
       propertyDeprecated |= getterElt.getAnnotation(Deprecated.class) != null;
+      if (isPrimitiveArray(getterType)) {
+        getterKind = PropertyKind.ARRAY;
+        getterType = ((ArrayTypeInfo) getterType).getComponentType();
+        getterTypeMirror = ((ArrayType) getterTypeMirror).getComponentType();
+      }
       switch (getterKind) {
         case LIST:
         case SET:
@@ -571,17 +605,13 @@ public class DataObjectModel implements Model {
         // A stream that list all overriden methods from super types
         // the boolean control whether or not we want to filter only annotated
         // data objects
-        Function<Boolean, Stream<ExecutableElement>> overridenMeths = (annotated) -> {
-          Set<DeclaredType> ancestorTypes = Helper.resolveAncestorTypes(modelElt, true, true);
-          return ancestorTypes.
-            stream().
-            map(DeclaredType::asElement).
-            filter(elt -> !annotated || elt.getAnnotation(DataObject.class) != null).
-            flatMap(Helper.cast(TypeElement.class)).
-            flatMap(elt -> elementUtils.getAllMembers(elt).stream()).
-            flatMap(Helper.instanceOf(ExecutableElement.class)).
-            filter(executableElt -> executableElt.getKind() == ElementKind.METHOD && elementUtils.overrides(methodElt, executableElt, modelElt));
-        };
+        Function<Boolean, Stream<ExecutableElement>> overridenMeths = (annotated) -> overrideIndex.
+          ancestors().
+          stream().
+          map(DeclaredType::asElement).
+          filter(elt -> !annotated || elt.getAnnotation(DataObject.class) != null).
+          flatMap(Helper.cast(TypeElement.class)).
+          flatMap(elt -> overrideIndex.overriddenMethods(methodElt, elt).stream());
 
         //
         if (doc == null) {
@@ -635,4 +665,19 @@ public class DataObjectModel implements Model {
     propertyMap.put(property.name, property);
   }
 
+  /**
+   * @return whether the {@code type} is a primitive array supported as {@link PropertyKind#ARRAY} property
+   */
+  private static boolean isPrimitiveArray(TypeInfo type) {
+    if (type instanceof ArrayTypeInfo) {
+      switch (((ArrayTypeInfo) type).getComponentType().getName()) {
+        case "int":
+        case "long":
+        case "double":
+          return true;
+      }
+    }
+    return false;
+  }
+
 }
@@ -0,0 +1,152 @@
+package io.vertx.codegen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Persists the content of the generated files along with the fingerprint of the elements they were generated from,
+ * a file whose fingerprint is unchanged can reuse the persisted content instead of being rendered again.
+ * <p/>
+ * This class must be used from the processing thread only.
+ */
+class FingerprintCache {
+
+  private static final int MAGIC = 0x56434746; // VCGF
+  private static final int VERSION = 1;
+
+  private static class Entry {
+    final String fingerprint;
+    final String content;
+    Entry(String fingerprint, String content) {
+      this.fingerprint = fingerprint;
+      this.content = content;
+    }
+  }
+
+  private final File file;
+  private final Map<String, Entry> entries = new TreeMap<>();
+  private final Set<String> touched = new HashSet<>();
+  private final Set<String> persisted = new HashSet<>();
+  private boolean modified;
+
+  /**
+   * Create a cache persisted in {@code file}, the previous entries are loaded when the file exists and is valid.
+   *
+   * @param file the cache file
+   */
+  FingerprintCache(File file) {
+    this.file = file;
+    if (file.isFile()) {
+      try {
+        load();
+      } catch (IOException e) {
+        // Corrupted or incompatible cache, start from scratch
+        entries.clear();
+        persisted.clear();
+        modified = true;
+      }
+    }
+  }
+
+  private void load() throws IOException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        throw new IOException("Invalid cache file " + file);
+      }
+      int size = in.readInt();
+      for (int i = 0;i < size;i++) {
+        String key = readString(in);
+        String fingerprint = readString(in);
+        String content = readString(in);
+        entries.put(key, new Entry(fingerprint, content));
+      }
+      persisted.addAll(entries.keySet());
+    }
+  }
+
+  /**
+   * Lookup the content of a generated file.
+   *
+   * @param key the generated file key
+   * @param fingerprint the current fingerprint of the generated file
+   * @return the persisted content or {@code null} when the file is unknown or its fingerprint has changed
+   */
+  String get(String key, String fingerprint) {
+    touched.add(key);
+    Entry entry = entries.get(key);
+    if (entry != null && entry.fingerprint.equals(fingerprint)) {
+      return entry.content;
+    }
+    return null;
+  }
+
+  /**
+   * Update the content of a generated file.
+   *
+   * @param key the generated file key
+   * @param fingerprint the fingerprint of the generated file
+   * @param content the rendered content
+   */
+  void put(String key, String fingerprint, String content) {
+    touched.add(key);
+    Entry previous = entries.put(key, new Entry(fingerprint, content));
+    if (previous == null || !previous.fingerprint.equals(fingerprint) || !previous.content.equals(content)) {
+      modified = true;
+    }
+  }
+
+  /**
+   * Persist the cache when it has been modified. Only the entries looked up or updated during this compilation are
+   * persisted, the other entries belong to files that are not generated anymore. They are still retained in memory
+   * since the cache is saved after each round and a later round can generate them.
+   */
+  void save() throws IOException {
+    Map<String, Entry> retained = new TreeMap<>(entries);
+    retained.keySet().retainAll(touched);
+    if (!modified && retained.keySet().equals(persisted)) {
+      return;
+    }
+    Helper.ensureParentDir(file);
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(retained.size());
+      for (Map.Entry<String, Entry> entry : retained.entrySet()) {
+        writeString(out, entry.getKey());
+        writeString(out, entry.getValue().fingerprint);
+        writeString(out, entry.getValue().content);
+      }
+    }
+    persisted.clear();
+    persisted.addAll(retained.keySet());
+    modified = false;
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int len = in.readInt();
+    if (len < 0) {
+      throw new IOException("Invalid string length " + len);
+    }
+    byte[] bytes = new byte[len];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeString(DataOutputStream out, String s) throws IOException {
+    // DataOutputStream#writeUTF is limited to 64KB
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
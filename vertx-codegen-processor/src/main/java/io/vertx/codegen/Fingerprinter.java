@@ -0,0 +1,318 @@
+package io.vertx.codegen;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.ModuleGen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes the fingerprint of a generated file from the source elements of its models, the fingerprint changes
+ * when anything a generator can observe through the model changes: the declared members and their signatures,
+ * annotations, javadoc, the hierarchy of the type and the kind/annotations of the types referenced by the members.
+ * <p/>
+ * Generators also render the content of referenced enums (constants and their annotations) and data objects
+ * (properties), the fingerprint includes the content of all the enums and data objects transitively referenced by
+ * the models.
+ * <p/>
+ * Generators render the {@link ModuleInfo} of the types, the fingerprint includes the {@code @ModuleGen} annotation
+ * of the module of the model element and of the referenced types.
+ * <p/>
+ * Element fingerprints are memoized, this class must be used from the processing thread only.
+ */
+class Fingerprinter {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final Elements elementUtils;
+  private final Types typeUtils;
+  private final String salt;
+  private final Map<Element, String> elements = new HashMap<>();
+  private final Map<Element, Content> contents = new HashMap<>();
+  private final Map<PackageElement, String> modules = new HashMap<>();
+  private final Map<Class<?>, String> codeVersions = new HashMap<>();
+
+  /**
+   * The content of a type element and the enums and data objects it references.
+   */
+  private static class Content {
+    private final String hash;
+    private final Set<Element> dependencies;
+    private Content(String hash, Set<Element> dependencies) {
+      this.hash = hash;
+      this.dependencies = dependencies;
+    }
+  }
+
+  /**
+   * @param env the processing environment
+   * @param salt the salt shared by all fingerprints, it should capture the global configuration of the processor
+   */
+  Fingerprinter(ProcessingEnvironment env, String salt) {
+    this.elementUtils = env.getElementUtils();
+    this.typeUtils = env.getTypeUtils();
+    this.salt = salt;
+  }
+
+  /**
+   * Compute the fingerprint of a file generated from a list of models.
+   *
+   * @param models the models
+   * @param generators the generator of each model
+   * @return the fingerprint
+   */
+  String fingerprint(List<? extends Model> models, List<? extends Generator<?>> generators) {
+    MessageDigest digest = digest();
+    update(digest, salt);
+    for (int i = 0;i < models.size();i++) {
+      Model model = models.get(i);
+      Generator<?> generator = generators.get(i);
+      update(digest, generator.getClass().getName());
+      update(digest, generator.name);
+      update(digest, codeVersions.computeIfAbsent(generator.getClass(), Fingerprinter::codeVersion));
+      update(digest, model.getKind());
+      update(digest, model.getFqn());
+      update(digest, fingerprint(model.getElement()));
+    }
+    return hex(digest.digest());
+  }
+
+  /**
+   * Compute the version of the code of a class: the hash of the jar or of the class files of the directory the class
+   * is loaded from. Unlike the implementation version, it changes when a snapshot is rebuilt and it is also available
+   * when the class is not loaded from a jar.
+   *
+   * @param clazz the class
+   * @return the code version
+   */
+  static String codeVersion(Class<?> clazz) {
+    Path location = null;
+    try {
+      CodeSource source = clazz.getProtectionDomain().getCodeSource();
+      if (source != null && source.getLocation() != null) {
+        location = Paths.get(source.getLocation().toURI());
+      }
+    } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException | SecurityException ignore) {
+    }
+    if (location != null) {
+      MessageDigest digest = digest();
+      try {
+        if (Files.isDirectory(location)) {
+          List<Path> files;
+          try (Stream<Path> stream = Files.walk(location)) {
+            files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+          }
+          for (Path file : files) {
+            update(digest, location.relativize(file).toString());
+            digest.update(Files.readAllBytes(file));
+          }
+        } else {
+          digest.update(Files.readAllBytes(location));
+        }
+        return hex(digest.digest());
+      } catch (IOException ignore) {
+      }
+    }
+    Package pkg = clazz.getPackage();
+    return String.valueOf(pkg != null ? pkg.getImplementationVersion() : null);
+  }
+
+  private String fingerprint(Element element) {
+    String fingerprint = elements.get(element);
+    if (fingerprint == null) {
+      // The content of the transitive dependencies sorted by name, a fingerprint does not depend on the order
+      // elements are visited, cycles between data objects included
+      Map<String, String> closure = new TreeMap<>();
+      Deque<Element> queue = new ArrayDeque<>();
+      queue.add(element);
+      while (!queue.isEmpty()) {
+        Element elt = queue.poll();
+        String name = elt.getKind().name() + ":" + elt;
+        if (!closure.containsKey(name)) {
+          Content content = content(elt);
+          closure.put(name, content.hash);
+          queue.addAll(content.dependencies);
+        }
+      }
+      MessageDigest digest = digest();
+      closure.forEach((name, hash) -> {
+        update(digest, name);
+        update(digest, hash);
+      });
+      fingerprint = hex(digest.digest());
+      elements.put(element, fingerprint);
+    }
+    return fingerprint;
+  }
+
+  private Content content(Element element) {
+    Content content = contents.get(element);
+    if (content == null) {
+      MessageDigest digest = digest();
+      Set<Element> dependencies = new LinkedHashSet<>();
+      appendElement(digest, element, new HashSet<>(), dependencies);
+      content = new Content(hex(digest.digest()), dependencies);
+      contents.put(element, content);
+    }
+    return content;
+  }
+
+  private void appendElement(MessageDigest digest, Element element, Set<Element> visited, Set<Element> dependencies) {
+    if (!visited.add(element)) {
+      return;
+    }
+    appendDeclaration(digest, element);
+    update(digest, module(element));
+    if (element instanceof TypeElement) {
+      TypeElement typeElt = (TypeElement) element;
+      update(digest, typeElt.getTypeParameters().toString());
+      update(digest, typeElt.getSuperclass().toString());
+      update(digest, typeElt.getInterfaces().toString());
+      List<TypeMirror> referenced = new ArrayList<>();
+      for (Element member : typeElt.getEnclosedElements()) {
+        appendDeclaration(digest, member);
+        update(digest, member.asType().toString());
+        referenced.add(member.asType());
+        if (member instanceof ExecutableElement) {
+          ExecutableElement methodElt = (ExecutableElement) member;
+          for (VariableElement param : methodElt.getParameters()) {
+            update(digest, param.getSimpleName().toString());
+            update(digest, param.getAnnotationMirrors().toString());
+            referenced.add(param.asType());
+          }
+          referenced.add(methodElt.getReturnType());
+        } else if (member instanceof VariableElement) {
+          update(digest, String.valueOf(((VariableElement) member).getConstantValue()));
+        }
+      }
+      // The hierarchy contributes inherited members
+      appendSuperType(digest, typeElt.getSuperclass(), visited, dependencies);
+      for (TypeMirror itf : typeElt.getInterfaces()) {
+        appendSuperType(digest, itf, visited, dependencies);
+      }
+      // The kind of the referenced types (data object, enum, api...) is determined by their annotations
+      for (TypeMirror type : referenced) {
+        appendReferencedType(digest, type, new HashSet<>(), dependencies);
+      }
+    }
+  }
+
+  private void appendSuperType(MessageDigest digest, TypeMirror type, Set<Element> visited, Set<Element> dependencies) {
+    if (type.getKind() == TypeKind.DECLARED) {
+      Element superElt = typeUtils.asElement(type);
+      if (superElt != null && !superElt.toString().equals("java.lang.Object")) {
+        appendElement(digest, superElt, visited, dependencies);
+      }
+    }
+  }
+
+  private void appendReferencedType(MessageDigest digest, TypeMirror type, Set<TypeMirror> visited, Set<Element> dependencies) {
+    if (type.getKind() == TypeKind.DECLARED && visited.add(type)) {
+      DeclaredType declaredType = (DeclaredType) type;
+      Element elt = declaredType.asElement();
+      update(digest, elt.toString());
+      update(digest, elt.getKind().name());
+      update(digest, elt.getAnnotationMirrors().toString());
+      update(digest, module(elt));
+      if (elt.getKind() == ElementKind.ENUM || elt.getAnnotation(DataObject.class) != null) {
+        // The content of enums and data objects is rendered in the generated file, e.g. the enum constants
+        dependencies.add(elt);
+      }
+      for (TypeMirror typeArg : declaredType.getTypeArguments()) {
+        appendReferencedType(digest, typeArg, visited, dependencies);
+      }
+    } else if (type.getKind() == TypeKind.ARRAY) {
+      appendReferencedType(digest, ((ArrayType) type).getComponentType(), visited, dependencies);
+    }
+  }
+
+  /**
+   * @return the name and the {@code @ModuleGen} annotation of the module of an element, empty when the element does
+   *         not belong to a module
+   */
+  private String module(Element element) {
+    PackageElement pkgElt = elementUtils.getPackageOf(element);
+    return modules.computeIfAbsent(pkgElt, key -> {
+      PackageElement moduleElt = ModuleInfo.resolveFirstModuleGenAnnotatedPackageElement(elementUtils, key);
+      if (moduleElt == null) {
+        return "";
+      }
+      StringBuilder sb = new StringBuilder(moduleElt.getQualifiedName());
+      for (AnnotationMirror annotation : moduleElt.getAnnotationMirrors()) {
+        if (annotation.getAnnotationType().toString().equals(ModuleGen.class.getName())) {
+          sb.append(annotation);
+        }
+      }
+      return sb.toString();
+    });
+  }
+
+  private void appendDeclaration(MessageDigest digest, Element element) {
+    ElementKind kind = element.getKind();
+    update(digest, kind.name());
+    update(digest, element.toString());
+    update(digest, element.getModifiers().toString());
+    for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      update(digest, annotation.toString());
+    }
+    update(digest, String.valueOf(elementUtils.getDocComment(element)));
+  }
+
+  private static void update(MessageDigest digest, String s) {
+    digest.update(s.getBytes(StandardCharsets.UTF_8));
+    // Separator to avoid ambiguities between consecutive values
+    digest.update((byte) 0);
+  }
+
+  private static MessageDigest digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String hex(byte[] bytes) {
+    char[] chars = new char[bytes.length * 2];
+    for (int i = 0;i < bytes.length;i++) {
+      int b = bytes[i] & 0xFF;
+      chars[i * 2] = HEX[b >> 4];
+      chars[i * 2 + 1] = HEX[b & 0x0F];
+    }
+    return new String(chars);
+  }
+}
@@ -20,6 +20,20 @@ public abstract class Generator<M extends Model> {
   public Set<String> kinds;
   public boolean incremental;
 
+  /**
+   * When {@code true}, {@link #render} only reads the processed model and may be invoked concurrently from other threads
+   * than the processing thread when the {@code codegen.parallelism} option is set.
+   */
+  public boolean concurrent;
+
+  /**
+   * When {@code true}, each generated file is derived from a single type element and the types it references: the
+   * generator is not {@link #incremental} and its files are java sources or {@code resources/} written through the
+   * {@link javax.annotation.processing.Filer}. The processor is then reported as isolating to Gradle incremental
+   * compilation when all the generators are isolating and none of them is relocated to the output directory.
+   */
+  public boolean isolating;
+
   public Collection<Class<? extends Annotation>> annotations() {
     return Collections.emptySet();
   }
@@ -26,6 +26,8 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.io.File;
 import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.GenericDeclaration;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -639,42 +641,82 @@ public class Helper {
    */
   public static Method getReflectMethod(ClassLoader loader, ExecutableElement modelMethod) {
     TypeElement typeElt = (TypeElement) modelMethod.getEnclosingElement();
-    Method method = null;
-    try {
-      Class<?> clazz = loader.loadClass(typeElt.getQualifiedName().toString());
-      StringBuilder sb = new StringBuilder(modelMethod.getSimpleName());
-      sb.append("(");
-      List<? extends VariableElement> params = modelMethod.getParameters();
-      for (int i = 0;i < params.size();i++) {
-        if (i > 0) {
-          sb.append(",");
-        }
-        VariableElement param = params.get(i);
-        toString(param.asType(), sb);
+    Class<?> clazz = loadClass(loader, typeElt.getQualifiedName().toString());
+    if (clazz == null) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(modelMethod.getSimpleName());
+    sb.append("(");
+    List<? extends VariableElement> params = modelMethod.getParameters();
+    for (int i = 0;i < params.size();i++) {
+      if (i > 0) {
+        sb.append(",");
+      }
+      VariableElement param = params.get(i);
+      toString(param.asType(), sb);
+    }
+    sb.append(")");
+    return REFLECT_METHODS.get(clazz).get(sb.toString());
+  }
+
+  private static final Reference<Class<?>> CLASS_NOT_FOUND = new WeakReference<>(null);
+
+  /**
+   * Classes loaded by {@link #getReflectMethod(ClassLoader, ExecutableElement)}, the loaders are weakly referenced
+   * like in {@link CodeGen#loaderMap} and the classes are weakly referenced to not retain their loader.
+   */
+  private static final Map<ClassLoader, Map<String, Reference<Class<?>>>> LOADED_CLASSES = new WeakHashMap<>();
+
+  private static Class<?> loadClass(ClassLoader loader, String fqn) {
+    Map<String, Reference<Class<?>>> classes;
+    synchronized (LOADED_CLASSES) {
+      classes = LOADED_CLASSES.computeIfAbsent(loader, l -> new HashMap<>());
+    }
+    Reference<Class<?>> ref;
+    synchronized (classes) {
+      ref = classes.get(fqn);
+    }
+    if (ref == CLASS_NOT_FOUND) {
+      return null;
+    }
+    Class<?> clazz = ref != null ? ref.get() : null;
+    if (clazz == null) {
+      try {
+        clazz = loader.loadClass(fqn);
+        ref = new WeakReference<>(clazz);
+      } catch (ClassNotFoundException e) {
+        ref = CLASS_NOT_FOUND;
       }
-      sb.append(")");
-      String s = sb.toString();
+      synchronized (classes) {
+        classes.put(fqn, ref);
+      }
+    }
+    return clazz;
+  }
+
+  /**
+   * The public methods of a class indexed by their signature {@code name(type1,type2,...)} with the generic types of
+   * the parameters, when several methods have the same signature (bridge methods) the most specific return type wins.
+   */
+  private static final ClassValue<Map<String, Method>> REFLECT_METHODS = new ClassValue<Map<String, Method>>() {
+    @Override
+    protected Map<String, Method> computeValue(Class<?> clazz) {
+      Map<String, Method> methods = new HashMap<>();
       for (Method m : clazz.getMethods()) {
         String sign = m.toGenericString();
         int pos = sign.indexOf('(');
         pos = sign.lastIndexOf('.', pos) + 1;
         sign = sign.substring(pos);
         sign = sign.replace(", ", ","); // Remove space between arguments
-        if (sign.equals(s)) {
-          // Test this case
-          if (method != null) {
-            if (method.getReturnType().isAssignableFrom(m.getReturnType())) {
-              method = m;
-            }
-          } else {
-            method = m;
-          }
+        Method method = methods.get(sign);
+        // Test this case
+        if (method == null || method.getReturnType().isAssignableFrom(m.getReturnType())) {
+          methods.put(sign, m);
         }
       }
-    } catch (ClassNotFoundException e) {
+      return methods;
     }
-    return method;
-  }
+  };
 
   public static ClassKind getAnnotatedDataObjectAnnotatedSerializationType(Elements elementUtils, TypeElement dataObjectElt) {
     return elementUtils.getAllMembers(dataObjectElt)
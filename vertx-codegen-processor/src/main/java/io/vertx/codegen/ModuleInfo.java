@@ -16,7 +16,10 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 
@@ -77,11 +80,15 @@ public class ModuleInfo {
   public static ModuleInfo resolve(Elements elementUtils, PackageElement pkgElt) {
     PackageElement result = resolveFirstModuleGenAnnotatedPackageElement(elementUtils, pkgElt);
     if (result != null) {
-      ModuleGen annotation = result.getAnnotation(ModuleGen.class);
-      return new ModuleInfo(result.getQualifiedName().toString(), annotation.name(), annotation.groupPackage(), annotation.useFutures(), annotation.checkCallbackDeprecation());
+      return create(result);
     } else return null;
   }
 
+  private static ModuleInfo create(PackageElement moduleElt) {
+    ModuleGen annotation = moduleElt.getAnnotation(ModuleGen.class);
+    return new ModuleInfo(moduleElt.getQualifiedName().toString(), annotation.name(), annotation.groupPackage(), annotation.useFutures(), annotation.checkCallbackDeprecation());
+  }
+
   public static DeclaredType resolveJsonMapper(Elements elementUtils, Types typeUtils, PackageElement pkgElt, DeclaredType javaType) {
     PackageElement result = resolveFirstModuleGenAnnotatedPackageElement(elementUtils, pkgElt);
     if (result != null) {
@@ -127,6 +134,68 @@ public class ModuleInfo {
     return null;
   }
 
+  /**
+   * Caches the resolution of the {@link ModuleGen} annotated package of packages, including the packages that do not
+   * belong to a module. The resolution of a package also caches the resolution of the parent packages it climbs.
+   * <p/>
+   * A cache is meant to be scoped to a processing round.
+   */
+  public static class Cache {
+
+    private final Elements elementUtils;
+    private final Map<String, Optional<PackageElement>> modulePackages = new HashMap<>();
+    private final Map<PackageElement, ModuleInfo> modules = new HashMap<>();
+
+    public Cache(Elements elementUtils) {
+      this.elementUtils = elementUtils;
+    }
+
+    /**
+     * Cached version of {@link ModuleInfo#resolve(Elements, PackageElement)}.
+     */
+    public ModuleInfo resolve(PackageElement pkgElt) {
+      PackageElement result = resolveFirstModuleGenAnnotatedPackageElement(pkgElt);
+      if (result != null) {
+        return modules.computeIfAbsent(result, ModuleInfo::create);
+      } else return null;
+    }
+
+    /**
+     * Cached version of {@link ModuleInfo#resolveFirstModuleGenAnnotatedPackageElement(Elements, PackageElement)}.
+     */
+    public PackageElement resolveFirstModuleGenAnnotatedPackageElement(PackageElement pkgElt) {
+      if (pkgElt == null) return null;
+      return resolve(pkgElt.getQualifiedName().toString(), pkgElt);
+    }
+
+    private PackageElement resolve(String pkgQN, PackageElement pkgElt) {
+      Optional<PackageElement> cached = modulePackages.get(pkgQN);
+      if (cached != null) {
+        return cached.orElse(null);
+      }
+      PackageElement result;
+      if (pkgElt != null && pkgElt.getAnnotation(ModuleGen.class) != null) {
+        result = pkgElt;
+      } else {
+        int pos = pkgQN.lastIndexOf('.');
+        if (pos == -1) {
+          result = null;
+        } else {
+          String parentQN = pkgQN.substring(0, pos);
+          cached = modulePackages.get(parentQN);
+          if (cached != null) {
+            result = cached.orElse(null);
+          } else {
+            Set<PackageElement> pkgElts = getPackageElement.apply(elementUtils, parentQN);
+            result = resolve(parentQN, pkgElts.isEmpty() ? null : pkgElts.iterator().next());
+          }
+        }
+      }
+      modulePackages.put(pkgQN, Optional.ofNullable(result));
+      return result;
+    }
+  }
+
   public String getGroupPackage() {
     return groupPackage;
   }
@@ -0,0 +1,120 @@
+package io.vertx.codegen;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The override index of a model type: the ancestors of the type are resolved once and the methods of each ancestor are
+ * indexed by name and arity, so finding the methods overridden by a model method only checks the few candidates
+ * with the same name and arity instead of every member of every ancestor.
+ * <p/>
+ * The index of an ancestor members only depends on the ancestor, it is shared by the models of a processing round.
+ */
+class OverrideIndex {
+
+  /**
+   * The ancestor members index shared per processing environment, {@link CodeGen#init} starts a new one per round.
+   */
+  static final Map<ProcessingEnvironment, Map<TypeElement, Map<String, List<ExecutableElement>>>> membersMap = new WeakHashMap<>();
+
+  private final Elements elementUtils;
+  private final Types typeUtils;
+  private final TypeElement modelElt;
+  private final Map<TypeElement, Map<String, List<ExecutableElement>>> members;
+  private List<DeclaredType> ancestors;
+  private List<DeclaredType> sortedAncestors;
+
+  OverrideIndex(ProcessingEnvironment env, TypeElement modelElt) {
+    this.elementUtils = env.getElementUtils();
+    this.typeUtils = env.getTypeUtils();
+    this.modelElt = modelElt;
+    this.members = membersMap.computeIfAbsent(env, k -> new HashMap<>());
+  }
+
+  /**
+   * @return the ancestors of the model type in resolution order, see {@link Helper#resolveAncestorTypes}
+   */
+  List<DeclaredType> ancestors() {
+    if (ancestors == null) {
+      ancestors = Collections.unmodifiableList(new ArrayList<>(Helper.resolveAncestorTypes(modelElt, true, true)));
+    }
+    return ancestors;
+  }
+
+  /**
+   * @return the ancestors of the model type, sub types first
+   */
+  List<DeclaredType> sortedAncestors() {
+    if (sortedAncestors == null) {
+      ArrayList<DeclaredType> list = new ArrayList<>(ancestors());
+      // Sort to have super types the last, etc..
+      // solve some problem with diamond inheritance order that can show up in type use
+      Collections.sort(list, (o1, o2) -> {
+        if (typeUtils.isSubtype(o1, o2)) {
+          return -1;
+        } else if (typeUtils.isSubtype(o2, o1)) {
+          return 1;
+        } else {
+          return ((TypeElement) o1.asElement()).getQualifiedName().toString().compareTo(((TypeElement) o2.asElement()).getQualifiedName().toString());
+        }
+      });
+      sortedAncestors = Collections.unmodifiableList(list);
+    }
+    return sortedAncestors;
+  }
+
+  /**
+   * Find the methods of an ancestor overridden by a method of the model type.
+   *
+   * @param methodElt the model method
+   * @param ancestorElt the ancestor
+   * @return the overridden methods in the order of {@link Elements#getAllMembers}
+   */
+  List<ExecutableElement> overriddenMethods(ExecutableElement methodElt, TypeElement ancestorElt) {
+    List<ExecutableElement> candidates = members(ancestorElt).get(key(methodElt));
+    if (candidates == null) {
+      return Collections.emptyList();
+    }
+    List<ExecutableElement> overridden = null;
+    for (ExecutableElement candidate : candidates) {
+      if (elementUtils.overrides(methodElt, candidate, modelElt)) {
+        if (overridden == null) {
+          overridden = new ArrayList<>(1);
+        }
+        overridden.add(candidate);
+      }
+    }
+    return overridden != null ? overridden : Collections.emptyList();
+  }
+
+  private Map<String, List<ExecutableElement>> members(TypeElement typeElt) {
+    Map<String, List<ExecutableElement>> index = members.get(typeElt);
+    if (index == null) {
+      index = new HashMap<>();
+      for (Element memberElt : elementUtils.getAllMembers(typeElt)) {
+        if (memberElt.getKind() == ElementKind.METHOD) {
+          ExecutableElement methodElt = (ExecutableElement) memberElt;
+          index.computeIfAbsent(key(methodElt), k -> new ArrayList<>(1)).add(methodElt);
+        }
+      }
+      members.put(typeElt, index);
+    }
+    return index;
+  }
+
+  private static String key(ExecutableElement methodElt) {
+    return methodElt.getSimpleName().toString() + '/' + methodElt.getParameters().size();
+  }
+}
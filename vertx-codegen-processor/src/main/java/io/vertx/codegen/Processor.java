@@ -24,6 +24,8 @@ import java.lang.annotation.Annotation;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,7 +37,7 @@ import java.util.stream.StreamSupport;
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
-@javax.annotation.processing.SupportedOptions({"codegen.output","codegen.generators"})
+@javax.annotation.processing.SupportedOptions({"codegen.output","codegen.generators","codegen.parallelism","codegen.cache"})
 @javax.annotation.processing.SupportedSourceVersion(javax.lang.model.SourceVersion.RELEASE_8)
 public class Processor extends AbstractProcessor {
 
@@ -49,6 +51,19 @@ public class Processor extends AbstractProcessor {
   private Map<String, String> relocations = new HashMap<>();
   private Set<Class<? extends Annotation>> supportedAnnotation = new HashSet<>();
   private List<CodeGen.Converter> mappers;
+  private int parallelism = 1;
+  private FingerprintCache cache;
+  private String cacheSalt;
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> options = new HashSet<>(super.getSupportedOptions());
+    // Gradle incremental annotation processing (dynamic processor), isolating processors must write a file per model
+    // with a single originating element through the Filer, relocated files are written outside the Filer
+    boolean isolating = isInitialized() && getCodeGenerators().stream().allMatch(gen -> gen.isolating && !gen.incremental && !relocations.containsKey(gen.name));
+    options.add(isolating ? "org.gradle.annotation.processing.isolating" : "org.gradle.annotation.processing.aggregating");
+    return options;
+  }
 
   @Override
   public Set<String> getSupportedAnnotationTypes() {
@@ -66,10 +81,34 @@ public class Processor extends AbstractProcessor {
       .flatMap(gen -> gen.annotations().stream())
       .forEach(supportedAnnotation::add);
 
+    String parallelismOption = processingEnv.getOptions().get("codegen.parallelism");
+    if (parallelismOption != null) {
+      try {
+        parallelism = Integer.parseInt(parallelismOption.trim());
+      } catch (NumberFormatException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Invalid codegen.parallelism value " + parallelismOption);
+      }
+      if (parallelism <= 0) {
+        parallelism = Runtime.getRuntime().availableProcessors();
+      }
+    }
+
     // Load mappers
     if (mappers == null) {
       mappers = loadJsonMappers();
     }
+
+    String cacheOption = processingEnv.getOptions().get("codegen.cache");
+    if (cacheOption != null) {
+      cache = new FingerprintCache(new File(cacheOption, "fingerprints.bin"));
+      // Generators may read any processor option, the options that do not change the generated content are excluded
+      Map<String, String> options = new TreeMap<>(processingEnv.getOptions());
+      options.remove("codegen.parallelism");
+      options.remove("codegen.cache");
+      cacheSalt = Fingerprinter.codeVersion(Processor.class) + "|" +
+        mappers.stream().map(Object::toString).sorted().collect(Collectors.toList()) + "|" +
+        options;
+    }
   }
 
   private Predicate<Generator> filterGenerators() {
@@ -306,12 +345,13 @@ public class Processor extends AbstractProcessor {
         });
 
         // Generate classes
-        generatedClasses.values().forEach(generated -> {
+        render(JAVA, generatedClasses.values()).forEach(rendering -> {
+          GeneratedFile generated = rendering.file;
           boolean shouldWarningsBeSuppressed = false;
           try {
-            String content = generated.generate();
+            String content = rendering.content();
             if (content.length() > 0) {
-              JavaFileObject target = processingEnv.getFiler().createSourceFile(generated.uri);
+              JavaFileObject target = processingEnv.getFiler().createSourceFile(generated.uri, generated.originatingElements());
               try (Writer writer = target.openWriter()) {
                 writer.write(content);
               }
@@ -327,12 +367,13 @@ public class Processor extends AbstractProcessor {
     } else {
 
       // Generate resources
-      for (GeneratedFile generated : generatedResources.values()) {
+      for (Rendering rendering : render(RESOURCE, generatedResources.values())) {
+        GeneratedFile generated = rendering.file;
         boolean shouldWarningsBeSuppressed = false;
         try {
-          String content = generated.generate();
+          String content = rendering.content();
           if (content.length() > 0) {
-            try (Writer w = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", generated.uri).openWriter()) {
+            try (Writer w = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", generated.uri, generated.originatingElements()).openWriter()) {
               w.write(content);
             }
             boolean createSource;
@@ -344,7 +385,7 @@ public class Processor extends AbstractProcessor {
               createSource = false;
             }
             if (createSource) {
-              try (Writer w = processingEnv.getFiler().createResource(StandardLocation.SOURCE_OUTPUT, "", generated.uri).openWriter()) {
+              try (Writer w = processingEnv.getFiler().createResource(StandardLocation.SOURCE_OUTPUT, "", generated.uri, generated.originatingElements()).openWriter()) {
                 w.write(content);
               }
             }
@@ -357,7 +398,8 @@ public class Processor extends AbstractProcessor {
         }
       }
       // Generate files
-      generatedFiles.values().forEach(generated -> {
+      render(OTHER, generatedFiles.values()).forEach(rendering -> {
+        GeneratedFile generated = rendering.file;
         Path path = new File(generated.uri).toPath();
         if (path.isAbsolute()) {
           // Nothing to do
@@ -367,8 +409,12 @@ public class Processor extends AbstractProcessor {
           return;
         }
         File file = path.toFile();
+        if (rendering.cached && file.exists()) {
+          // Unchanged since the previous compilation
+          return;
+        }
         Helper.ensureParentDir(file);
-        String content = generated.generate();
+        String content = rendering.content();
         if (content.length() > 0) {
           try (FileWriter fileWriter = new FileWriter(file)) {
             fileWriter.write(content);
@@ -380,10 +426,81 @@ public class Processor extends AbstractProcessor {
           processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generated model " + generated.get(0).model.getFqn() + ": " + generated.uri);
         }
       });
+      if (cache != null) {
+        try {
+          cache.save();
+        } catch (IOException e) {
+          log.log(Level.SEVERE, "Could not save codegen cache", e);
+          processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to save the codegen cache: " + e.getMessage());
+        }
+      }
     }
     return true;
   }
 
+  /**
+   * Prepare the rendering of the generated files, the returned list preserves the iteration order of {@code files}.
+   * <p/>
+   * When the {@code codegen.parallelism} option is greater than one, the files whose generators are all
+   * {@link Generator#concurrent} are rendered upfront on a fork join pool, the other files are rendered on the processing
+   * thread when their content is requested. Writing the content remains the responsibility of the caller, this keeps
+   * the {@link Filer} interactions on the processing thread and in the same order than the sequential mode.
+   * <p/>
+   * When the {@code codegen.cache} option is set, the files whose fingerprint is unchanged since the previous
+   * compilation reuse the cached content and are not rendered.
+   *
+   * @param kind the kind of files
+   * @param files the files to render
+   * @return the renderings
+   */
+  private List<Rendering> render(int kind, Collection<GeneratedFile> files) {
+    Fingerprinter fingerprinter = cache != null ? new Fingerprinter(processingEnv, cacheSalt) : null;
+    List<Rendering> renderings = new ArrayList<>(files.size());
+    for (GeneratedFile file : files) {
+      Rendering rendering = new Rendering(file);
+      if (fingerprinter != null) {
+        rendering.key = kind + ":" + file.uri;
+        try {
+          rendering.fingerprint = file.fingerprint(fingerprinter);
+        } catch (RuntimeException e) {
+          // Not cacheable
+          log.log(Level.FINE, "Could not compute the fingerprint of " + file.uri, e);
+        }
+        if (rendering.fingerprint != null) {
+          String content = cache.get(rendering.key, rendering.fingerprint);
+          if (content != null) {
+            rendering.content = content;
+            rendering.cached = true;
+            rendering.done = true;
+          }
+        }
+      }
+      renderings.add(rendering);
+    }
+    if (parallelism > 1) {
+      List<Rendering> concurrent = new ArrayList<>();
+      for (Rendering rendering : renderings) {
+        if (!rendering.done && rendering.file.isConcurrent()) {
+          concurrent.add(rendering);
+        }
+      }
+      if (concurrent.size() > 1) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+          pool.submit(() -> concurrent.parallelStream().forEach(Rendering::run)).get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+          // Failures are captured by each rendering, this should not happen
+          throw new RuntimeException(e.getCause());
+        } finally {
+          pool.shutdown();
+        }
+      }
+    }
+    return renderings;
+  }
+
   private void reportGenException(GenException e) {
     String name = e.element.toString();
     if (e.element.getKind() == ElementKind.METHOD) {
@@ -409,6 +526,45 @@ public class Processor extends AbstractProcessor {
     }
   }
 
+  private class Rendering {
+
+    private final GeneratedFile file;
+    private String key;
+    private String fingerprint;
+    private boolean cached;
+    private boolean done;
+    private String content;
+    private RuntimeException failure;
+
+    Rendering(GeneratedFile file) {
+      // Sort on the processing thread, it reads the model elements
+      file.sort();
+      this.file = file;
+    }
+
+    void run() {
+      try {
+        content = file.generate();
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+      done = true;
+    }
+
+    String content() {
+      if (!done) {
+        run();
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      if (fingerprint != null && !cached) {
+        cache.put(key, fingerprint, content);
+      }
+      return content;
+    }
+  }
+
   private static class GeneratedFile extends ArrayList<ModelProcessing> {
 
     private final String uri;
@@ -428,10 +584,40 @@ public class Processor extends AbstractProcessor {
       return super.add(modelProcessing);
     }
 
-    String generate() {
+    void sort() {
       Collections.sort(this, (o1, o2) ->
         o1.model.getElement().getSimpleName().toString().compareTo(
           o2.model.getElement().getSimpleName().toString()));
+    }
+
+    Element[] originatingElements() {
+      Element[] elements = new Element[size()];
+      for (int i = 0;i < elements.length;i++) {
+        elements[i] = get(i).model.getElement();
+      }
+      return elements;
+    }
+
+    String fingerprint(Fingerprinter fingerprinter) {
+      List<Model> models = new ArrayList<>(size());
+      List<Generator<?>> generators = new ArrayList<>(size());
+      for (ModelProcessing processing : this) {
+        models.add(processing.model);
+        generators.add(processing.generator);
+      }
+      return fingerprinter.fingerprint(models, generators);
+    }
+
+    boolean isConcurrent() {
+      for (ModelProcessing processing : this) {
+        if (!processing.generator.concurrent) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    String generate() {
       StringBuilder buffer = new StringBuilder();
       for (int i = 0; i < size(); i++) {
         ModelProcessing processing = get(i);
@@ -140,6 +140,13 @@ public class PropertyInfo {
     return kind == PropertyKind.MAP;
   }
 
+  /**
+   * @return true if the property is managed by a primitive array, e.g {@code int[]}
+   */
+  public boolean isArray() {
+    return kind == PropertyKind.ARRAY;
+  }
+
   /**
    * @return true if the property has a setter method
    */
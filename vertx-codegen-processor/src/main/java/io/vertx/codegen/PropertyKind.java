@@ -31,7 +31,12 @@ public enum PropertyKind {
   /**
    * The property is a map with a setter and optionally a getter.
    */
-  MAP;
+  MAP,
+
+  /**
+   * The property is a primitive array ({@code int[]}, {@code long[]} or {@code double[]}) with a setter and optionally a getter.
+   */
+  ARRAY;
 
   /**
    * @return true if the property kind is a list
@@ -54,6 +59,13 @@ public enum PropertyKind {
     return this == MAP;
   }
 
+  /**
+   * @return true if the property kind is a primitive array
+   */
+  public boolean isArray() {
+    return this == ARRAY;
+  }
+
   /**
    * @return true if the property kind is a single value
    */
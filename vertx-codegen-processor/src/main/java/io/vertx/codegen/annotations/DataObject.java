@@ -53,7 +53,22 @@ import java.lang.annotation.Target;
  * generated methods only handle the conversion of the property of the data object and do not handle the properties of the
  * ancestors of this data object, {@link #inheritConverter()} can be set to true to change this behavior and handle the
  * conversion of the inherited properties as well. The converter generation can be prevented with the
- * {@link #generateConverter()} annotation member.
+ * {@link #generateConverter()} annotation member.<p/>
+ *
+ * When {@link #streamingConverter()} is set to true, the converter also provides {@code fromJson(JsonParser,T)} and
+ * {@code toJson(T,JsonGenerator)} methods that read and write the data object directly against the Jackson streaming
+ * API, without building an intermediate {@link io.vertx.core.json.JsonObject}. A concrete data object with an empty
+ * constructor also gets a {@code fromJson(JsonParser)} method. Nested data objects that also declare a streaming
+ * converter are read and written with the streaming methods of their own converter.<p/>
+ *
+ * When {@link #copyConverter()} is set to true, the converter also provides {@code copy(T,T)} and {@code copy(T)} methods
+ * that deep copy the properties handled by the converter from getters to setters/adders, nested data objects are copied
+ * with the {@code copy(T)} method of their own converter.<p/>
+ *
+ * When {@link #transferJsonOwnership()} is set to true, the {@code fromJson} method of the converter sets the
+ * {@link io.vertx.core.json.JsonObject} and {@link io.vertx.core.json.JsonArray} values of the json argument on the
+ * data object instead of copies of them: the data object takes the ownership of these values, the caller must not
+ * modify them after the conversion.
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -76,6 +91,21 @@ public @interface DataObject {
    */
   boolean publicConverter() default true;
 
+  /**
+   * @return true if the generated converter should also provide Jackson streaming methods
+   */
+  boolean streamingConverter() default false;
+
+  /**
+   * @return true if the generated converter should also provide deep copy methods
+   */
+  boolean copyConverter() default false;
+
+  /**
+   * @return true if the generated converter should adopt the json values instead of copying them
+   */
+  boolean transferJsonOwnership() default false;
+
   /**
    * @return todo
    */
@@ -12,6 +12,10 @@ public class ArrayTypeInfo extends TypeInfo {
     this.nullable = nullable;
   }
 
+  public TypeInfo getComponentType() {
+    return componentType;
+  }
+
   @Override
   public boolean isNullable() {
     return nullable;
@@ -34,6 +38,12 @@ public class ArrayTypeInfo extends TypeInfo {
 
   @Override
   public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof ArrayTypeInfo) {
+      return componentType.equals(((ArrayTypeInfo) obj).componentType);
+    }
     return false;
   }
 
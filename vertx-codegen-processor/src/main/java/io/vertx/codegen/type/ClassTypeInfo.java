@@ -97,6 +97,9 @@ public class ClassTypeInfo extends TypeInfo {
 
   @Override
   public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
     if (obj instanceof io.vertx.codegen.type.ClassTypeInfo) {
       return name.equals(((io.vertx.codegen.type.ClassTypeInfo) obj).name);
     }
@@ -13,17 +13,60 @@ public class DataObjectInfo {
   private final boolean annotated;
   private final MapperInfo serializer;
   private final MapperInfo deserializer;
+  private final boolean copyConverter;
+  private final boolean streamingConverter;
+  private final boolean publicConverter;
+  private final boolean emptyConstructor;
 
   public DataObjectInfo(boolean annotated, MapperInfo serializer, MapperInfo deserializer) {
+    this(annotated, serializer, deserializer, false, false, false, false);
+  }
+
+  public DataObjectInfo(boolean annotated, MapperInfo serializer, MapperInfo deserializer, boolean copyConverter,
+                        boolean streamingConverter, boolean publicConverter, boolean emptyConstructor) {
     this.annotated = annotated;
     this.serializer = serializer;
     this.deserializer = deserializer;
+    this.copyConverter = copyConverter;
+    this.streamingConverter = streamingConverter;
+    this.publicConverter = publicConverter;
+    this.emptyConstructor = emptyConstructor;
   }
 
   public boolean isAnnotated() {
     return annotated;
   }
 
+  /**
+   * @return whether the generated converter of the annotated data object provides a {@code copy(T)} method, i.e the
+   *         data object is a concrete class with a public empty constructor declaring a generated copy converter
+   */
+  public boolean hasCopyConverter() {
+    return copyConverter;
+  }
+
+  /**
+   * @return whether the generated converter of the annotated data object provides the {@code toJson(T, JsonGenerator)}
+   *         and {@code fromJson(JsonParser, T)} streaming methods
+   */
+  public boolean hasStreamingConverter() {
+    return streamingConverter;
+  }
+
+  /**
+   * @return whether the annotated data object is a concrete class with a public empty constructor
+   */
+  public boolean hasEmptyConstructor() {
+    return emptyConstructor;
+  }
+
+  /**
+   * @return whether the generated converter of the annotated data object is public
+   */
+  public boolean isPublicConverter() {
+    return publicConverter;
+  }
+
   public TypeInfo getJsonType() {
     return deserializer != null ? deserializer.getJsonType() : serializer.getJsonType();
   }
@@ -4,6 +4,7 @@ import io.vertx.codegen.ModuleInfo;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -11,14 +12,21 @@ import java.util.List;
 public class EnumTypeInfo extends ClassTypeInfo {
 
   final List<String> values;
+  final Map<String, List<AnnotationValueInfo>> valueAnnotations;
   final boolean gen;
 
   public EnumTypeInfo(String fqcn, boolean gen, List<String> values, 
 		  ModuleInfo module, boolean nullable, DataObjectInfo dataObject) {
+    this(fqcn, gen, values, Collections.emptyMap(), module, nullable, dataObject);
+  }
+
+  public EnumTypeInfo(String fqcn, boolean gen, List<String> values, Map<String, List<AnnotationValueInfo>> valueAnnotations,
+                      ModuleInfo module, boolean nullable, DataObjectInfo dataObject) {
     super(ClassKind.ENUM, fqcn, module, nullable, Collections.emptyList(), dataObject);
 
     this.gen = gen;
     this.values = values;
+    this.valueAnnotations = valueAnnotations;
   }
 
   /**
@@ -34,4 +42,12 @@ public class EnumTypeInfo extends ClassTypeInfo {
   public List<String> getValues() {
     return values;
   }
+
+  /**
+   * @param value the enum value
+   * @return the annotations of the enum {@code value}, empty when the type was not created from the source
+   */
+  public List<AnnotationValueInfo> getValueAnnotations(String value) {
+    return valueAnnotations.getOrDefault(value, Collections.emptyList());
+  }
 }
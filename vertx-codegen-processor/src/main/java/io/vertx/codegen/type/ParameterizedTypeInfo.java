@@ -61,6 +61,9 @@ public class ParameterizedTypeInfo extends TypeInfo {
 
   @Override
   public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
     if (obj instanceof io.vertx.codegen.type.ParameterizedTypeInfo) {
       io.vertx.codegen.type.ParameterizedTypeInfo that = (io.vertx.codegen.type.ParameterizedTypeInfo) obj;
       return raw.equals(that.raw) && args.equals(that.args);
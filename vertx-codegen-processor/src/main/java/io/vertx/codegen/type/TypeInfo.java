@@ -9,10 +9,18 @@ import java.util.Collection;
  */
 public abstract class TypeInfo {
 
+  private int hashCode;
+
   public abstract boolean equals(Object obj);
 
   public int hashCode() {
-    return toString().hashCode();
+    // Type infos are immutable
+    int h = hashCode;
+    if (h == 0) {
+      h = toString().hashCode();
+      hashCode = h;
+    }
+    return h;
   }
 
   /**
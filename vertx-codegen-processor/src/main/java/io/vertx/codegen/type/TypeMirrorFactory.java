@@ -7,6 +7,7 @@ import io.vertx.codegen.annotations.VertxGen;
 
 import javax.lang.model.element.*;
 import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.util.ArrayList;
@@ -17,6 +18,10 @@ import java.util.Map;
 
 /**
  * Type info factory based on <i>javax.lang.model</i> and type mirrors.
+ * <p/>
+ * Class, enum, api and parameterized type infos are interned by the factory: creating twice the same declared type
+ * with the same nullability returns the same instance. Parameterized types with type variable, array or error type
+ * arguments are not interned.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -30,10 +35,18 @@ public class TypeMirrorFactory {
   final Types typeUtils;
   final Map<String, MapperInfo> serializers = new HashMap<>();
   final Map<String, MapperInfo> deserializers = new HashMap<>();
+  final ModuleInfo.Cache modules;
+  private final Map<String, TypeInfo> declaredTypes = new HashMap<>();
+  private final Map<ParameterizedKey, ParameterizedTypeInfo> parameterizedTypes = new HashMap<>();
 
   public TypeMirrorFactory(Elements elementUtils, Types typeUtils) {
+    this(elementUtils, typeUtils, new ModuleInfo.Cache(elementUtils));
+  }
+
+  public TypeMirrorFactory(Elements elementUtils, Types typeUtils, ModuleInfo.Cache modules) {
     this.elementUtils = elementUtils;
     this.typeUtils = typeUtils;
+    this.modules = modules;
   }
 
   public void addDataObjectDeserializer(Element elt, TypeMirror dataObjectType, MapperInfo mapper) {
@@ -42,6 +55,7 @@ public class TypeMirrorFactory {
       throw new GenException(elt, "Mapper cannot declare mixed JSON types");
     }
     deserializers.putIfAbsent(key, mapper);
+    clearInternedTypes();
   }
 
   public void addDataObjectSerializer(Element elt, TypeMirror dataObjectType, MapperInfo mapper) {
@@ -50,6 +64,13 @@ public class TypeMirrorFactory {
       throw new GenException(elt, "Mapper cannot declare mixed JSON types " + deserializers.get(key).getJsonType() + " " + mapper.getJsonType());
     }
     serializers.putIfAbsent(key, mapper);
+    clearInternedTypes();
+  }
+
+  private void clearInternedTypes() {
+    // Mappers change the data object info of the types
+    declaredTypes.clear();
+    parameterizedTypes.clear();
   }
 
   public TypeInfo create(TypeMirror type) {
@@ -94,16 +115,44 @@ public class TypeMirrorFactory {
 
   public TypeInfo create(TypeUse use, DeclaredType type, boolean checkTypeArgs) {
     boolean nullable = use != null && use.isNullable();
+    if (type.getKind() != TypeKind.DECLARED) {
+      // Error types
+      return createDeclared(use, nullable, type, checkTypeArgs);
+    }
+    if (checkTypeArgs && type.getTypeArguments().size() > 0) {
+      return createDeclared(use, nullable, type, true);
+    }
+    String key = nullable ? "?" + type : type.toString();
+    TypeInfo typeInfo = declaredTypes.get(key);
+    if (typeInfo == null) {
+      typeInfo = createDeclared(use, nullable, type, checkTypeArgs);
+      declaredTypes.put(key, typeInfo);
+    }
+    return typeInfo;
+  }
+
+  private TypeInfo createDeclared(TypeUse use, boolean nullable, DeclaredType type, boolean checkTypeArgs) {
     TypeElement elt = (TypeElement) type.asElement();
     PackageElement pkgElt = elementUtils.getPackageOf(elt);
-    ModuleInfo module = ModuleInfo.resolve(elementUtils, pkgElt);
+    ModuleInfo module = modules.resolve(pkgElt);
     String fqcn = elt.getQualifiedName().toString();
     boolean proxyGen = elt.getAnnotation(ProxyGen.class) != null;
     if (elt.getKind() == ElementKind.ENUM) {
       ArrayList<String> values = new ArrayList<>();
+      Map<String, List<AnnotationValueInfo>> valueAnnotations = new HashMap<>();
       for (Element enclosedElt : elt.getEnclosedElements()) {
         if (enclosedElt.getKind() == ElementKind.ENUM_CONSTANT) {
-          values.add(enclosedElt.getSimpleName().toString());
+          String value = enclosedElt.getSimpleName().toString();
+          values.add(value);
+          List<? extends AnnotationMirror> annotationMirrors = enclosedElt.getAnnotationMirrors();
+          if (!annotationMirrors.isEmpty()) {
+            AnnotationValueInfoFactory annotationFactory = new AnnotationValueInfoFactory(this);
+            List<AnnotationValueInfo> annotations = new ArrayList<>(annotationMirrors.size());
+            for (AnnotationMirror annotationMirror : annotationMirrors) {
+              annotations.add(annotationFactory.processAnnotation(annotationMirror));
+            }
+            valueAnnotations.put(value, annotations);
+          }
         }
       }
       boolean gen = elt.getAnnotation(VertxGen.class) != null;
@@ -113,21 +162,27 @@ public class TypeMirrorFactory {
       if (serializer != null || deserializer != null) {
         dataObject = new DataObjectInfo(false, serializer, deserializer);
       }
-      return new EnumTypeInfo(fqcn, gen, values, module, nullable, dataObject);
+      return new EnumTypeInfo(fqcn, gen, values, valueAnnotations, module, nullable, dataObject);
     } else {
       ClassKind kind = ClassKind.getKind(fqcn, elt.getAnnotation(VertxGen.class) != null);
       List<? extends TypeMirror> typeArgs = type.getTypeArguments();
       if (checkTypeArgs && typeArgs.size() > 0) {
         List<TypeInfo> typeArguments;
         typeArguments = new ArrayList<>(typeArgs.size());
+        boolean interned = true;
         for (int i = 0; i < typeArgs.size(); i++) {
           TypeUse argUse = use != null ? use.getArg(fqcn, i) : null;
           TypeInfo typeArgDesc = create(argUse, typeArgs.get(i));
           // Need to check it is an interface type
           typeArguments.add(typeArgDesc);
+          interned &= isInterned(typeArgs.get(i));
         }
         ClassTypeInfo raw = (ClassTypeInfo) create(null, (DeclaredType) type.asElement().asType(), false);
-        return new ParameterizedTypeInfo(raw, nullable, typeArguments);
+        if (!interned) {
+          // The key compares the arguments by identity, it would never be hit again
+          return new ParameterizedTypeInfo(raw, nullable, typeArguments);
+        }
+        return parameterizedTypes.computeIfAbsent(new ParameterizedKey(raw, nullable, typeArguments), k -> new ParameterizedTypeInfo(raw, nullable, typeArguments));
       } else {
         ClassTypeInfo raw;
         if (kind == ClassKind.BOXED_PRIMITIVE) {
@@ -164,7 +219,12 @@ public class TypeMirrorFactory {
                 deserializer.setTargetType(STRING);
               }
             }
-            dataObject = new DataObjectInfo(true, serializer, deserializer);
+            DataObject ann = elt.getAnnotation(DataObject.class);
+            boolean emptyConstructor = Helper.isConcreteClass(elt) &&
+              ElementFilter.constructorsIn(elt.getEnclosedElements()).stream().anyMatch(ctor -> ctor.getParameters().isEmpty() && ctor.getModifiers().contains(Modifier.PUBLIC));
+            boolean copyConverter = ann.generateConverter() && ann.copyConverter() && emptyConstructor;
+            boolean streamingConverter = ann.generateConverter() && ann.streamingConverter();
+            dataObject = new DataObjectInfo(true, serializer, deserializer, copyConverter, streamingConverter, ann.publicConverter(), emptyConstructor);
           } else if (serializer != null || deserializer != null) {
             dataObject = new DataObjectInfo(false, serializer, deserializer);
           }
@@ -209,6 +269,67 @@ public class TypeMirrorFactory {
     return new ArrayTypeInfo(create(componentType), use != null && use.isNullable());
   }
 
+  /**
+   * @return whether the type info created for a type argument is interned, i.e. a declared type whose type arguments
+   *         are themselves interned
+   */
+  private static boolean isInterned(TypeMirror type) {
+    if (type.getKind() != TypeKind.DECLARED) {
+      return false;
+    }
+    for (TypeMirror typeArg : ((DeclaredType) type).getTypeArguments()) {
+      if (!isInterned(typeArg)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Key of an interned parameterized type, the raw type and the type arguments are interned and compared by identity
+   * since {@link TypeInfo#equals} does not account for nullability.
+   */
+  private static class ParameterizedKey {
+
+    private final ClassTypeInfo raw;
+    private final boolean nullable;
+    private final List<TypeInfo> args;
+    private final int hashCode;
+
+    ParameterizedKey(ClassTypeInfo raw, boolean nullable, List<TypeInfo> args) {
+      int hashCode = System.identityHashCode(raw) * 31 + Boolean.hashCode(nullable);
+      for (TypeInfo arg : args) {
+        hashCode = hashCode * 31 + System.identityHashCode(arg);
+      }
+      this.raw = raw;
+      this.nullable = nullable;
+      this.args = args;
+      this.hashCode = hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof ParameterizedKey) {
+        ParameterizedKey that = (ParameterizedKey) obj;
+        if (raw != that.raw || nullable != that.nullable || args.size() != that.args.size()) {
+          return false;
+        }
+        for (int i = 0;i < args.size();i++) {
+          if (args.get(i) != that.args.get(i)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
   private List<TypeParamInfo.Class> createTypeParams(DeclaredType type) {
     List<TypeParamInfo.Class> typeParams = new ArrayList<>();
     TypeElement elt = (TypeElement) type.asElement();
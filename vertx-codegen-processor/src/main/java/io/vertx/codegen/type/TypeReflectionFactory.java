@@ -81,10 +81,15 @@ public class TypeReflectionFactory {
             return new ApiTypeInfo(fqcn, true, typeParams, handlerArg != null ? create(handlerArg) : null, module, false, false, null);
           } else {
             DataObjectInfo dataObject;
-            if (classType.getDeclaredAnnotation(DataObject.class) != null) {
+            DataObject ann = classType.getDeclaredAnnotation(DataObject.class);
+            if (ann != null) {
               MapperInfo serializer = getDataObjectSerializer(classType);
               MapperInfo deserializer = getDataObjectDeserializer(classType);
-              dataObject = new DataObjectInfo(true, serializer, deserializer);
+              boolean emptyConstructor = !classType.isInterface() && !Modifier.isAbstract(classType.getModifiers()) &&
+                Arrays.stream(classType.getConstructors()).anyMatch(ctor -> ctor.getParameterCount() == 0);
+              boolean copyConverter = ann.generateConverter() && ann.copyConverter() && emptyConstructor;
+              boolean streamingConverter = ann.generateConverter() && ann.streamingConverter();
+              dataObject = new DataObjectInfo(true, serializer, deserializer, copyConverter, streamingConverter, ann.publicConverter(), emptyConstructor);
             } else {
               dataObject = null;
             }
@@ -1,7 +1,10 @@
 package io.vertx.codegen.writer;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,6 +19,14 @@ public class CodeWriter extends PrintWriter {
   private int indentSize = 2;
   private int indent = 0;
   private boolean first = true;
+  private String[] indentations = new String[8];
+
+  /**
+   * Create a writer backed by an unsynchronized buffer, the content is obtained with {@code writer().toString()}.
+   */
+  public CodeWriter() {
+    this(new Buffer());
+  }
 
   public CodeWriter(Writer out) {
     super(out);
@@ -45,7 +56,10 @@ public class CodeWriter extends PrintWriter {
     if (size < 0) {
       throw new IllegalArgumentException();
     }
-    indentSize = size;
+    if (size != indentSize) {
+      indentSize = size;
+      Arrays.fill(indentations, null);
+    }
     return this;
   }
 
@@ -53,11 +67,17 @@ public class CodeWriter extends PrintWriter {
    * @return the current indentation string
    */
   public String indentation() {
-    StringBuilder sb = new StringBuilder();
-    for (int i = 0;i < indent * indentSize;i++) {
-      sb.append(' ');
+    if (indent >= indentations.length) {
+      indentations = Arrays.copyOf(indentations, Math.max(indent + 1, indentations.length * 2));
+    }
+    String indentation = indentations[indent];
+    if (indentation == null) {
+      char[] spaces = new char[indent * indentSize];
+      Arrays.fill(spaces, ' ');
+      indentation = new String(spaces);
+      indentations[indent] = indentation;
     }
-    return sb.toString();
+    return indentation;
   }
 
   /**
@@ -161,8 +181,21 @@ public class CodeWriter extends PrintWriter {
 
   @Override
   public void write(String s, int off, int len) {
-    for (int i = 0;i < len;i++) {
-      write(s.charAt(off + i));
+    // Write the indentation followed by whole line segments
+    int end = off + len;
+    while (off < end) {
+      if (first && s.charAt(off) != '\n') {
+        first = false;
+        writeIndentation();
+      }
+      int idx = s.indexOf('\n', off);
+      if (idx == -1 || idx >= end) {
+        writeOut(s, off, end - off);
+        break;
+      }
+      writeOut(s, off, idx + 1 - off);
+      first = true;
+      off = idx + 1;
     }
   }
 
@@ -172,13 +205,37 @@ public class CodeWriter extends PrintWriter {
       first = true;
     } else if (first) {
       first = false;
-      for (int i = 0; i < indent * indentSize; i++) {
-        super.write(' ');
-      }
+      writeIndentation();
     }
     super.write(c);
   }
 
+  private void writeIndentation() {
+    if (indent > 0 && indentSize > 0) {
+      String indentation = indentation();
+      writeOut(indentation, 0, indentation.length());
+    }
+  }
+
+  /**
+   * Write directly to the underlying writer without the {@link PrintWriter} lock, a code writer is not meant
+   * to be shared between threads.
+   */
+  private void writeOut(String s, int off, int len) {
+    if (out == null) {
+      // Closed
+      setError();
+      return;
+    }
+    try {
+      out.write(s, off, len);
+    } catch (InterruptedIOException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      setError();
+    }
+  }
+
   @Override
   public CodeWriter append(CharSequence csq) {
     return (CodeWriter) super.append(csq);
@@ -203,4 +260,63 @@ public class CodeWriter extends PrintWriter {
   public CodeWriter format(Locale l, String format, Object... args) {
     return (CodeWriter) super.format(l, format, args);
   }
+
+  /**
+   * Unsynchronized {@link StringBuilder} backed writer.
+   */
+  private static class Buffer extends Writer {
+
+    private final StringBuilder sb = new StringBuilder(1024);
+
+    @Override
+    public void write(int c) {
+      sb.append((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+      sb.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str) {
+      sb.append(str);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      sb.append(str, off, off + len);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) {
+      sb.append(csq);
+      return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) {
+      sb.append(csq, start, end);
+      return this;
+    }
+
+    @Override
+    public Writer append(char c) {
+      sb.append(c);
+      return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+      return sb.toString();
+    }
+  }
 }
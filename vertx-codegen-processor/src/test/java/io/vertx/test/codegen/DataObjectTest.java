@@ -63,6 +63,9 @@ public class DataObjectTest {
     assertFalse(model.getGenerateConverter());
     assertFalse(model.getInheritConverter());
     assertTrue(model.isPublicConverter());
+    assertFalse(model.getStreamingConverter());
+    assertFalse(model.getCopyConverter());
+    assertFalse(model.getTransferJsonOwnership());
     try {
       EmptyDataObject.class.getConstructor();
       fail();
@@ -171,6 +174,24 @@ public class DataObjectTest {
     testPropertyCollectionGettersSetters(PropertySetGettersSetters.class, PropertyKind.SET);
   }
 
+  @Test
+  public void testPropertyArrayGettersSetters() throws Exception {
+    DataObjectModel model = new GeneratorHelper().generateDataObject(PropertyArrayGettersSetters.class);
+    assertNotNull(model);
+    assertEquals(3, model.getPropertyMap().size());
+    assertProperty(model.getPropertyMap().get("ints"), "ints", "setInts", null, "getInts", TypeReflectionFactory.create(int.class), true, PropertyKind.ARRAY, true);
+    assertProperty(model.getPropertyMap().get("longs"), "longs", "setLongs", null, "getLongs", TypeReflectionFactory.create(long.class), true, PropertyKind.ARRAY, true);
+    assertProperty(model.getPropertyMap().get("doubles"), "doubles", "setDoubles", null, "getDoubles", TypeReflectionFactory.create(double.class), true, PropertyKind.ARRAY, true);
+  }
+
+  @Test
+  public void testPropertyBinaryGetterSetter() throws Exception {
+    DataObjectModel model = new GeneratorHelper().generateDataObject(PropertyBinaryGetterSetter.class);
+    assertNotNull(model);
+    assertEquals(1, model.getPropertyMap().size());
+    assertProperty(model.getPropertyMap().get("bytes"), "bytes", "setBytes", null, "getBytes", new ArrayTypeInfo(TypeReflectionFactory.create(byte.class), false), true, PropertyKind.VALUE, false);
+  }
+
   private void testPropertyCollectionGettersSetters(Class<?> dataObjectClass, PropertyKind expectedKind) throws Exception {
     DataObjectModel model = new GeneratorHelper()
       .registerConverter(ApiObjectWithMapper.class, ApiObjectWithMapper.class, "fromJson")
@@ -628,6 +649,20 @@ public class DataObjectTest {
     assertFalse(model.isPublicConverter());
   }
 
+  @Test
+  public void testStreamingConverterDataObject() throws Exception {
+    DataObjectModel model = new GeneratorHelper().generateDataObject(StreamingConverterDataObject.class);
+    assertTrue(model.getGenerateConverter());
+    assertTrue(model.getStreamingConverter());
+  }
+
+  @Test
+  public void testCopyConverterDataObject() throws Exception {
+    DataObjectModel model = new GeneratorHelper().generateDataObject(CopyConverterDataObject.class);
+    assertTrue(model.getGenerateConverter());
+    assertTrue(model.getCopyConverter());
+  }
+
   @Test
   public void testNoConverterDataObject() throws Exception {
     DataObjectModel model = new GeneratorHelper().generateDataObject(NoConverterDataObject.class);
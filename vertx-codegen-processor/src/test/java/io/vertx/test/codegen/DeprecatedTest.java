@@ -9,6 +9,8 @@ import io.vertx.test.codegen.testenum.DeprecatedEnum;
 import io.vertx.test.codegen.testenum.ValidEnum;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.junit.Assert.*;
 
 public class DeprecatedTest {
@@ -95,6 +97,9 @@ public class DeprecatedTest {
     assertNotNull(model.getValues().get(0).getDeprecatedDesc());
     assertEquals(model.getValues().get(0).getDeprecatedDesc().getValue(), "enum item deprecated info");
     assertFalse(model.getValues().get(1).isDeprecated());
+    assertEquals(1, model.getType().getValueAnnotations("B").size());
+    assertEquals(Deprecated.class.getName(), model.getType().getValueAnnotations("B").get(0).getName());
+    assertEquals(Collections.emptyList(), model.getType().getValueAnnotations("A"));
   }
 
   @Test
@@ -170,6 +170,23 @@ public class HelperTest {
     });
   }
 
+  @Test
+  public void testGetReflectMethod() throws Exception {
+    Utils.assertProcess((processingEnv, roundEnv) -> {
+      ClassLoader loader = HelperTest.class.getClassLoader();
+      ExecutableElement getElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.util.List#get(int)");
+      ExecutableElement containsAllElt = (ExecutableElement) Helper.resolveSignature(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), null, "java.util.List#containsAll(java.util.Collection)");
+      try {
+        assertEquals(java.util.List.class.getMethod("get", int.class), Helper.getReflectMethod(loader, getElt));
+        assertEquals(java.util.List.class.getMethod("containsAll", java.util.Collection.class), Helper.getReflectMethod(loader, containsAllElt));
+      } catch (NoSuchMethodException e) {
+        fail(e.getMessage());
+      }
+      // Cached
+      assertSame(Helper.getReflectMethod(loader, getElt), Helper.getReflectMethod(loader, getElt));
+    });
+  }
+
   @Test
   public void testUnresolveSignatures() throws Exception {
     Utils.assertProcess((processingEnv, roundEnv) -> {
@@ -2,6 +2,7 @@ package io.vertx.test.codegen;
 
 import io.vertx.codegen.ClassModel;
 import io.vertx.codegen.GenException;
+import io.vertx.codegen.ModuleInfo;
 import io.vertx.codegen.ModuleModel;
 import io.vertx.codegen.DataObjectModel;
 import io.vertx.codegen.type.ApiTypeInfo;
@@ -19,6 +20,9 @@ import io.vertx.test.codegen.testmodule.vertx.core.VertxCoreModuleScopedApi;
 import io.vertx.test.codegen.testmodule.vertx.other.VertxOtherModuleScopedApi;
 import org.junit.Test;
 
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.util.Elements;
+
 import static org.junit.Assert.*;
 
 /**
@@ -38,6 +42,23 @@ public class ModuleTest {
     assertEquals("io.vertx.test.groovy.codegen.testmodule.modulescoped", model.getModule().translatePackageName("groovy"));
   }
 
+  @Test
+  public void testModuleInfoCache() throws Exception {
+    Utils.assertProcess((processingEnv, roundEnv) -> {
+      Elements elementUtils = processingEnv.getElementUtils();
+      ModuleInfo.Cache cache = new ModuleInfo.Cache(elementUtils);
+      ModuleInfo module = cache.resolve(elementUtils.getPackageElement("io.vertx.test.codegen.testmodule.modulescoped.sub"));
+      assertNotNull(module);
+      assertEquals("io.vertx.test.codegen.testmodule.modulescoped", module.getPackageName());
+      assertEquals("simple", module.getName());
+      assertSame(module, cache.resolve(elementUtils.getPackageElement("io.vertx.test.codegen.testmodule.modulescoped")));
+      PackageElement noModulePkg = elementUtils.getPackageElement("io.vertx.test.codegen.testmodule.nomodule");
+      assertNull(ModuleInfo.resolve(elementUtils, noModulePkg));
+      assertNull(cache.resolve(noModulePkg));
+      assertNull(cache.resolve(noModulePkg));
+    });
+  }
+
   @Test
   public void testNestedModuleModel() throws Exception {
     ModuleModel module = new GeneratorHelper().generateModule(ModuleTest.class.getClassLoader(), "io.vertx.test.codegen.testmodule.nestingmodule.nestedmodule");
@@ -12,6 +12,8 @@ import io.vertx.test.codegen.testtype.*;
 import org.junit.Test;
 
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -300,6 +302,26 @@ public class TypeInfoTest {
     });
   }
 
+  @Test
+  public void testInterning() throws Exception {
+    Utils.assertProcess((proc, env) -> {
+      TypeMirrorFactory factory = new TypeMirrorFactory(proc.getElementUtils(), proc.getTypeUtils());
+      TypeElement stringElt = proc.getElementUtils().getTypeElement("java.lang.String");
+      TypeElement listElt = proc.getElementUtils().getTypeElement("java.util.List");
+      TypeInfo string = factory.create(stringElt.asType());
+      assertSame(string, factory.create(stringElt.asType()));
+      TypeInfo listOfString = factory.create(proc.getTypeUtils().getDeclaredType(listElt, stringElt.asType()));
+      assertSame(listOfString, factory.create(proc.getTypeUtils().getDeclaredType(listElt, stringElt.asType())));
+      assertSame(string, ((ParameterizedTypeInfo) listOfString).getArg(0));
+      assertNotSame(listOfString, new TypeMirrorFactory(proc.getElementUtils(), proc.getTypeUtils()).create(proc.getTypeUtils().getDeclaredType(listElt, stringElt.asType())));
+      // Array arguments are not interned, neither is the parameterized type
+      TypeMirror intArray = proc.getTypeUtils().getArrayType(proc.getTypeUtils().getPrimitiveType(TypeKind.INT));
+      TypeInfo listOfIntArray = factory.create(proc.getTypeUtils().getDeclaredType(listElt, intArray));
+      assertNotSame(listOfIntArray, factory.create(proc.getTypeUtils().getDeclaredType(listElt, intArray)));
+      assertEquals(listOfIntArray, factory.create(proc.getTypeUtils().getDeclaredType(listElt, intArray)));
+    });
+  }
+
   @Test
   public void testGetErased() {
     abstract class Container<M> implements AsyncResult<List<M>>  {}
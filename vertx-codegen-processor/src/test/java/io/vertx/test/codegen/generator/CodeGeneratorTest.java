@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.Callable;
@@ -144,6 +145,174 @@ public class CodeGeneratorTest {
     assertEquals("custom", props.remove("name"));
   }
 
+  @Test
+  public void testParallelism() throws Exception {
+    Class[] classes = { MethodWithValidVertxGenParams.class, VertxGenClass1.class, VertxGenClass2.class, PropertyGettersSetters.class, ValidEnum.class };
+    File sequential = assertMkDirs(new File(testDir, "sequential"));
+    File parallel = assertMkDirs(new File(testDir, "parallel"));
+    Compiler compiler = new Compiler(new Processor());
+    compiler.addOption("-Acodegen.generators=testgen1");
+    compiler.addOption("-Acodegen.output=" + sequential.getAbsolutePath());
+    assertTrue(compiler.compile(classes));
+    compiler = new Compiler(new Processor());
+    compiler.addOption("-Acodegen.generators=testgen1");
+    compiler.addOption("-Acodegen.output=" + parallel.getAbsolutePath());
+    compiler.addOption("-Acodegen.parallelism=4");
+    assertTrue(compiler.compile(classes));
+    for (Class clazz : classes) {
+      String name = clazz.getName().replace('.', '_') + ".properties";
+      File expected = new File(sequential, name);
+      assertTrue(expected.exists());
+      assertFile(new String(Files.readAllBytes(expected.toPath())), new File(parallel, name));
+    }
+  }
+
+  @Test
+  public void testCache() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    File f = new File(output, VertxGenClass1.class.getName().replace('.', '_') + ".properties");
+    Compiler compiler = new Compiler(new Processor());
+    compiler.addOption("-Acodegen.generators=testgen1");
+    compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+    compiler.addOption("-Acodegen.cache=" + cacheDir.getAbsolutePath());
+    assertTrue(compiler.compile(VertxGenClass1.class));
+    assertTrue(new File(cacheDir, "fingerprints.bin").exists());
+    String expected = new String(Files.readAllBytes(f.toPath()));
+    // Unchanged inputs do not overwrite the file
+    Files.write(f.toPath(), "modified".getBytes());
+    compiler = new Compiler(new Processor());
+    compiler.addOption("-Acodegen.generators=testgen1");
+    compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+    compiler.addOption("-Acodegen.cache=" + cacheDir.getAbsolutePath());
+    assertTrue(compiler.compile(VertxGenClass1.class));
+    assertFile("modified", f);
+    // A missing file is restored from the cache
+    assertTrue(f.delete());
+    compiler = new Compiler(new Processor());
+    compiler.addOption("-Acodegen.generators=testgen1");
+    compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+    compiler.addOption("-Acodegen.cache=" + cacheDir.getAbsolutePath());
+    assertTrue(compiler.compile(VertxGenClass1.class));
+    assertFile(expected, f);
+  }
+
+  @Test
+  public void testCacheReferencedTypeChange() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    File sources = assertMkDirs(new File(testDir, "sources/cachetest"));
+    File f = new File(output, "cachetest_Holder.properties");
+    Files.write(new File(sources, "package-info.java").toPath(),
+      "@io.vertx.codegen.annotations.ModuleGen(name = \"cachetest\", groupPackage = \"cachetest\") package cachetest;".getBytes());
+    writeSource(sources, "Holder", "@io.vertx.codegen.annotations.DataObject public class Holder { " +
+      "public Holder(io.vertx.core.json.JsonObject json) { } " +
+      "public Holder setLevel(Level level) { return this; } " +
+      "public Holder setChild(Child child) { return this; } }");
+    writeSource(sources, "Level", "public enum Level { LOW, HIGH }");
+    writeSource(sources, "Child", "@io.vertx.codegen.annotations.DataObject public class Child { " +
+      "public Child(io.vertx.core.json.JsonObject json) { } " +
+      "public io.vertx.core.json.JsonObject toJson() { return null; } " +
+      "public Child setName(String name) { return this; } }");
+    assertTrue(compileCached(cacheDir, output, sources));
+    // Unchanged inputs do not overwrite the file
+    Files.write(f.toPath(), "modified".getBytes());
+    assertTrue(compileCached(cacheDir, output, sources));
+    assertFile("modified", f);
+    // The constants of a referenced enum are rendered by generators
+    writeSource(sources, "Level", "public enum Level { LOW, MEDIUM, HIGH }");
+    assertTrue(compileCached(cacheDir, output, sources));
+    assertFalse("modified".equals(new String(Files.readAllBytes(f.toPath()))));
+    // The properties of a referenced data object are rendered by generators
+    Files.write(f.toPath(), "modified".getBytes());
+    writeSource(sources, "Child", "@io.vertx.codegen.annotations.DataObject public class Child { " +
+      "public Child(io.vertx.core.json.JsonObject json) { } " +
+      "public io.vertx.core.json.JsonObject toJson() { return null; } " +
+      "public Child setName(String name) { return this; } " +
+      "public Child setAge(int age) { return this; } }");
+    assertTrue(compileCached(cacheDir, output, sources));
+    assertFalse("modified".equals(new String(Files.readAllBytes(f.toPath()))));
+  }
+
+  @Test
+  public void testCacheModuleChange() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    File sources = assertMkDirs(new File(testDir, "sources/cachetest"));
+    File f = new File(output, "cachetest_Holder.properties");
+    Files.write(new File(sources, "package-info.java").toPath(),
+      "@io.vertx.codegen.annotations.ModuleGen(name = \"cachetest\", groupPackage = \"cachetest\") package cachetest;".getBytes());
+    writeSource(sources, "Holder", "@io.vertx.codegen.annotations.DataObject public class Holder { " +
+      "public Holder(io.vertx.core.json.JsonObject json) { } }");
+    assertTrue(compileCached(cacheDir, output, sources));
+    // Unchanged inputs do not overwrite the file
+    Files.write(f.toPath(), "modified".getBytes());
+    assertTrue(compileCached(cacheDir, output, sources));
+    assertFile("modified", f);
+    // The module of a model is rendered by generators
+    Files.write(new File(sources, "package-info.java").toPath(),
+      "@io.vertx.codegen.annotations.ModuleGen(name = \"cachetest-renamed\", groupPackage = \"cachetest\") package cachetest;".getBytes());
+    assertTrue(compileCached(cacheDir, output, sources));
+    assertFalse("modified".equals(new String(Files.readAllBytes(f.toPath()))));
+  }
+
+  @Test
+  public void testCacheOptionChange() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    File sources = assertMkDirs(new File(testDir, "sources/cachetest"));
+    File f = new File(output, "cachetest_Holder.properties");
+    Files.write(new File(sources, "package-info.java").toPath(),
+      "@io.vertx.codegen.annotations.ModuleGen(name = \"cachetest\", groupPackage = \"cachetest\") package cachetest;".getBytes());
+    writeSource(sources, "Holder", "@io.vertx.codegen.annotations.DataObject public class Holder { " +
+      "public Holder(io.vertx.core.json.JsonObject json) { } }");
+    assertTrue(compileCached(cacheDir, output, sources, "-Atestgen.option=a"));
+    // Unchanged inputs do not overwrite the file
+    Files.write(f.toPath(), "modified".getBytes());
+    assertTrue(compileCached(cacheDir, output, sources, "-Atestgen.option=a"));
+    assertFile("modified", f);
+    // Generators may read the processor options
+    assertTrue(compileCached(cacheDir, output, sources, "-Atestgen.option=b"));
+    assertFalse("modified".equals(new String(Files.readAllBytes(f.toPath()))));
+  }
+
+  @Test
+  public void testCacheEviction() throws Exception {
+    File cacheDir = new File(testDir, "cache");
+    File output = assertMkDirs(new File(testDir, "output"));
+    File sources = assertMkDirs(new File(testDir, "sources/cachetest"));
+    File cacheFile = new File(cacheDir, "fingerprints.bin");
+    Files.write(new File(sources, "package-info.java").toPath(),
+      "@io.vertx.codegen.annotations.ModuleGen(name = \"cachetest\", groupPackage = \"cachetest\") package cachetest;".getBytes());
+    writeSource(sources, "Holder", "@io.vertx.codegen.annotations.DataObject public class Holder { " +
+      "public Holder(io.vertx.core.json.JsonObject json) { } }");
+    writeSource(sources, "Removed", "@io.vertx.codegen.annotations.DataObject public class Removed { " +
+      "public Removed(io.vertx.core.json.JsonObject json) { } }");
+    assertTrue(compileCached(cacheDir, output, sources));
+    assertTrue(new String(Files.readAllBytes(cacheFile.toPath())).contains("cachetest_Removed"));
+    // The entries of the files not generated anymore are evicted
+    assertTrue(new File(sources, "Removed.java").delete());
+    assertTrue(compileCached(cacheDir, output, sources));
+    String content = new String(Files.readAllBytes(cacheFile.toPath()));
+    assertTrue(content.contains("cachetest_Holder"));
+    assertFalse(content.contains("cachetest_Removed"));
+  }
+
+  private static void writeSource(File dir, String name, String source) throws Exception {
+    Files.write(new File(dir, name + ".java").toPath(), ("package cachetest; " + source).getBytes());
+  }
+
+  private static boolean compileCached(File cacheDir, File output, File sources, String... options) throws Exception {
+    Compiler compiler = new Compiler(new Processor());
+    compiler.addOption("-Acodegen.generators=testgen1");
+    compiler.addOption("-Acodegen.output=" + output.getAbsolutePath());
+    compiler.addOption("-Acodegen.cache=" + cacheDir.getAbsolutePath());
+    for (String option : options) {
+      compiler.addOption(option);
+    }
+    return compiler.compile(sources.listFiles());
+  }
+
   @Test
   public void testIncrementalClass() throws Exception {
     Compiler compiler = new Compiler(new Processor());
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 public class TestGenerator extends Generator<Model>{
   public TestGenerator(){
     name = "testgen1";
+    concurrent = true;
     kinds = new HashSet<>(Arrays.asList("dataObject", "class", "enum", "module"));
   }
 
@@ -0,0 +1,20 @@
+package io.vertx.test.codegen.testdataobject;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@DataObject(generateConverter = true, copyConverter = true)
+public class CopyConverterDataObject {
+
+  public CopyConverterDataObject() {
+  }
+
+  public CopyConverterDataObject(CopyConverterDataObject other) {
+  }
+
+  public CopyConverterDataObject(JsonObject json) {
+  }
+}
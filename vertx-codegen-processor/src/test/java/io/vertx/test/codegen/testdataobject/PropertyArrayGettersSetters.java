@@ -0,0 +1,27 @@
+package io.vertx.test.codegen.testdataobject;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@DataObject
+public interface PropertyArrayGettersSetters {
+
+  public static PropertyArrayGettersSetters dataObject() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static PropertyArrayGettersSetters dataObjectFromJson(JsonObject obj) {
+    throw new UnsupportedOperationException();
+  }
+
+  int[] getInts();
+  PropertyArrayGettersSetters setInts(int[] i);
+  long[] getLongs();
+  PropertyArrayGettersSetters setLongs(long[] l);
+  double[] getDoubles();
+  PropertyArrayGettersSetters setDoubles(double[] d);
+
+}
@@ -0,0 +1,20 @@
+package io.vertx.test.codegen.testdataobject;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public interface PropertyBinaryGetterSetter {
+
+  public static PropertyBinaryGetterSetter dataObject() {
+    throw new UnsupportedOperationException();
+  }
+
+  public static PropertyBinaryGetterSetter dataObjectFromJson(JsonObject obj) {
+    throw new UnsupportedOperationException();
+  }
+
+  byte[] getBytes();
+  PropertyBinaryGetterSetter setBytes(byte[] b);
+
+}
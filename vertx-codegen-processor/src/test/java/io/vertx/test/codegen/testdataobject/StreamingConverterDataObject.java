@@ -0,0 +1,20 @@
+package io.vertx.test.codegen.testdataobject;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+@DataObject(generateConverter = true, streamingConverter = true)
+public class StreamingConverterDataObject {
+
+  public StreamingConverterDataObject() {
+  }
+
+  public StreamingConverterDataObject(StreamingConverterDataObject other) {
+  }
+
+  public StreamingConverterDataObject(JsonObject json) {
+  }
+}
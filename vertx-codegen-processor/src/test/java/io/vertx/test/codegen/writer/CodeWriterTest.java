@@ -143,6 +143,56 @@ public class CodeWriterTest {
     );
   }
 
+  @Test
+  public void testPrintMultipleLines() {
+    assertWriter(w -> {
+        w.indent().print("\nfoo\n\nbar\n");
+        w.indent().print("juu");
+        w.print('\n');
+        w.print('d');
+      },
+      "\n  foo\n\n  bar\n    juu\n    d"
+    );
+  }
+
+  @Test
+  public void testPrintSubstring() {
+    assertWriter(w -> {
+        w.indent().write("abc\ndef\nghi", 2, 7);
+      },
+      "  c\n  def\n  g"
+    );
+  }
+
+  @Test
+  public void testIndentationSizeChange() {
+    assertWriter(w -> {
+        w.indent().codeln("foo").unindent();
+        w.indentSize(4);
+        w.indent().codeln("bar").unindent();
+      },
+      "  foo\n    bar\n"
+    );
+  }
+
+  @Test
+  public void testDeepIndentation() {
+    CodeWriter writer = assertWriter(w -> {
+      for (int i = 0;i < 20;i++) {
+        w.indent();
+      }
+      w.codeln("foo");
+    }, String.format("%43s\n", "foo"));
+    assertEquals(String.format("%40s", ""), writer.indentation());
+  }
+
+  @Test
+  public void testBuffer() {
+    CodeWriter writer = new CodeWriter();
+    writer.codeln("line 1").indent().codeln("line 2").format("%d", 3);
+    assertEquals("line 1\n  line 2\n  3", writer.writer().toString());
+  }
+
   private CodeWriter assertWriter(Consumer<CodeWriter> codeToExecute, String expectedOutput) {
     StringWriter w = new StringWriter();
     CodeWriter codeWriter = new CodeWriter(w);
@@ -0,0 +1,109 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.codegen.protobuf.utils.BufferOutputStream;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+
+/**
+ * Event-bus message codec encoding {@link Address} with its protobuf representation prefixed by its length.
+ * <p/>
+ * Local deliveries are transformed with the operator given at creation time, the identity by default, or
+ * with a deep copy for the codec created by {@link #copying()}.
+ */
+public class AddressMessageCodec implements MessageCodec<Address, Address> {
+
+  public static final String NAME = "io.vertx.test.codegen.converter.AddressMessageCodec";
+
+  private final UnaryOperator<Address> transform;
+
+  public AddressMessageCodec() {
+    this(UnaryOperator.identity());
+  }
+
+  public AddressMessageCodec(UnaryOperator<Address> transform) {
+    this.transform = Objects.requireNonNull(transform);
+  }
+
+  /**
+   * @return a codec transforming local deliveries with a deep copy of the sent object
+   */
+  public static AddressMessageCodec copying() {
+    return new AddressMessageCodec(AddressMessageCodec::copy);
+  }
+
+  private static Address copy(Address obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[AddressProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      AddressProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      CodedInputStream input = CodedInputStream.newInstance(bytes);
+      // the bytes are not shared, binary values can alias them
+      input.enableAliasing(true);
+      Address copy = new Address();
+      AddressProtoConverter.fromProto(input, copy);
+      return copy;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  @Override
+  public void encodeToWire(Buffer buffer, Address obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = AddressProtoConverter.computeSize(obj, cache);
+      buffer.appendInt(size);
+      // the message is appended to the buffer through a chunk of at most 4096 bytes instead of a copy of the whole message
+      CodedOutputStream output = CodedOutputStream.newInstance(new BufferOutputStream(buffer), Math.min(size, 4096));
+      AddressProtoConverter.toProto(obj, output, cache, 0);
+      output.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  @Override
+  public Address decodeFromWire(int pos, Buffer buffer) {
+    int length = buffer.getInt(pos);
+    pos += 4;
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes(pos, pos + length));
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    Address obj = new Address();
+    try {
+      AddressProtoConverter.fromProto(input, obj);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return obj;
+  }
+
+  @Override
+  public Address transform(Address obj) {
+    return transform.apply(obj);
+  }
+
+  @Override
+  public String name() {
+    return NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
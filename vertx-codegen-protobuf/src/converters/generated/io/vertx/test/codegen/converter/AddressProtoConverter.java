@@ -3,6 +3,8 @@ package io.vertx.test.codegen.converter;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -10,8 +12,10 @@ import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class AddressProtoConverter {
@@ -32,12 +36,49 @@ public class AddressProtoConverter {
           obj.setName(input.readString());
           break;
         }
+        default: {
+          input.skipField(tag);
+          break;
+        }
       }
     }
   }
 
+  public static void fromBuffer(Buffer buffer, Address obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    AddressProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, Address obj) throws IOException {
+    AddressProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static Address readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    Address obj = new Address();
+    AddressProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
   public static void toProto(Address obj, CodedOutputStream output) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      AddressProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(Address obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
     AddressProtoConverter.computeSize(obj, cache, 0);
     AddressProtoConverter.toProto(obj, output, cache, 0);
   }
@@ -56,8 +97,74 @@ public class AddressProtoConverter {
     return index;
   }
 
+  public static Buffer toBuffer(Address obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[AddressProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      AddressProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(Address obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      AddressProtoConverter.computeSize(obj, cache);
+      AddressProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(Address obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    AddressProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(Address obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(AddressProtoConverter.computeSize(obj, cache));
+      AddressProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(Address obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = AddressProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      AddressProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
   public static int computeSize(Address obj) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return AddressProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(Address obj, ExpandableIntArray cache) {
+    cache.reset();
     AddressProtoConverter.computeSize(obj, cache, 0);
     return cache.get(0);
   }
@@ -0,0 +1,309 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class ArrayItemProtoConverter {
+
+  public static void fromProto(CodedInputStream input, ArrayItem obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          double[] array = obj.getDoubles();
+          int size = 0;
+          if (array == null) {
+            array = new double[Math.min(length / 8, 1024)];
+          } else {
+            size = array.length;
+            array = Arrays.copyOf(array, size + Math.min(length / 8, 1024));
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            if (size == array.length) {
+              array = Arrays.copyOf(array, Math.max(size * 2, 16));
+            }
+            array[size++] = input.readDouble();
+          }
+          obj.setDoubles(size == array.length ? array : Arrays.copyOf(array, size));
+          input.popLimit(limit);
+          break;
+        }
+        case 9: {
+          double[] array = obj.getDoubles();
+          array = array == null ? new double[1] : Arrays.copyOf(array, array.length + 1);
+          array[array.length - 1] = input.readDouble();
+          obj.setDoubles(array);
+          break;
+        }
+        case 18: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          int[] array = obj.getInts();
+          int size = 0;
+          if (array == null) {
+            array = new int[Math.min(length, 16)];
+          } else {
+            size = array.length;
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            if (size == array.length) {
+              array = Arrays.copyOf(array, Math.max(size * 2, 16));
+            }
+            array[size++] = input.readInt32();
+          }
+          obj.setInts(size == array.length ? array : Arrays.copyOf(array, size));
+          input.popLimit(limit);
+          break;
+        }
+        case 16: {
+          int[] array = obj.getInts();
+          array = array == null ? new int[1] : Arrays.copyOf(array, array.length + 1);
+          array[array.length - 1] = input.readInt32();
+          obj.setInts(array);
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          long[] array = obj.getLongs();
+          int size = 0;
+          if (array == null) {
+            array = new long[Math.min(length, 16)];
+          } else {
+            size = array.length;
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            if (size == array.length) {
+              array = Arrays.copyOf(array, Math.max(size * 2, 16));
+            }
+            array[size++] = input.readInt64();
+          }
+          obj.setLongs(size == array.length ? array : Arrays.copyOf(array, size));
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          long[] array = obj.getLongs();
+          array = array == null ? new long[1] : Arrays.copyOf(array, array.length + 1);
+          array[array.length - 1] = input.readInt64();
+          obj.setLongs(array);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+  }
+
+  public static void fromBuffer(Buffer buffer, ArrayItem obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    ArrayItemProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, ArrayItem obj) throws IOException {
+    ArrayItemProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static ArrayItem readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    ArrayItem obj = new ArrayItem();
+    ArrayItemProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
+  public static void toProto(ArrayItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      ArrayItemProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(ArrayItem obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
+    ArrayItemProtoConverter.computeSize(obj, cache, 0);
+    ArrayItemProtoConverter.toProto(obj, output, cache, 0);
+  }
+
+  public static int toProto(ArrayItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    if (obj.getDoubles() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubles().length > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(obj.getDoubles().length * 8);
+        for (double element: obj.getDoubles()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    if (obj.getInts() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getInts().length > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (int element: obj.getInts()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    if (obj.getLongs() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongs().length > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (long element: obj.getLongs()) {
+          output.writeInt64NoTag(element);
+        }
+      }
+    }
+    return index;
+  }
+
+  public static Buffer toBuffer(ArrayItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[ArrayItemProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      ArrayItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(ArrayItem obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      ArrayItemProtoConverter.computeSize(obj, cache);
+      ArrayItemProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(ArrayItem obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    ArrayItemProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(ArrayItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(ArrayItemProtoConverter.computeSize(obj, cache));
+      ArrayItemProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(ArrayItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = ArrayItemProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      ArrayItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(ArrayItem obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return ArrayItemProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(ArrayItem obj, ExpandableIntArray cache) {
+    cache.reset();
+    ArrayItemProtoConverter.computeSize(obj, cache, 0);
+    return cache.get(0);
+  }
+
+  public static int computeSize(ArrayItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getDoubles() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubles().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(10);
+        int dataSize = obj.getDoubles().length * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getInts() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getInts().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(18);
+        int dataSize = 0;
+        for (int element: obj.getInts()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getLongs() != null) {
+      // array | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongs().length > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(26);
+        int dataSize = 0;
+        for (long element: obj.getLongs()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+}
@@ -0,0 +1,219 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class BinaryItemProtoConverter {
+
+  public static void fromProto(CodedInputStream input, BinaryItem obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setBuffer(BytesProtoConverter.fromProtoBuffer(input));
+          break;
+        }
+        case 18: {
+          List<io.vertx.core.buffer.Buffer> list = obj.getBufferList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setBufferList(list);
+          }
+          list.add(BytesProtoConverter.fromProtoBuffer(input));
+          break;
+        }
+        case 26: {
+          obj.setByteArray(BytesProtoConverter.fromProtoByteArray(input));
+          break;
+        }
+        case 34: {
+          obj.setByteBuffer(BytesProtoConverter.fromProtoByteBuffer(input));
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+  }
+
+  public static void fromBuffer(Buffer buffer, BinaryItem obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    BinaryItemProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, BinaryItem obj) throws IOException {
+    BinaryItemProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static BinaryItem readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    BinaryItem obj = new BinaryItem();
+    BinaryItemProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
+  public static void toProto(BinaryItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      BinaryItemProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(BinaryItem obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
+    BinaryItemProtoConverter.computeSize(obj, cache, 0);
+    BinaryItemProtoConverter.toProto(obj, output, cache, 0);
+  }
+
+  public static int toProto(BinaryItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    if (obj.getBuffer() != null) {
+      output.writeUInt32NoTag(10);
+      BytesProtoConverter.toProto(obj.getBuffer(), output);
+    }
+    if (obj.getBufferList() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (io.vertx.core.buffer.Buffer element: obj.getBufferList()) {
+        output.writeUInt32NoTag(18);
+        BytesProtoConverter.toProto(element, output);
+      }
+    }
+    if (obj.getByteArray() != null) {
+      output.writeUInt32NoTag(26);
+      BytesProtoConverter.toProto(obj.getByteArray(), output);
+    }
+    if (obj.getByteBuffer() != null) {
+      output.writeUInt32NoTag(34);
+      BytesProtoConverter.toProto(obj.getByteBuffer(), output);
+    }
+    return index;
+  }
+
+  public static Buffer toBuffer(BinaryItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[BinaryItemProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      BinaryItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(BinaryItem obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      BinaryItemProtoConverter.computeSize(obj, cache);
+      BinaryItemProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(BinaryItem obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    BinaryItemProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(BinaryItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(BinaryItemProtoConverter.computeSize(obj, cache));
+      BinaryItemProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(BinaryItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = BinaryItemProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      BinaryItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(BinaryItem obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return BinaryItemProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(BinaryItem obj, ExpandableIntArray cache) {
+    cache.reset();
+    BinaryItemProtoConverter.computeSize(obj, cache, 0);
+    return cache.get(0);
+  }
+
+  public static int computeSize(BinaryItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getBuffer() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(10);
+      size += BytesProtoConverter.computeSize(obj.getBuffer());
+    }
+    if (obj.getBufferList() != null) {
+      // list[0] | tag | data size | value |
+      // list[1] | tag | data size | value |
+      for (io.vertx.core.buffer.Buffer element: obj.getBufferList()) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(18);
+        size += BytesProtoConverter.computeSize(element);
+      }
+    }
+    if (obj.getByteArray() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(26);
+      size += BytesProtoConverter.computeSize(obj.getByteArray());
+    }
+    if (obj.getByteBuffer() != null) {
+      size += CodedOutputStream.computeUInt32SizeNoTag(34);
+      size += BytesProtoConverter.computeSize(obj.getByteBuffer());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+}
@@ -0,0 +1,380 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class EnumItemProtoConverter {
+
+  public static void fromProto(CodedInputStream input, EnumItem obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 8: {
+          int number = input.readEnum();
+          io.vertx.test.codegen.converter.Color value = EnumItemProtoConverter.decodeColor(number);
+          if (value != null) {
+            obj.setColor(value);
+          }
+          break;
+        }
+        case 18: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<io.vertx.test.codegen.converter.Color> list = obj.getColorList();
+          if (list == null) {
+            list = new ArrayList<>(Math.min(length, 1024));
+            obj.setColorList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            int number = input.readEnum();
+            io.vertx.test.codegen.converter.Color element = EnumItemProtoConverter.decodeColor(number);
+            if (element != null) {
+              list.add(element);
+            }
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 16: {
+          int number = input.readEnum();
+          io.vertx.test.codegen.converter.Color element = EnumItemProtoConverter.decodeColor(number);
+          if (element != null) {
+            List<io.vertx.test.codegen.converter.Color> list = obj.getColorList();
+            if (list == null) {
+              list = new ArrayList<>();
+              obj.setColorList(list);
+            }
+            list.add(element);
+          }
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          java.util.Set<io.vertx.test.codegen.converter.Color> set = obj.getColorSet();
+          if (set == null) {
+            set = new java.util.LinkedHashSet<>(Math.min(length, 1024) * 4 / 3 + 1);
+            obj.setColorSet(set);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            int number = input.readEnum();
+            io.vertx.test.codegen.converter.Color element = EnumItemProtoConverter.decodeColor(number);
+            if (element != null) {
+              set.add(element);
+            }
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          int number = input.readEnum();
+          io.vertx.test.codegen.converter.Color element = EnumItemProtoConverter.decodeColor(number);
+          if (element != null) {
+            java.util.Set<io.vertx.test.codegen.converter.Color> set = obj.getColorSet();
+            if (set == null) {
+              set = new java.util.LinkedHashSet<>();
+              obj.setColorSet(set);
+            }
+            set.add(element);
+          }
+          break;
+        }
+        case 34: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          java.util.Set<Double> set = obj.getDoubleSet();
+          if (set == null) {
+            set = new java.util.LinkedHashSet<>(Math.min(length / 8, 1024) * 4 / 3 + 1);
+            obj.setDoubleSet(set);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            set.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 33: {
+          java.util.Set<Double> set = obj.getDoubleSet();
+          if (set == null) {
+            set = new java.util.LinkedHashSet<>();
+            obj.setDoubleSet(set);
+          }
+          set.add(input.readDouble());
+          break;
+        }
+        case 42: {
+          java.util.Set<String> set = obj.getStringSet();
+          if (set == null) {
+            set = new java.util.LinkedHashSet<>();
+            obj.setStringSet(set);
+          }
+          set.add(input.readString());
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+  }
+
+  public static void fromBuffer(Buffer buffer, EnumItem obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    EnumItemProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, EnumItem obj) throws IOException {
+    EnumItemProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static EnumItem readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    EnumItem obj = new EnumItem();
+    EnumItemProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
+  public static void toProto(EnumItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      EnumItemProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(EnumItem obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
+    EnumItemProtoConverter.computeSize(obj, cache, 0);
+    EnumItemProtoConverter.toProto(obj, output, cache, 0);
+  }
+
+  public static int toProto(EnumItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    if (obj.getColor() != null) {
+      output.writeEnum(1, EnumItemProtoConverter.encodeColor(obj.getColor()));
+    }
+    if (obj.getColorList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getColorList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (io.vertx.test.codegen.converter.Color element: obj.getColorList()) {
+          output.writeEnumNoTag(EnumItemProtoConverter.encodeColor(element));
+        }
+      }
+    }
+    if (obj.getColorSet() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getColorSet().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (io.vertx.test.codegen.converter.Color element: obj.getColorSet()) {
+          output.writeEnumNoTag(EnumItemProtoConverter.encodeColor(element));
+        }
+      }
+    }
+    if (obj.getDoubleSet() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleSet().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(obj.getDoubleSet().size() * 8);
+        for (Double element: obj.getDoubleSet()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    if (obj.getStringSet() != null) {
+      // list[0] | tag | value |
+      // list[1] | tag | value |
+      for (String element: obj.getStringSet()) {
+        output.writeString(5, element);
+      }
+    }
+    return index;
+  }
+
+  public static Buffer toBuffer(EnumItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[EnumItemProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      EnumItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(EnumItem obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      EnumItemProtoConverter.computeSize(obj, cache);
+      EnumItemProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(EnumItem obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    EnumItemProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(EnumItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(EnumItemProtoConverter.computeSize(obj, cache));
+      EnumItemProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(EnumItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = EnumItemProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      EnumItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(EnumItem obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return EnumItemProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(EnumItem obj, ExpandableIntArray cache) {
+    cache.reset();
+    EnumItemProtoConverter.computeSize(obj, cache, 0);
+    return cache.get(0);
+  }
+
+  public static int computeSize(EnumItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getColor() != null) {
+      size += CodedOutputStream.computeEnumSize(1, EnumItemProtoConverter.encodeColor(obj.getColor()));
+    }
+    if (obj.getColorList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getColorList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(18);
+        int dataSize = 0;
+        for (io.vertx.test.codegen.converter.Color element: obj.getColorList()) {
+          dataSize += CodedOutputStream.computeEnumSizeNoTag(EnumItemProtoConverter.encodeColor(element));
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getColorSet() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getColorSet().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(26);
+        int dataSize = 0;
+        for (io.vertx.test.codegen.converter.Color element: obj.getColorSet()) {
+          dataSize += CodedOutputStream.computeEnumSizeNoTag(EnumItemProtoConverter.encodeColor(element));
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getDoubleSet() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleSet().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(34);
+        int dataSize = obj.getDoubleSet().size() * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getStringSet() != null) {
+      // list[0] | tag | value |
+      // list[1] | tag | value |
+      for (String element: obj.getStringSet()) {
+        size += CodedOutputStream.computeStringSize(5, element);
+      }
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  static int encodeColor(io.vertx.test.codegen.converter.Color value) {
+    switch (value) {
+      case NONE:
+        return 0;
+      case RED:
+        return 1;
+      case GREEN:
+        return 2;
+      case BLUE:
+        return 5;
+      default:
+        throw new IllegalArgumentException("Unknown constant " + value);
+    }
+  }
+
+  // unknown numbers, e.g. added by a newer version of the enum, are decoded as null
+  static io.vertx.test.codegen.converter.Color decodeColor(int number) {
+    switch (number) {
+      case 0:
+        return io.vertx.test.codegen.converter.Color.NONE;
+      case 1:
+        return io.vertx.test.codegen.converter.Color.RED;
+      case 2:
+        return io.vertx.test.codegen.converter.Color.GREEN;
+      case 5:
+        return io.vertx.test.codegen.converter.Color.BLUE;
+      default:
+        return null;
+    }
+  }
+
+}
@@ -0,0 +1,323 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class EvolvingItemProtoConverter {
+
+  public static void fromProto(CodedInputStream input, EvolvingItem obj) throws IOException {
+    int tag;
+    java.io.ByteArrayOutputStream unknownFields = null;
+    CodedOutputStream unknownOutput = null;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          obj.setName(input.readString());
+          break;
+        }
+        case 16: {
+          obj.setActive(input.readBool());
+          break;
+        }
+        case 40: {
+          obj.setCount(input.readInt32());
+          break;
+        }
+        case 48: {
+          int number = input.readEnum();
+          io.vertx.test.codegen.converter.Color value = EvolvingItemProtoConverter.decodeColor(number);
+          if (value != null) {
+            obj.setColor(value);
+          } else {
+            if (unknownOutput == null) {
+              unknownFields = new java.io.ByteArrayOutputStream();
+              unknownOutput = CodedOutputStream.newInstance(unknownFields);
+            }
+            unknownOutput.writeEnum(6, number);
+          }
+          break;
+        }
+        case 58: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<io.vertx.test.codegen.converter.Color> list = obj.getColorList();
+          if (list == null) {
+            list = new ArrayList<>(Math.min(length, 1024));
+            obj.setColorList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            int number = input.readEnum();
+            io.vertx.test.codegen.converter.Color element = EvolvingItemProtoConverter.decodeColor(number);
+            if (element != null) {
+              list.add(element);
+            } else {
+              if (unknownOutput == null) {
+                unknownFields = new java.io.ByteArrayOutputStream();
+                unknownOutput = CodedOutputStream.newInstance(unknownFields);
+              }
+              unknownOutput.writeEnum(7, number);
+            }
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 56: {
+          int number = input.readEnum();
+          io.vertx.test.codegen.converter.Color element = EvolvingItemProtoConverter.decodeColor(number);
+          if (element != null) {
+            List<io.vertx.test.codegen.converter.Color> list = obj.getColorList();
+            if (list == null) {
+              list = new ArrayList<>();
+              obj.setColorList(list);
+            }
+            list.add(element);
+          } else {
+            if (unknownOutput == null) {
+              unknownFields = new java.io.ByteArrayOutputStream();
+              unknownOutput = CodedOutputStream.newInstance(unknownFields);
+            }
+            unknownOutput.writeEnum(7, number);
+          }
+          break;
+        }
+        default: {
+          if (unknownOutput == null) {
+            unknownFields = new java.io.ByteArrayOutputStream();
+            unknownOutput = CodedOutputStream.newInstance(unknownFields);
+          }
+          input.skipField(tag, unknownOutput);
+          break;
+        }
+      }
+    }
+    if (unknownOutput != null) {
+      unknownOutput.flush();
+      obj.setUnknownFields(unknownFields.toByteArray());
+    }
+  }
+
+  public static void fromBuffer(Buffer buffer, EvolvingItem obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    EvolvingItemProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, EvolvingItem obj) throws IOException {
+    EvolvingItemProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static EvolvingItem readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    EvolvingItem obj = new EvolvingItem();
+    EvolvingItemProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
+  public static void toProto(EvolvingItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      EvolvingItemProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(EvolvingItem obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
+    EvolvingItemProtoConverter.computeSize(obj, cache, 0);
+    EvolvingItemProtoConverter.toProto(obj, output, cache, 0);
+  }
+
+  public static int toProto(EvolvingItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    if (obj.getName() != null) {
+      output.writeString(1, obj.getName());
+    }
+    if (obj.getActive() != null) {
+      output.writeBool(2, obj.getActive());
+    }
+    if (obj.getCount() != null) {
+      output.writeInt32(5, obj.getCount());
+    }
+    if (obj.getColor() != null) {
+      output.writeEnum(6, EvolvingItemProtoConverter.encodeColor(obj.getColor()));
+    }
+    if (obj.getColorList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getColorList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (io.vertx.test.codegen.converter.Color element: obj.getColorList()) {
+          output.writeEnumNoTag(EvolvingItemProtoConverter.encodeColor(element));
+        }
+      }
+    }
+    if (obj.getUnknownFields() != null) {
+      output.writeRawBytes(obj.getUnknownFields());
+    }
+    return index;
+  }
+
+  public static Buffer toBuffer(EvolvingItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[EvolvingItemProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      EvolvingItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(EvolvingItem obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      EvolvingItemProtoConverter.computeSize(obj, cache);
+      EvolvingItemProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(EvolvingItem obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    EvolvingItemProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(EvolvingItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(EvolvingItemProtoConverter.computeSize(obj, cache));
+      EvolvingItemProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(EvolvingItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = EvolvingItemProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      EvolvingItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(EvolvingItem obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return EvolvingItemProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(EvolvingItem obj, ExpandableIntArray cache) {
+    cache.reset();
+    EvolvingItemProtoConverter.computeSize(obj, cache, 0);
+    return cache.get(0);
+  }
+
+  public static int computeSize(EvolvingItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getName() != null) {
+      size += CodedOutputStream.computeStringSize(1, obj.getName());
+    }
+    if (obj.getActive() != null) {
+      size += CodedOutputStream.computeBoolSize(2, obj.getActive());
+    }
+    if (obj.getCount() != null) {
+      size += CodedOutputStream.computeInt32Size(5, obj.getCount());
+    }
+    if (obj.getColor() != null) {
+      size += CodedOutputStream.computeEnumSize(6, EvolvingItemProtoConverter.encodeColor(obj.getColor()));
+    }
+    if (obj.getColorList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getColorList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(58);
+        int dataSize = 0;
+        for (io.vertx.test.codegen.converter.Color element: obj.getColorList()) {
+          dataSize += CodedOutputStream.computeEnumSizeNoTag(EvolvingItemProtoConverter.encodeColor(element));
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getUnknownFields() != null) {
+      size += obj.getUnknownFields().length;
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+  static int encodeColor(io.vertx.test.codegen.converter.Color value) {
+    switch (value) {
+      case NONE:
+        return 0;
+      case RED:
+        return 1;
+      case GREEN:
+        return 2;
+      case BLUE:
+        return 5;
+      default:
+        throw new IllegalArgumentException("Unknown constant " + value);
+    }
+  }
+
+  // unknown numbers, e.g. added by a newer version of the enum, are decoded as null
+  static io.vertx.test.codegen.converter.Color decodeColor(int number) {
+    switch (number) {
+      case 0:
+        return io.vertx.test.codegen.converter.Color.NONE;
+      case 1:
+        return io.vertx.test.codegen.converter.Color.RED;
+      case 2:
+        return io.vertx.test.codegen.converter.Color.GREEN;
+      case 5:
+        return io.vertx.test.codegen.converter.Color.BLUE;
+      default:
+        return null;
+    }
+  }
+
+}
@@ -0,0 +1,246 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class IntegerEncodingItemProtoConverter {
+
+  public static void fromProto(CodedInputStream input, IntegerEncodingItem obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 8: {
+          obj.setCounter(input.readUInt64());
+          break;
+        }
+        case 16: {
+          obj.setDelta(input.readSInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Long> list = obj.getDeltaList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setDeltaList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readSInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 24: {
+          List<Long> list = obj.getDeltaList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setDeltaList(list);
+          }
+          list.add(input.readSInt64());
+          break;
+        }
+        case 37: {
+          obj.setHash(input.readSFixed32());
+          break;
+        }
+        case 41: {
+          obj.setId(input.readFixed64());
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+  }
+
+  public static void fromBuffer(Buffer buffer, IntegerEncodingItem obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    IntegerEncodingItemProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, IntegerEncodingItem obj) throws IOException {
+    IntegerEncodingItemProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static IntegerEncodingItem readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    IntegerEncodingItem obj = new IntegerEncodingItem();
+    IntegerEncodingItemProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
+  public static void toProto(IntegerEncodingItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      IntegerEncodingItemProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(IntegerEncodingItem obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
+    IntegerEncodingItemProtoConverter.computeSize(obj, cache, 0);
+    IntegerEncodingItemProtoConverter.toProto(obj, output, cache, 0);
+  }
+
+  public static int toProto(IntegerEncodingItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    if (obj.getCounter() != 0) {
+      output.writeUInt64(1, obj.getCounter());
+    }
+    if (obj.getDelta() != 0) {
+      output.writeSInt32(2, obj.getDelta());
+    }
+    if (obj.getDeltaList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDeltaList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (Long element: obj.getDeltaList()) {
+          output.writeSInt64NoTag(element);
+        }
+      }
+    }
+    if (obj.getHash() != null) {
+      output.writeSFixed32(4, obj.getHash());
+    }
+    if (obj.getId() != 0) {
+      output.writeFixed64(5, obj.getId());
+    }
+    return index;
+  }
+
+  public static Buffer toBuffer(IntegerEncodingItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[IntegerEncodingItemProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      IntegerEncodingItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(IntegerEncodingItem obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      IntegerEncodingItemProtoConverter.computeSize(obj, cache);
+      IntegerEncodingItemProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(IntegerEncodingItem obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    IntegerEncodingItemProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(IntegerEncodingItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(IntegerEncodingItemProtoConverter.computeSize(obj, cache));
+      IntegerEncodingItemProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(IntegerEncodingItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = IntegerEncodingItemProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      IntegerEncodingItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(IntegerEncodingItem obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return IntegerEncodingItemProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(IntegerEncodingItem obj, ExpandableIntArray cache) {
+    cache.reset();
+    IntegerEncodingItemProtoConverter.computeSize(obj, cache, 0);
+    return cache.get(0);
+  }
+
+  public static int computeSize(IntegerEncodingItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getCounter() != 0) {
+      size += CodedOutputStream.computeUInt64Size(1, obj.getCounter());
+    }
+    if (obj.getDelta() != 0) {
+      size += CodedOutputStream.computeSInt32Size(2, obj.getDelta());
+    }
+    if (obj.getDeltaList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDeltaList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(26);
+        int dataSize = 0;
+        for (Long element: obj.getDeltaList()) {
+          dataSize += CodedOutputStream.computeSInt64SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getHash() != null) {
+      size += CodedOutputStream.computeSFixed32Size(4, obj.getHash());
+    }
+    if (obj.getId() != 0) {
+      size += CodedOutputStream.computeFixed64Size(5, obj.getId());
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+}
@@ -0,0 +1,499 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
+import io.vertx.codegen.protobuf.converters.*;
+
+public class RepeatedItemProtoConverter {
+
+  public static void fromProto(CodedInputStream input, RepeatedItem obj) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Boolean> list = obj.getBooleanList();
+          if (list == null) {
+            list = new ArrayList<>(Math.min(length, 1024));
+            obj.setBooleanList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readBool());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 8: {
+          List<Boolean> list = obj.getBooleanList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setBooleanList(list);
+          }
+          list.add(input.readBool());
+          break;
+        }
+        case 18: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Byte> list = obj.getByteList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setByteList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add((byte) input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 16: {
+          List<Byte> list = obj.getByteList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setByteList(list);
+          }
+          list.add((byte) input.readInt32());
+          break;
+        }
+        case 26: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Double> list = obj.getDoubleList();
+          if (list == null) {
+            list = new ArrayList<>(Math.min(length / 8, 1024));
+            obj.setDoubleList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readDouble());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 25: {
+          List<Double> list = obj.getDoubleList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setDoubleList(list);
+          }
+          list.add(input.readDouble());
+          break;
+        }
+        case 34: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Float> list = obj.getFloatList();
+          if (list == null) {
+            list = new ArrayList<>(Math.min(length / 4, 1024));
+            obj.setFloatList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readFloat());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 37: {
+          List<Float> list = obj.getFloatList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setFloatList(list);
+          }
+          list.add(input.readFloat());
+          break;
+        }
+        case 42: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Integer> list = obj.getIntegerList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setIntegerList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 40: {
+          List<Integer> list = obj.getIntegerList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setIntegerList(list);
+          }
+          list.add(input.readInt32());
+          break;
+        }
+        case 50: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Long> list = obj.getLongList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setLongList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt64());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 48: {
+          List<Long> list = obj.getLongList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setLongList(list);
+          }
+          list.add(input.readInt64());
+          break;
+        }
+        case 58: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Short> list = obj.getShortList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setShortList(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add((short) input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 56: {
+          List<Short> list = obj.getShortList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setShortList(list);
+          }
+          list.add((short) input.readInt32());
+          break;
+        }
+        case 66: {
+          List<String> list = obj.getStringList();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setStringList(list);
+          }
+          list.add(input.readString());
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+  }
+
+  public static void fromBuffer(Buffer buffer, RepeatedItem obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    RepeatedItemProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, RepeatedItem obj) throws IOException {
+    RepeatedItemProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static RepeatedItem readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    RepeatedItem obj = new RepeatedItem();
+    RepeatedItemProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
+  public static void toProto(RepeatedItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      RepeatedItemProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(RepeatedItem obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
+    RepeatedItemProtoConverter.computeSize(obj, cache, 0);
+    RepeatedItemProtoConverter.toProto(obj, output, cache, 0);
+  }
+
+  public static int toProto(RepeatedItem obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
+    if (obj.getBooleanList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(obj.getBooleanList().size() * 1);
+        for (Boolean element: obj.getBooleanList()) {
+          output.writeBoolNoTag(element);
+        }
+      }
+    }
+    if (obj.getByteList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getByteList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (Byte element: obj.getByteList()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    if (obj.getDoubleList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(obj.getDoubleList().size() * 8);
+        for (Double element: obj.getDoubleList()) {
+          output.writeDoubleNoTag(element);
+        }
+      }
+    }
+    if (obj.getFloatList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(obj.getFloatList().size() * 4);
+        for (Float element: obj.getFloatList()) {
+          output.writeFloatNoTag(element);
+        }
+      }
+    }
+    if (obj.getIntegerList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (Integer element: obj.getIntegerList()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    if (obj.getLongList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (Long element: obj.getLongList()) {
+          output.writeInt64NoTag(element);
+        }
+      }
+    }
+    if (obj.getShortList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getShortList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
+        for (Short element: obj.getShortList()) {
+          output.writeInt32NoTag(element);
+        }
+      }
+    }
+    if (obj.getStringList() != null) {
+      // list[0] | tag | value |
+      // list[1] | tag | value |
+      for (String element: obj.getStringList()) {
+        output.writeString(8, element);
+      }
+    }
+    return index;
+  }
+
+  public static Buffer toBuffer(RepeatedItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[RepeatedItemProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      RepeatedItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(RepeatedItem obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      RepeatedItemProtoConverter.computeSize(obj, cache);
+      RepeatedItemProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(RepeatedItem obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    RepeatedItemProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(RepeatedItem obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(RepeatedItemProtoConverter.computeSize(obj, cache));
+      RepeatedItemProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(RepeatedItem obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = RepeatedItemProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      RepeatedItemProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(RepeatedItem obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return RepeatedItemProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(RepeatedItem obj, ExpandableIntArray cache) {
+    cache.reset();
+    RepeatedItemProtoConverter.computeSize(obj, cache, 0);
+    return cache.get(0);
+  }
+
+  public static int computeSize(RepeatedItem obj, ExpandableIntArray cache, final int baseIndex) {
+    int size = 0;
+    int index = baseIndex + 1;
+    if (obj.getBooleanList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getBooleanList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(10);
+        int dataSize = obj.getBooleanList().size() * 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getByteList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getByteList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(18);
+        int dataSize = 0;
+        for (Byte element: obj.getByteList()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getDoubleList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getDoubleList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(26);
+        int dataSize = obj.getDoubleList().size() * 8;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getFloatList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getFloatList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(34);
+        int dataSize = obj.getFloatList().size() * 4;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getIntegerList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getIntegerList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(42);
+        int dataSize = 0;
+        for (Integer element: obj.getIntegerList()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getLongList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getLongList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(50);
+        int dataSize = 0;
+        for (Long element: obj.getLongList()) {
+          dataSize += CodedOutputStream.computeInt64SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getShortList() != null) {
+      // list | tag | data size | value[0] | value[1] | value[2] |
+      if (obj.getShortList().size() > 0) {
+        size += CodedOutputStream.computeUInt32SizeNoTag(58);
+        int dataSize = 0;
+        for (Short element: obj.getShortList()) {
+          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
+        }
+        cache.set(index, dataSize);
+        index = index + 1;
+        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
+        size += dataSize;
+      }
+    }
+    if (obj.getStringList() != null) {
+      // list[0] | tag | value |
+      // list[1] | tag | value |
+      for (String element: obj.getStringList()) {
+        size += CodedOutputStream.computeStringSize(8, element);
+      }
+    }
+    cache.set(baseIndex, size);
+    return index;
+  }
+
+}
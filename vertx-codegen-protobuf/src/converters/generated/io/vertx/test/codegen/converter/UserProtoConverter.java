@@ -3,6 +3,8 @@ package io.vertx.test.codegen.converter;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.CodedInputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -10,8 +12,10 @@ import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import io.vertx.codegen.protobuf.converters.*;
 
 public class UserProtoConverter {
@@ -63,14 +67,26 @@ public class UserProtoConverter {
         case 74: {
           int length = input.readRawVarint32();
           int limit = input.pushLimit(length);
-          List<Integer> list = new ArrayList<>();
+          List<Integer> list = obj.getIntegerListField();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setIntegerListField(list);
+          }
           while (input.getBytesUntilLimit() > 0) {
             list.add(input.readInt32());
           }
-          obj.setIntegerListField(list);
           input.popLimit(limit);
           break;
         }
+        case 72: {
+          List<Integer> list = obj.getIntegerListField();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setIntegerListField(list);
+          }
+          list.add(input.readInt32());
+          break;
+        }
         case 82: {
           int length = input.readRawVarint32();
           int limit = input.pushLimit(length);
@@ -249,12 +265,49 @@ public class UserProtoConverter {
           input.popLimit(limit);
           break;
         }
+        default: {
+          input.skipField(tag);
+          break;
+        }
       }
     }
   }
 
+  public static void fromBuffer(Buffer buffer, User obj) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());
+    // the bytes are not shared, binary values can alias them
+    input.enableAliasing(true);
+    UserProtoConverter.fromProto(input, obj);
+  }
+
+  public static void readFrom(ByteBuffer src, User obj) throws IOException {
+    UserProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);
+  }
+
+  public static User readDelimited(CodedInputStream input) throws IOException {
+    if (input.isAtEnd()) {
+      return null;
+    }
+    input.resetSizeCounter();
+    int length = input.readRawVarint32();
+    int limit = input.pushLimit(length);
+    User obj = new User();
+    UserProtoConverter.fromProto(input, obj);
+    input.popLimit(limit);
+    return obj;
+  }
+
   public static void toProto(User obj, CodedOutputStream output) throws IOException {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      UserProtoConverter.toProto(obj, output, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void toProto(User obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {
+    cache.reset();
     UserProtoConverter.computeSize(obj, cache, 0);
     UserProtoConverter.toProto(obj, output, cache, 0);
   }
@@ -293,11 +346,8 @@ public class UserProtoConverter {
       // list | tag | data size | value[0] | value[1] | value[2] |
       if (obj.getIntegerListField().size() > 0) {
         output.writeUInt32NoTag(74);
-        int dataSize = 0;
-        for (Integer element: obj.getIntegerListField()) {
-          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
-        }
-        output.writeUInt32NoTag(dataSize);
+        output.writeUInt32NoTag(cache.get(index));
+        index = index + 1;
         for (Integer element: obj.getIntegerListField()) {
           output.writeInt32NoTag(element);
         }
@@ -324,14 +374,14 @@ public class UserProtoConverter {
       // list[1] | tag | data size | value |
       for (JsonObject element: obj.getJsonListField()) {
         output.writeUInt32NoTag(90);
-        output.writeUInt32NoTag(VertxStructProtoConverter.computeSize(element));
-        VertxStructProtoConverter.toProto(element, output);
+        output.writeUInt32NoTag(cache.get(index));
+        index = VertxStructProtoConverter.toProto(element, output, cache, index);
       }
     }
     if (obj.getJsonObjectField() != null) {
       output.writeUInt32NoTag(98);
-      output.writeUInt32NoTag(VertxStructProtoConverter.computeSize(obj.getJsonObjectField()));
-      VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output);
+      output.writeUInt32NoTag(cache.get(index));
+      index = VertxStructProtoConverter.toProto(obj.getJsonObjectField(), output, cache, index);
     }
     if (obj.getJsonValueMap() != null) {
       // map[0] | tag | data size | key | value |
@@ -339,7 +389,7 @@ public class UserProtoConverter {
       for (Map.Entry<String, JsonObject> entry : obj.getJsonValueMap().entrySet()) {
         output.writeUInt32NoTag(106);
         // calculate data size
-        int elementSize = VertxStructProtoConverter.computeSize(entry.getValue());
+        int elementSize = cache.get(index);
         int dataSize = 0;
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
@@ -351,7 +401,7 @@ public class UserProtoConverter {
         output.writeString(1, entry.getKey());
         output.writeUInt32NoTag(18);
         output.writeUInt32NoTag(elementSize);
-        VertxStructProtoConverter.toProto(entry.getValue(), output);
+        index = VertxStructProtoConverter.toProto(entry.getValue(), output, cache, index);
       }
     }
     if (obj.getLongField() != null) {
@@ -471,8 +521,74 @@ public class UserProtoConverter {
     return index;
   }
 
+  public static Buffer toBuffer(User obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      byte[] bytes = new byte[UserProtoConverter.computeSize(obj, cache)];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      UserProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(User obj, ByteBuffer dst) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      UserProtoConverter.computeSize(obj, cache);
+      UserProtoConverter.writeTo(obj, dst, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static void writeTo(User obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {
+    if (dst.remaining() < cache.get(0)) {
+      throw new BufferOverflowException();
+    }
+    CodedOutputStream output = CodedOutputStream.newInstance(dst);
+    UserProtoConverter.toProto(obj, output, cache, 0);
+    output.flush();
+  }
+
+  public static void writeDelimited(User obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      output.writeUInt32NoTag(UserProtoConverter.computeSize(obj, cache));
+      UserProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static Buffer toDelimitedBuffer(User obj) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      int size = UserProtoConverter.computeSize(obj, cache);
+      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+      output.writeUInt32NoTag(size);
+      UserProtoConverter.toProto(obj, output, cache, 0);
+      output.checkNoSpaceLeft();
+      return Buffer.buffer(bytes);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
   public static int computeSize(User obj) {
-    ExpandableIntArray cache = new ExpandableIntArray(16);
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(16);
+    try {
+      return UserProtoConverter.computeSize(obj, cache);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  public static int computeSize(User obj, ExpandableIntArray cache) {
+    cache.reset();
     UserProtoConverter.computeSize(obj, cache, 0);
     return cache.get(0);
   }
@@ -520,6 +636,8 @@ public class UserProtoConverter {
         for (Integer element: obj.getIntegerListField()) {
           dataSize += CodedOutputStream.computeInt32SizeNoTag(element);
         }
+        cache.set(index, dataSize);
+        index = index + 1;
         size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
         size += dataSize;
       }
@@ -542,7 +660,9 @@ public class UserProtoConverter {
       if (obj.getJsonListField().size() > 0) {
         for (JsonObject element: obj.getJsonListField()) {
           size += CodedOutputStream.computeUInt32SizeNoTag(90);
-          int dataSize = VertxStructProtoConverter.computeSize(element);
+          int savedIndex = index;
+          index = VertxStructProtoConverter.computeSize(element, cache, index);
+          int dataSize = cache.get(savedIndex);
           size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
           size += dataSize;
         }
@@ -550,7 +670,9 @@ public class UserProtoConverter {
     }
     if (obj.getJsonObjectField() != null) {
       size += CodedOutputStream.computeUInt32SizeNoTag(98);
-      int dataSize = VertxStructProtoConverter.computeSize(obj.getJsonObjectField());
+      int savedIndex = index;
+      index = VertxStructProtoConverter.computeSize(obj.getJsonObjectField(), cache, index);
+      int dataSize = cache.get(savedIndex);
       size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);
       size += dataSize;
     }
@@ -564,7 +686,9 @@ public class UserProtoConverter {
         // key
         dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());
         // value
-        int elementSize = VertxStructProtoConverter.computeSize(entry.getValue());
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize(entry.getValue(), cache, index);
+        int elementSize = cache.get(savedIndex);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(18);
         dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);
         dataSize += elementSize;
@@ -0,0 +1,810 @@
+package io.vertx.test.codegen.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.CodedInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Arrays;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.converters.*;
+
+/**
+ * Lazy view of the protobuf representation of {@link User}.
+ * <p/>
+ * The fields are located with a single scan of the bytes when the view is created, each property is decoded from
+ * the bytes when its getter is called and the bytes can be written again as is. The bytes must not be modified
+ * while the view is used.
+ */
+public class UserProtoView {
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+  // Position of the field decoded first for each property, -1 when absent
+  private final int[] positions;
+
+  private UserProtoView(byte[] bytes, int offset, int length, int[] positions) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.positions = positions;
+  }
+
+  public static UserProtoView of(byte[] bytes) throws IOException {
+    return UserProtoView.of(bytes, 0, bytes.length);
+  }
+
+  public static UserProtoView of(Buffer buffer) throws IOException {
+    return UserProtoView.of(buffer.getBytes());
+  }
+
+  public static UserProtoView of(byte[] bytes, int offset, int length) throws IOException {
+    int[] positions = new int[30];
+    Arrays.fill(positions, -1);
+    CodedInputStream input = CodedInputStream.newInstance(bytes, offset, length);
+    int position = 0;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10:
+          positions[0] = position;
+          break;
+        case 16:
+          positions[1] = position;
+          break;
+        case 24:
+          positions[2] = position;
+          break;
+        case 32:
+          positions[3] = position;
+          break;
+        case 40:
+          positions[4] = position;
+          break;
+        case 49:
+          positions[5] = position;
+          break;
+        case 61:
+          positions[6] = position;
+          break;
+        case 66:
+          positions[7] = position;
+          break;
+        case 74:
+        case 72:
+          if (positions[8] == -1) {
+            positions[8] = position;
+          }
+          break;
+        case 82:
+          if (positions[9] == -1) {
+            positions[9] = position;
+          }
+          break;
+        case 90:
+          if (positions[10] == -1) {
+            positions[10] = position;
+          }
+          break;
+        case 98:
+          positions[11] = position;
+          break;
+        case 106:
+          if (positions[12] == -1) {
+            positions[12] = position;
+          }
+          break;
+        case 112:
+          positions[13] = position;
+          break;
+        case 120:
+          positions[14] = position;
+          break;
+        case 128:
+          positions[15] = position;
+          break;
+        case 136:
+          positions[16] = position;
+          break;
+        case 145:
+          positions[17] = position;
+          break;
+        case 157:
+          positions[18] = position;
+          break;
+        case 160:
+          positions[19] = position;
+          break;
+        case 168:
+          positions[20] = position;
+          break;
+        case 176:
+          positions[21] = position;
+          break;
+        case 184:
+          positions[22] = position;
+          break;
+        case 194:
+          if (positions[23] == -1) {
+            positions[23] = position;
+          }
+          break;
+        case 202:
+          if (positions[24] == -1) {
+            positions[24] = position;
+          }
+          break;
+        case 210:
+          if (positions[25] == -1) {
+            positions[25] = position;
+          }
+          break;
+        case 218:
+          positions[26] = position;
+          break;
+        case 226:
+          positions[27] = position;
+          break;
+        case 234:
+          if (positions[28] == -1) {
+            positions[28] = position;
+          }
+          break;
+        case 242:
+          if (positions[29] == -1) {
+            positions[29] = position;
+          }
+          break;
+      }
+      input.skipField(tag);
+      position = input.getTotalBytesRead();
+    }
+    return new UserProtoView(bytes, offset, length, positions);
+  }
+
+  public Address getAddress() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[0]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 10: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProto(input, nested);
+          obj.setAddress(nested);
+          input.popLimit(limit);
+          break;
+        }
+      }
+    }
+    return obj.getAddress();
+  }
+
+  public Integer getAge() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[1]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 16: {
+          obj.setAge(input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getAge();
+  }
+
+  public Boolean getBoolField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[2]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 24: {
+          obj.setBoolField(input.readBool());
+          break;
+        }
+      }
+    }
+    return obj.getBoolField();
+  }
+
+  public Byte getByteField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[3]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 32: {
+          obj.setByteField((byte) input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getByteField();
+  }
+
+  public Character getCharField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[4]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 40: {
+          obj.setCharField((char) input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getCharField();
+  }
+
+  public Double getDoubleField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[5]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 49: {
+          obj.setDoubleField(input.readDouble());
+          break;
+        }
+      }
+    }
+    return obj.getDoubleField();
+  }
+
+  public Float getFloatField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[6]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 61: {
+          obj.setFloatField(input.readFloat());
+          break;
+        }
+      }
+    }
+    return obj.getFloatField();
+  }
+
+  public Instant getInstantField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[7]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 66: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setInstantField(InstantProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+      }
+    }
+    return obj.getInstantField();
+  }
+
+  public List<Integer> getIntegerListField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[8]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 74: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          List<Integer> list = obj.getIntegerListField();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setIntegerListField(list);
+          }
+          while (input.getBytesUntilLimit() > 0) {
+            list.add(input.readInt32());
+          }
+          input.popLimit(limit);
+          break;
+        }
+        case 72: {
+          List<Integer> list = obj.getIntegerListField();
+          if (list == null) {
+            list = new ArrayList<>();
+            obj.setIntegerListField(list);
+          }
+          list.add(input.readInt32());
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getIntegerListField();
+  }
+
+  public Map<String, Integer> getIntegerValueMap() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[9]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 82: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, Integer> map = obj.getIntegerValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          Integer value = input.readInt32();
+          map.put(key, value);
+          obj.setIntegerValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getIntegerValueMap();
+  }
+
+  public List<JsonObject> getJsonListField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[10]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 90: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getJsonListField() == null) {
+            obj.setJsonListField(new ArrayList<>());
+          }
+          obj.getJsonListField().add(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getJsonListField();
+  }
+
+  public JsonObject getJsonObjectField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[11]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 98: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setJsonObjectField(VertxStructProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+      }
+    }
+    return obj.getJsonObjectField();
+  }
+
+  public Map<String, JsonObject> getJsonValueMap() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[12]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 106: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, JsonObject> map = obj.getJsonValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, VertxStructProtoConverter.fromProto(input));
+          obj.setJsonValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getJsonValueMap();
+  }
+
+  public Long getLongField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[13]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 112: {
+          obj.setLongField(input.readInt64());
+          break;
+        }
+      }
+    }
+    return obj.getLongField();
+  }
+
+  public boolean isPrimitiveBoolean() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[14]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 120: {
+          obj.setPrimitiveBoolean(input.readBool());
+          break;
+        }
+      }
+    }
+    return obj.isPrimitiveBoolean();
+  }
+
+  public byte getPrimitiveByte() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[15]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 128: {
+          obj.setPrimitiveByte((byte) input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveByte();
+  }
+
+  public char getPrimitiveChar() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[16]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 136: {
+          obj.setPrimitiveChar((char) input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveChar();
+  }
+
+  public double getPrimitiveDouble() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[17]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 145: {
+          obj.setPrimitiveDouble(input.readDouble());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveDouble();
+  }
+
+  public float getPrimitiveFloat() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[18]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 157: {
+          obj.setPrimitiveFloat(input.readFloat());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveFloat();
+  }
+
+  public int getPrimitiveInt() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[19]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 160: {
+          obj.setPrimitiveInt(input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveInt();
+  }
+
+  public long getPrimitiveLong() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[20]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 168: {
+          obj.setPrimitiveLong(input.readInt64());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveLong();
+  }
+
+  public short getPrimitiveShort() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[21]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 176: {
+          obj.setPrimitiveShort((short) input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getPrimitiveShort();
+  }
+
+  public Short getShortField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[22]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 184: {
+          obj.setShortField((short) input.readInt32());
+          break;
+        }
+      }
+    }
+    return obj.getShortField();
+  }
+
+  public Map<String, String> getStringValueMap() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[23]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 194: {
+          int length = input.readRawVarint32();
+          int limit = input.pushLimit(length);
+          Map<String, String> map = obj.getStringValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          String value = input.readString();
+          map.put(key, value);
+          obj.setStringValueMap(map);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getStringValueMap();
+  }
+
+  public List<Address> getStructListField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[24]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 202: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Address nested = new Address();
+          AddressProtoConverter.fromProto(input, nested);
+          if (obj.getStructListField() == null) {
+            obj.setStructListField(new ArrayList<>());
+          }
+          obj.getStructListField().add(nested);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getStructListField();
+  }
+
+  public Map<String, Address> getStructValueMap() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[25]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 210: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, Address> map = obj.getStructValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          Address value = new Address();
+          AddressProtoConverter.fromProto(input, value);
+          map.put(key, value);
+          obj.setStructValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getStructValueMap();
+  }
+
+  public String getUserName() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[26]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 218: {
+          obj.setUserName(input.readString());
+          break;
+        }
+      }
+    }
+    return obj.getUserName();
+  }
+
+  public ZonedDateTime getZonedDateTimeField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[27]);
+    int tag;
+    if ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 226: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          obj.setZonedDateTimeField(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+      }
+    }
+    return obj.getZonedDateTimeField();
+  }
+
+  public List<ZonedDateTime> getZonedDateTimeListField() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[28]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 234: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          if (obj.getZonedDateTimeListField() == null) {
+            obj.setZonedDateTimeListField(new ArrayList<>());
+          }
+          obj.getZonedDateTimeListField().add(ZonedDateTimeProtoConverter.fromProto(input));
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getZonedDateTimeListField();
+  }
+
+  public Map<String, ZonedDateTime> getZonedDateTimeValueMap() throws IOException {
+    User obj = new User();
+    CodedInputStream input = input(positions[29]);
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (tag) {
+        case 242: {
+          int length = input.readUInt32();
+          int limit = input.pushLimit(length);
+          Map<String, ZonedDateTime> map = obj.getZonedDateTimeValueMap();
+          if (map == null) {
+            map = new HashMap<>();
+          }
+          input.readTag();
+          String key = input.readString();
+          input.readTag();
+          int vlength = input.readUInt32();
+          int vlimit = input.pushLimit(vlength);
+          map.put(key, ZonedDateTimeProtoConverter.fromProto(input));
+          obj.setZonedDateTimeValueMap(map);
+          input.popLimit(vlimit);
+          input.popLimit(limit);
+          break;
+        }
+        default: {
+          input.skipField(tag);
+          break;
+        }
+      }
+    }
+    return obj.getZonedDateTimeValueMap();
+  }
+
+  public User decode() throws IOException {
+    User obj = new User();
+    UserProtoConverter.fromProto(CodedInputStream.newInstance(bytes, offset, length), obj);
+    return obj;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  public byte[] toByteArray() {
+    return Arrays.copyOfRange(bytes, offset, offset + length);
+  }
+
+  public Buffer toBuffer() {
+    return Buffer.buffer(toByteArray());
+  }
+
+  public void writeTo(CodedOutputStream output) throws IOException {
+    output.writeRawBytes(bytes, offset, length);
+  }
+
+  public void writeTo(ByteBuffer dst) {
+    dst.put(bytes, offset, length);
+  }
+
+  private CodedInputStream input(int position) {
+    // an absent property is decoded from an empty input
+    int from = position == -1 ? length : position;
+    return CodedInputStream.newInstance(bytes, offset + from, length - from);
+  }
+}
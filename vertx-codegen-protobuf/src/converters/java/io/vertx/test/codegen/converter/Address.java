@@ -6,7 +6,7 @@ import io.vertx.codegen.protobuf.annotations.ProtobufGen;
 import java.util.Objects;
 
 @DataObject
-@ProtobufGen
+@ProtobufGen(messageCodec = true)
 public class Address {
   private String name;
   private Float longitude;
@@ -0,0 +1,54 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.util.Arrays;
+
+@DataObject
+@ProtobufGen
+public class ArrayItem {
+  private double[] doubles;
+  private int[] ints;
+  private long[] longs;
+
+  public double[] getDoubles() {
+    return doubles;
+  }
+
+  public void setDoubles(double[] doubles) {
+    this.doubles = doubles;
+  }
+
+  public int[] getInts() {
+    return ints;
+  }
+
+  public void setInts(int[] ints) {
+    this.ints = ints;
+  }
+
+  public long[] getLongs() {
+    return longs;
+  }
+
+  public void setLongs(long[] longs) {
+    this.longs = longs;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ArrayItem that = (ArrayItem) o;
+    return Arrays.equals(doubles, that.doubles) && Arrays.equals(ints, that.ints) && Arrays.equals(longs, that.longs);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Arrays.hashCode(doubles);
+    result = 31 * result + Arrays.hashCode(ints);
+    result = 31 * result + Arrays.hashCode(longs);
+    return result;
+  }
+}
@@ -0,0 +1,66 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@DataObject
+@ProtobufGen
+public class BinaryItem {
+  private Buffer buffer;
+  private List<Buffer> bufferList;
+  private byte[] byteArray;
+  private ByteBuffer byteBuffer;
+
+  public Buffer getBuffer() {
+    return buffer;
+  }
+
+  public void setBuffer(Buffer buffer) {
+    this.buffer = buffer;
+  }
+
+  public List<Buffer> getBufferList() {
+    return bufferList;
+  }
+
+  public void setBufferList(List<Buffer> bufferList) {
+    this.bufferList = bufferList;
+  }
+
+  public byte[] getByteArray() {
+    return byteArray;
+  }
+
+  public void setByteArray(byte[] byteArray) {
+    this.byteArray = byteArray;
+  }
+
+  public ByteBuffer getByteBuffer() {
+    return byteBuffer;
+  }
+
+  public void setByteBuffer(ByteBuffer byteBuffer) {
+    this.byteBuffer = byteBuffer;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    BinaryItem that = (BinaryItem) o;
+    return Objects.equals(buffer, that.buffer) && Objects.equals(bufferList, that.bufferList) && Arrays.equals(byteArray, that.byteArray) && Objects.equals(byteBuffer, that.byteBuffer);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Objects.hash(buffer, bufferList, byteBuffer);
+    result = 31 * result + Arrays.hashCode(byteArray);
+    return result;
+  }
+}
@@ -0,0 +1,12 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.protobuf.annotations.ProtoEnumValue;
+
+public enum Color {
+  RED,
+  GREEN,
+  @ProtoEnumValue(number = 5)
+  BLUE,
+  @ProtoEnumValue(number = 0)
+  NONE
+}
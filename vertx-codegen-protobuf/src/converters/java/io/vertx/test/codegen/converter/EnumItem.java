@@ -0,0 +1,72 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@DataObject
+@ProtobufGen
+public class EnumItem {
+  private Color color;
+  private List<Color> colorList;
+  private Set<Color> colorSet;
+  private Set<Double> doubleSet;
+  private Set<String> stringSet;
+
+  public Color getColor() {
+    return color;
+  }
+
+  public void setColor(Color color) {
+    this.color = color;
+  }
+
+  public List<Color> getColorList() {
+    return colorList;
+  }
+
+  public void setColorList(List<Color> colorList) {
+    this.colorList = colorList;
+  }
+
+  public Set<Color> getColorSet() {
+    return colorSet;
+  }
+
+  public void setColorSet(Set<Color> colorSet) {
+    this.colorSet = colorSet;
+  }
+
+  public Set<Double> getDoubleSet() {
+    return doubleSet;
+  }
+
+  public void setDoubleSet(Set<Double> doubleSet) {
+    this.doubleSet = doubleSet;
+  }
+
+  public Set<String> getStringSet() {
+    return stringSet;
+  }
+
+  public void setStringSet(Set<String> stringSet) {
+    this.stringSet = stringSet;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    EnumItem that = (EnumItem) o;
+    return color == that.color && Objects.equals(colorList, that.colorList) && Objects.equals(colorSet, that.colorSet) &&
+      Objects.equals(doubleSet, that.doubleSet) && Objects.equals(stringSet, that.stringSet);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(color, colorList, colorSet, doubleSet, stringSet);
+  }
+}
@@ -0,0 +1,87 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtoField;
+import io.vertx.codegen.protobuf.annotations.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.util.List;
+import java.util.Objects;
+
+@DataObject
+@ProtobufGen
+public class EvolvingItem {
+  @ProtoField(number = 1)
+  private String name;
+  @ProtoField(number = 5)
+  private Integer count;
+  private Boolean active;
+  @ProtoField(number = 6)
+  private Color color;
+  @ProtoField(number = 7)
+  private List<Color> colorList;
+  @ProtoUnknownFields
+  private byte[] unknownFields;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Integer getCount() {
+    return count;
+  }
+
+  public void setCount(Integer count) {
+    this.count = count;
+  }
+
+  public Boolean getActive() {
+    return active;
+  }
+
+  public void setActive(Boolean active) {
+    this.active = active;
+  }
+
+  public Color getColor() {
+    return color;
+  }
+
+  public void setColor(Color color) {
+    this.color = color;
+  }
+
+  public List<Color> getColorList() {
+    return colorList;
+  }
+
+  public void setColorList(List<Color> colorList) {
+    this.colorList = colorList;
+  }
+
+  public byte[] getUnknownFields() {
+    return unknownFields;
+  }
+
+  public void setUnknownFields(byte[] unknownFields) {
+    this.unknownFields = unknownFields;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    EvolvingItem that = (EvolvingItem) o;
+    return Objects.equals(name, that.name) && Objects.equals(count, that.count) && Objects.equals(active, that.active)
+      && Objects.equals(color, that.color) && Objects.equals(colorList, that.colorList);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, count, active, color, colorList);
+  }
+}
@@ -0,0 +1,77 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.IntegerProtoEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtoEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.util.List;
+import java.util.Objects;
+
+@DataObject
+@ProtobufGen
+public class IntegerEncodingItem {
+  @ProtoEncoding(IntegerProtoEncoding.UINT)
+  private long counter;
+  @ProtoEncoding(IntegerProtoEncoding.SINT)
+  private int delta;
+  @ProtoEncoding(IntegerProtoEncoding.SINT)
+  private List<Long> deltaList;
+  @ProtoEncoding(IntegerProtoEncoding.SFIXED)
+  private Integer hash;
+  @ProtoEncoding(IntegerProtoEncoding.FIXED)
+  private long id;
+
+  public long getCounter() {
+    return counter;
+  }
+
+  public void setCounter(long counter) {
+    this.counter = counter;
+  }
+
+  public int getDelta() {
+    return delta;
+  }
+
+  public void setDelta(int delta) {
+    this.delta = delta;
+  }
+
+  public List<Long> getDeltaList() {
+    return deltaList;
+  }
+
+  public void setDeltaList(List<Long> deltaList) {
+    this.deltaList = deltaList;
+  }
+
+  public Integer getHash() {
+    return hash;
+  }
+
+  public void setHash(Integer hash) {
+    this.hash = hash;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    IntegerEncodingItem that = (IntegerEncodingItem) o;
+    return counter == that.counter && delta == that.delta && id == that.id && Objects.equals(deltaList, that.deltaList) && Objects.equals(hash, that.hash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(counter, delta, deltaList, hash, id);
+  }
+}
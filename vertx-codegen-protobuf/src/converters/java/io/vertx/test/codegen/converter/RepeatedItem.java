@@ -0,0 +1,98 @@
+package io.vertx.test.codegen.converter;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+
+import java.util.List;
+import java.util.Objects;
+
+@DataObject
+@ProtobufGen
+public class RepeatedItem {
+  private List<Boolean> booleanList;
+  private List<Byte> byteList;
+  private List<Double> doubleList;
+  private List<Float> floatList;
+  private List<Integer> integerList;
+  private List<Long> longList;
+  private List<Short> shortList;
+  private List<String> stringList;
+
+  public List<Boolean> getBooleanList() {
+    return booleanList;
+  }
+
+  public void setBooleanList(List<Boolean> booleanList) {
+    this.booleanList = booleanList;
+  }
+
+  public List<Byte> getByteList() {
+    return byteList;
+  }
+
+  public void setByteList(List<Byte> byteList) {
+    this.byteList = byteList;
+  }
+
+  public List<Double> getDoubleList() {
+    return doubleList;
+  }
+
+  public void setDoubleList(List<Double> doubleList) {
+    this.doubleList = doubleList;
+  }
+
+  public List<Float> getFloatList() {
+    return floatList;
+  }
+
+  public void setFloatList(List<Float> floatList) {
+    this.floatList = floatList;
+  }
+
+  public List<Integer> getIntegerList() {
+    return integerList;
+  }
+
+  public void setIntegerList(List<Integer> integerList) {
+    this.integerList = integerList;
+  }
+
+  public List<Long> getLongList() {
+    return longList;
+  }
+
+  public void setLongList(List<Long> longList) {
+    this.longList = longList;
+  }
+
+  public List<Short> getShortList() {
+    return shortList;
+  }
+
+  public void setShortList(List<Short> shortList) {
+    this.shortList = shortList;
+  }
+
+  public List<String> getStringList() {
+    return stringList;
+  }
+
+  public void setStringList(List<String> stringList) {
+    this.stringList = stringList;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    RepeatedItem that = (RepeatedItem) o;
+    return Objects.equals(booleanList, that.booleanList) && Objects.equals(byteList, that.byteList) && Objects.equals(doubleList, that.doubleList) && Objects.equals(floatList, that.floatList) &&
+      Objects.equals(integerList, that.integerList) && Objects.equals(longList, that.longList) && Objects.equals(shortList, that.shortList) && Objects.equals(stringList, that.stringList);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(booleanList, byteList, doubleList, floatList, integerList, longList, shortList, stringList);
+  }
+}
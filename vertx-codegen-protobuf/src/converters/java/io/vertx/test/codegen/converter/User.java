@@ -11,7 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 
 @DataObject
-@ProtobufGen
+@ProtobufGen(protoView = true)
 public class User {
   private String userName;
   private Integer age;
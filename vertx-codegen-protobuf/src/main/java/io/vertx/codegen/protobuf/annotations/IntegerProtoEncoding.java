@@ -0,0 +1,34 @@
+package io.vertx.codegen.protobuf.annotations;
+
+/**
+ * Enumerates the available encodings of integer properties, the 32 or 64 bits protobuf type is selected from the java
+ * type of the property.
+ */
+public enum IntegerProtoEncoding {
+
+  /**
+   * Varint encoding, {@code int32} or {@code int64}, the default encoding. A negative value always takes 10 bytes.
+   */
+  INT,
+
+  /**
+   * ZigZag varint encoding, {@code sint32} or {@code sint64}, small negative values take few bytes.
+   */
+  SINT,
+
+  /**
+   * Unsigned varint encoding, {@code uint32} or {@code uint64}, the value bits are encoded as an unsigned number.
+   */
+  UINT,
+
+  /**
+   * Fixed size encoding, {@code fixed32} or {@code fixed64}, the value bits are encoded as an unsigned number on 4 or 8
+   * bytes, smaller than varints for values with high bits set such as hashes or random identifiers.
+   */
+  FIXED,
+
+  /**
+   * Signed fixed size encoding, {@code sfixed32} or {@code sfixed64}, the value is encoded on 4 or 8 bytes.
+   */
+  SFIXED
+}
@@ -0,0 +1,35 @@
+package io.vertx.codegen.protobuf.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+/**
+ * The ProtoEncoding annotation selects the protobuf encoding of an integer data object property.
+ * <p>
+ * By default {@code int}, {@code short}, {@code byte} and {@code char} properties are encoded as {@code int32} and
+ * {@code long} properties as {@code int64}. The annotation applies to value, list, array and map properties of these
+ * types, the selected type is used by the generated converter and in the {@code .proto} message definition. The
+ * annotation can be placed on the field, the getter or the setter of the property. Annotating a property of another
+ * type is reported as a compilation error.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@literal @}DataObject
+ * {@literal @}ProtobufGen
+ * class Counter {
+ *   {@literal @}ProtoEncoding(IntegerProtoEncoding.SINT)
+ *   private int delta;
+ *   {@literal @}ProtoEncoding(IntegerProtoEncoding.FIXED)
+ *   private long id;
+ *   ...
+ * }
+ * </pre>
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ProtoEncoding {
+
+  /**
+   * @return the encoding of the property
+   */
+  IntegerProtoEncoding value();
+}
@@ -0,0 +1,36 @@
+package io.vertx.codegen.protobuf.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+/**
+ * The ProtoEnumValue annotation pins the protobuf number of an enum constant.
+ * <p>
+ * Enum properties are encoded as varints, by default the constants are numbered in declaration order starting at
+ * {@code 0}, so adding a constant before others or reordering the constants breaks the wire compatibility with
+ * previously encoded messages. Annotating the constants keeps their numbers stable when the enum evolves.
+ * <p>
+ * Constants without this annotation are numbered in declaration order, skipping the numbers claimed by annotated
+ * constants. A constant must be numbered {@code 0}, the protobuf default value. Duplicate or negative numbers are
+ * reported as compilation errors.
+ * <p>
+ * Example usage:
+ * <pre>
+ * enum Status {
+ *   {@literal @}ProtoEnumValue(number = 0)
+ *   UNKNOWN,
+ *   {@literal @}ProtoEnumValue(number = 2)
+ *   ACTIVE,
+ *   {@literal @}ProtoEnumValue(number = 1)
+ *   INACTIVE
+ * }
+ * </pre>
+ */
+@Target(ElementType.FIELD)
+public @interface ProtoEnumValue {
+
+  /**
+   * @return the protobuf number of the enum constant
+   */
+  int number();
+}
@@ -0,0 +1,37 @@
+package io.vertx.codegen.protobuf.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+/**
+ * The ProtoField annotation pins the protobuf field number of a data object property.
+ * <p>
+ * By default field numbers are assigned in property order, so adding or removing a property renumbers the
+ * following ones and breaks the wire compatibility with previously encoded messages. Annotating the properties
+ * keeps their numbers stable when the data object evolves. The annotation can be placed on the field, the getter
+ * or the setter of the property.
+ * <p>
+ * Properties without this annotation keep being numbered in property order, skipping the numbers claimed by
+ * annotated properties. Duplicate or invalid numbers are reported as compilation errors.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@literal @}DataObject
+ * {@literal @}ProtobufGen
+ * class User {
+ *   {@literal @}ProtoField(number = 1)
+ *   private String userName;
+ *   {@literal @}ProtoField(number = 2)
+ *   private Integer age;
+ *   ...
+ * }
+ * </pre>
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ProtoField {
+
+  /**
+   * @return the protobuf field number of the property
+   */
+  int number();
+}
@@ -0,0 +1,29 @@
+package io.vertx.codegen.protobuf.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+/**
+ * The ProtoUnknownFields annotation marks the {@code byte[]} property of a data object retaining the protobuf fields
+ * the generated converter does not know.
+ * <p>
+ * Unknown fields are always skipped when decoding, so a message produced by a newer version of a data object can be
+ * decoded by an older version. When a property carries this annotation, the skipped fields are also copied as is into
+ * this property and written back after the known fields when encoding, so they survive a decode/encode round trip
+ * through an older version. The property is not part of the protobuf message.
+ * <p>
+ * Example usage:
+ * <pre>
+ * {@literal @}DataObject
+ * {@literal @}ProtobufGen
+ * class User {
+ *   private String userName;
+ *   {@literal @}ProtoUnknownFields
+ *   private byte[] unknownFields;
+ *   ...
+ * }
+ * </pre>
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ProtoUnknownFields {
+}
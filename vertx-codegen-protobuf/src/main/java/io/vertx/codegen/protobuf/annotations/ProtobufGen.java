@@ -26,10 +26,27 @@ package io.vertx.codegen.protobuf.annotations;
  *   public static void toProto(...);
  * }
  * </pre>
+ * When {@code protoView} is set to true, a {@code UserProtoView} class is also generated, it locates the fields of an
+ * encoded data object with a single scan and decodes each property only when it is accessed, the data object must be a
+ * concrete class with an empty constructor.
+ * <p>
+ * When {@code messageCodec} is set to true, a {@code UserMessageCodec} event-bus message codec is also generated, the
+ * data object must be a concrete class with an empty constructor.
+ * <p>
  * Note: This annotation only works with the {@literal @DataObject} annotation.
  *
  * @author <a href="https://github.com/lwlee2608">Jason Lee</a>
  */
 public @interface ProtobufGen {
   JsonProtoEncoding jsonProtoEncoding() default JsonProtoEncoding.VERTX_STRUCT;
+
+  /**
+   * @return true if a lazy view of the protobuf representation should be generated
+   */
+  boolean protoView() default false;
+
+  /**
+   * @return true if an event-bus message codec should be generated
+   */
+  boolean messageCodec() default false;
 }
@@ -0,0 +1,66 @@
+package io.vertx.codegen.protobuf.converters;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.core.buffer.Buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the binary java types ({@code byte[]}, {@link ByteBuffer} and {@link Buffer}) to protobuf {@code bytes}.
+ * <p/>
+ * The size of a value is computed from its length only and {@code byte[]}/{@link ByteBuffer} values are written
+ * without intermediate copy. {@link ByteBuffer} values are decoded with {@link CodedInputStream#readByteBuffer()}
+ * that returns a slice of the input bytes instead of a copy when the input is created from a byte array
+ * and {@link CodedInputStream#enableAliasing(boolean) aliasing} is enabled, such slice is only valid as long as the
+ * input bytes are not modified.
+ */
+public class BytesProtoConverter {
+
+  public static byte[] fromProtoByteArray(CodedInputStream input) throws IOException {
+    return input.readByteArray();
+  }
+
+  public static ByteBuffer fromProtoByteBuffer(CodedInputStream input) throws IOException {
+    return input.readByteBuffer();
+  }
+
+  public static Buffer fromProtoBuffer(CodedInputStream input) throws IOException {
+    return Buffer.buffer(input.readByteArray());
+  }
+
+  public static void toProto(byte[] value, CodedOutputStream output) throws IOException {
+    output.writeByteArrayNoTag(value);
+  }
+
+  public static void toProto(ByteBuffer value, CodedOutputStream output) throws IOException {
+    int length = value.remaining();
+    output.writeUInt32NoTag(length);
+    if (value.hasArray()) {
+      output.writeRawBytes(value.array(), value.arrayOffset() + value.position(), length);
+    } else {
+      // Preserve the position of the value
+      output.write(value.duplicate());
+    }
+  }
+
+  public static void toProto(Buffer value, CodedOutputStream output) throws IOException {
+    output.writeUInt32NoTag(value.length());
+    output.writeRawBytes(value.getBytes());
+  }
+
+  public static int computeSize(byte[] value) {
+    return CodedOutputStream.computeByteArraySizeNoTag(value);
+  }
+
+  public static int computeSize(ByteBuffer value) {
+    int length = value.remaining();
+    return CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+  }
+
+  public static int computeSize(Buffer value) {
+    int length = value.length();
+    return CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+  }
+}
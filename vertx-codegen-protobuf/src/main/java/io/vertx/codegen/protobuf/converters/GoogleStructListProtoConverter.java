@@ -2,6 +2,8 @@ package io.vertx.codegen.protobuf.converters;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -23,7 +25,9 @@ public class GoogleStructListProtoConverter {
     int tag;
     while ((tag = input.readTag()) != 0) {
       if (tag != TOP_LEVEL_TAG) {
-        throw new UnsupportedOperationException("Unsupported tag " + tag);
+        // Field added by a newer version
+        input.skipField(tag);
+        continue;
       }
 
       int length = input.readUInt32();
@@ -45,15 +49,36 @@ public class GoogleStructListProtoConverter {
           input.popLimit(structLimit);
           break;
         default:
-          throw new UnsupportedOperationException("Unsupported field type " + fieldType);
+          // Value type added by a newer version
+          input.skipField(fieldType);
+          break;
       }
 
+      // Skip the remaining fields of the value
+      input.skipRawBytes(input.getBytesUntilLimit());
       input.popLimit(limit);
     }
     return array;
   }
 
   public static void toProto(JsonArray array, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      GoogleStructListProtoConverter.computeSize(array, cache, 0);
+      GoogleStructListProtoConverter.toProto(array, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  /**
+   * Write the array using the struct sizes previously stored in the {@code cache} by
+   * {@link #computeSize(JsonArray, ExpandableIntArray, int)}.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int toProto(JsonArray array, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
     for (Object value : array.getList()) {
       // Calculate value length
       int valueLength = 0;
@@ -68,7 +93,7 @@ public class GoogleStructListProtoConverter {
       } else if (value instanceof Long) {
         valueLength = CodedOutputStream.computeDoubleSize(NUMBER_FIELD_NUMBER, (Long) value);
       } else if (value instanceof JsonObject) {
-        structSize = GoogleStructProtoConverter.computeSize((JsonObject) value);
+        structSize = cache.get(index);
         valueLength += CodedOutputStream.computeTagSize(STRUCT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -88,14 +113,32 @@ public class GoogleStructListProtoConverter {
       } else if (value instanceof JsonObject) {
         output.writeTag(STRUCT_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);      // value
         output.writeUInt32NoTag(structSize);                                  //
-        GoogleStructProtoConverter.toProto((JsonObject) value, output);       //
+        index = GoogleStructProtoConverter.toProto((JsonObject) value, output, cache, index);
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
     }
+    return index;
   }
 
   public static int computeSize(JsonArray array) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      GoogleStructListProtoConverter.computeSize(array, cache, 0);
+      return cache.get(0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  /**
+   * Compute the size of the array and of its nested structs in a single pass, the size of the array is stored
+   * at {@code baseIndex} in the {@code cache} followed by the sizes of its nested structs in encounter order.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int computeSize(JsonArray array, ExpandableIntArray cache, final int baseIndex) {
+    int index = baseIndex + 1;
     int totalSize = 0;
     for (Object value : array) {
       // Calculate value length
@@ -109,7 +152,9 @@ public class GoogleStructListProtoConverter {
       } else if (value instanceof Long) {
         valueLength = CodedOutputStream.computeDoubleSize(NUMBER_FIELD_NUMBER, (Long) value);
       } else if (value instanceof JsonObject) {
-        int structSize = GoogleStructProtoConverter.computeSize((JsonObject) value);
+        int savedIndex = index;
+        index = GoogleStructProtoConverter.computeSize((JsonObject) value, cache, index);
+        int structSize = cache.get(savedIndex);
         valueLength += CodedOutputStream.computeTagSize(STRUCT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -121,6 +166,7 @@ public class GoogleStructListProtoConverter {
       totalSize += CodedOutputStream.computeUInt32SizeNoTag(valueLength);         // value length
       totalSize += valueLength;                                                   // value
     }
-    return totalSize;
+    cache.set(baseIndex, totalSize);
+    return index;
   }
 }
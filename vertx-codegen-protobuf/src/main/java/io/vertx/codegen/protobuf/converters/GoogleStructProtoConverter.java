@@ -2,6 +2,8 @@ package io.vertx.codegen.protobuf.converters;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -38,7 +40,9 @@ public class GoogleStructProtoConverter {
     int tag;
     while ((tag = input.readTag()) != 0) {
       if (tag != TOP_LEVEL_TAG) {
-        throw new UnsupportedOperationException("Unsupported tag " + tag);
+        // Field added by a newer version
+        input.skipField(tag);
+        continue;
       }
 
       int length = input.readUInt32();
@@ -82,16 +86,38 @@ public class GoogleStructProtoConverter {
           break;
         }
         default:
-          throw new UnsupportedOperationException("Unsupported field type " + fieldType);
+          // Value type added by a newer version
+          input.skipField(fieldType);
+          break;
       }
 
+      // Skip the remaining fields of the value and of the entry
+      input.skipRawBytes(input.getBytesUntilLimit());
       input.popLimit(vlimit);
+      input.skipRawBytes(input.getBytesUntilLimit());
       input.popLimit(limit);
     }
     return obj;
   }
 
   public static void toProto(JsonObject obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      GoogleStructProtoConverter.computeSize(obj, cache, 0);
+      GoogleStructProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  /**
+   * Write the object using the struct sizes previously stored in the {@code cache} by
+   * {@link #computeSize(JsonObject, ExpandableIntArray, int)}.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int toProto(JsonObject obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
     Map<String, Object> fields = obj.getMap();
     for (Map.Entry<String, Object> entry : fields.entrySet()) {
       String key = entry.getKey();
@@ -119,12 +145,12 @@ public class GoogleStructProtoConverter {
       } else if (value instanceof Boolean) {
         valueLength = CodedOutputStream.computeBoolSize(BOOLEAN_FIELD_NUMBER, (Boolean) value);
       } else if (value instanceof JsonObject) {
-        structSize = GoogleStructProtoConverter.computeSize((JsonObject) value);
+        structSize = cache.get(index);
         valueLength += CodedOutputStream.computeTagSize(STRUCT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof JsonArray) {
-        structSize = GoogleStructListProtoConverter.computeSize((JsonArray) value);
+        structSize = cache.get(index);
         valueLength += CodedOutputStream.computeTagSize(LIST_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -173,21 +199,37 @@ public class GoogleStructProtoConverter {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(STRUCT_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);              // value
         output.writeUInt32NoTag(structSize);                                          //
-        GoogleStructProtoConverter.toProto((JsonObject) value, output);               //
+        index = GoogleStructProtoConverter.toProto((JsonObject) value, output, cache, index);
       } else if (value instanceof JsonArray) {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(LIST_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);          // value
         output.writeUInt32NoTag(structSize);                                          //
-        GoogleStructListProtoConverter.toProto((JsonArray) value, output);
+        index = GoogleStructListProtoConverter.toProto((JsonArray) value, output, cache, index);
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
-
     }
-
+    return index;
   }
 
   public static int computeSize(JsonObject obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      GoogleStructProtoConverter.computeSize(obj, cache, 0);
+      return cache.get(0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  /**
+   * Compute the size of the object and of its nested structs in a single pass, the size of the object is stored
+   * at {@code baseIndex} in the {@code cache} followed by the sizes of its nested structs in encounter order.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int computeSize(JsonObject obj, ExpandableIntArray cache, final int baseIndex) {
+    int index = baseIndex + 1;
     int totalSize = 0;
     Map<String, Object> fields = obj.getMap();
     for (Map.Entry<String, Object> entry : fields.entrySet()) {
@@ -213,12 +255,16 @@ public class GoogleStructProtoConverter {
       } else if (value instanceof Boolean) {
         valueLength = CodedOutputStream.computeBoolSize(BOOLEAN_FIELD_NUMBER, (Boolean) value);
       } else if (value instanceof JsonObject) {
-        int structSize = GoogleStructProtoConverter.computeSize((JsonObject) value);
+        int savedIndex = index;
+        index = GoogleStructProtoConverter.computeSize((JsonObject) value, cache, index);
+        int structSize = cache.get(savedIndex);
         valueLength += CodedOutputStream.computeTagSize(STRUCT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof JsonArray) {
-        int structSize = GoogleStructListProtoConverter.computeSize((JsonArray) value);
+        int savedIndex = index;
+        index = GoogleStructListProtoConverter.computeSize((JsonArray) value, cache, index);
+        int structSize = cache.get(savedIndex);
         valueLength += CodedOutputStream.computeTagSize(LIST_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -234,6 +280,7 @@ public class GoogleStructProtoConverter {
       totalSize += CodedOutputStream.computeUInt32SizeNoTag(dataSize);              // top-level length
       totalSize += dataSize;                                                        // key and value
     }
-    return totalSize;
+    cache.set(baseIndex, totalSize);
+    return index;
   }
 }
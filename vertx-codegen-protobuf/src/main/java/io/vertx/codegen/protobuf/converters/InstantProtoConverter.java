@@ -27,6 +27,10 @@ public class InstantProtoConverter {
           seconds = input.readInt64();
           break;
         }
+        default: {
+          input.skipField(tag);
+          break;
+        }
       }
     }
     return Instant.ofEpochSecond(seconds, nanos);
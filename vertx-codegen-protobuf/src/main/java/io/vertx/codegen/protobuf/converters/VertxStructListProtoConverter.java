@@ -2,6 +2,8 @@ package io.vertx.codegen.protobuf.converters;
 
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import io.vertx.core.json.JsonArray;
 
 import java.io.IOException;
@@ -22,7 +24,9 @@ public class VertxStructListProtoConverter {
     int tag;
     while ((tag = input.readTag()) != 0) {
       if (tag != TOP_LEVEL_TAG) {
-        throw new UnsupportedOperationException("Unsupported tag " + tag);
+        // Field added by a newer version
+        input.skipField(tag);
+        continue;
       }
 
       int length = input.readUInt32();
@@ -40,9 +44,13 @@ public class VertxStructListProtoConverter {
           array.add(input.readInt64());
           break;
         default:
-          throw new UnsupportedOperationException("Unsupported field type " + fieldType);
+          // Value type added by a newer version
+          input.skipField(fieldType);
+          break;
       }
 
+      // Skip the remaining fields of the value
+      input.skipRawBytes(input.getBytesUntilLimit());
       input.popLimit(limit);
     }
     return array;
@@ -50,20 +58,7 @@ public class VertxStructListProtoConverter {
 
   public static void toProto(JsonArray array, CodedOutputStream output) throws IOException {
     for (Object value : array.getList()) {
-      // Calculate value length
-      int valueLength = 0;
-      if (value == null) {
-        throw new UnsupportedOperationException("Unsupported null type");
-      } else if (value instanceof String) {
-        valueLength = CodedOutputStream.computeStringSize(STRING_FIELD_NUMBER, (String) value);
-      } else if (value instanceof Integer){
-        valueLength = CodedOutputStream.computeInt32Size(INTEGER_FIELD_NUMBER, (Integer) value);
-      } else if (value instanceof Long) {
-        valueLength = CodedOutputStream.computeInt64Size(LONG_FIELD_NUMBER, (Long) value);
-      } else {
-        throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
-      }
-
+      int valueLength = computeValueSize(value);
       output.writeTag(TOP_LEVEL_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);   // top-level tag, always 0xa
       output.writeUInt32NoTag(valueLength);                                 // value length
 
@@ -71,35 +66,65 @@ public class VertxStructListProtoConverter {
         output.writeString(STRING_FIELD_NUMBER, (String) value);
       } else if (value instanceof Integer){
         output.writeInt32(INTEGER_FIELD_NUMBER, (Integer) value);
-      } else if (value instanceof Long) {
-        output.writeInt64(LONG_FIELD_NUMBER, (Long) value);
       } else {
-        throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
+        output.writeInt64(LONG_FIELD_NUMBER, (Long) value);
       }
     }
   }
 
+  /**
+   * Cached variant of {@link #toProto(JsonArray, CodedOutputStream)} used when the array is nested in a struct.
+   * The array elements are scalars, their length is computed again from the value by {@link #computeValueSize}
+   * like {@link #computeSize(JsonArray, ExpandableIntArray, int)} does, the array only uses the cache entry of its
+   * own size.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int toProto(JsonArray array, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    toProto(array, output);
+    return index + 1;
+  }
+
   public static int computeSize(JsonArray array) {
-    int totalSize = 0;
-    for (Object value : array) {
-      // Calculate value length
-      int valueLength = 0;
-      if (value == null) {
-        throw new UnsupportedOperationException("Unsupported null type");
-      } else if (value instanceof String) {
-        valueLength = CodedOutputStream.computeStringSize(STRING_FIELD_NUMBER, (String) value);
-      } else if (value instanceof Integer){
-        valueLength = CodedOutputStream.computeInt32Size(INTEGER_FIELD_NUMBER, (Integer) value);
-      } else if (value instanceof Long) {
-        valueLength = CodedOutputStream.computeInt64Size(LONG_FIELD_NUMBER, (Long) value);
-      } else {
-        throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
-      }
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      VertxStructListProtoConverter.computeSize(array, cache, 0);
+      return cache.get(0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
 
+  /**
+   * Compute the size of the array, the size is stored at {@code baseIndex} in the {@code cache}, the scalar
+   * elements do not use the cache.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int computeSize(JsonArray array, ExpandableIntArray cache, final int baseIndex) {
+    int totalSize = 0;
+    for (Object value : array.getList()) {
+      int valueLength = computeValueSize(value);
       totalSize += CodedOutputStream.computeTagSize(TOP_LEVEL_FIELD_NUMBER);      // top-level tag
       totalSize += CodedOutputStream.computeUInt32SizeNoTag(valueLength);         // value length
       totalSize += valueLength;                                                   // value
     }
-    return totalSize;
+    cache.set(baseIndex, totalSize);
+    return baseIndex + 1;
+  }
+
+  // The length of an encoded array element
+  private static int computeValueSize(Object value) {
+    if (value == null) {
+      throw new UnsupportedOperationException("Unsupported null type");
+    } else if (value instanceof String) {
+      return CodedOutputStream.computeStringSize(STRING_FIELD_NUMBER, (String) value);
+    } else if (value instanceof Integer){
+      return CodedOutputStream.computeInt32Size(INTEGER_FIELD_NUMBER, (Integer) value);
+    } else if (value instanceof Long) {
+      return CodedOutputStream.computeInt64Size(LONG_FIELD_NUMBER, (Long) value);
+    } else {
+      throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
+    }
   }
 }
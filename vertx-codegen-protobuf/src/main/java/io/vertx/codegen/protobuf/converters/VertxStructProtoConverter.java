@@ -1,8 +1,9 @@
 package io.vertx.codegen.protobuf.converters;
 
-import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -50,7 +51,9 @@ public class VertxStructProtoConverter {
     int tag;
     while ((tag = input.readTag()) != 0) {
       if (tag != TOP_LEVEL_TAG) {
-        throw new UnsupportedOperationException("Unsupported tag " + tag);
+        // Field added by a newer version
+        input.skipField(tag);
+        continue;
       }
 
       int length = input.readUInt32();
@@ -115,16 +118,38 @@ public class VertxStructProtoConverter {
           obj.put(key, null);
           break;
         default:
-          throw new UnsupportedOperationException("Unsupported field type " + fieldType);
+          // Value type added by a newer version
+          input.skipField(fieldType);
+          break;
       }
 
+      // Skip the remaining fields of the value and of the entry
+      input.skipRawBytes(input.getBytesUntilLimit());
       input.popLimit(vlimit);
+      input.skipRawBytes(input.getBytesUntilLimit());
       input.popLimit(limit);
     }
     return obj;
   }
 
   public static void toProto(JsonObject obj, CodedOutputStream output) throws IOException {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      VertxStructProtoConverter.computeSize(obj, cache, 0);
+      VertxStructProtoConverter.toProto(obj, output, cache, 0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  /**
+   * Write the object using the struct sizes previously stored in the {@code cache} by
+   * {@link #computeSize(JsonObject, ExpandableIntArray, int)}.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int toProto(JsonObject obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {
+    index = index + 1;
     Map<String, Object> fields = obj.getMap();
     for (Map.Entry<String, Object> entry : fields.entrySet()) {
       String key = entry.getKey();
@@ -149,12 +174,12 @@ public class VertxStructProtoConverter {
       } else if (value instanceof Float) {
         valueLength = CodedOutputStream.computeFloatSize(FLOAT_FIELD_NUMBER, (Float) value);
       } else if (value instanceof JsonObject) {
-        structSize = VertxStructProtoConverter.computeSize((JsonObject) value);
+        structSize = cache.get(index);
         valueLength += CodedOutputStream.computeTagSize(JSON_OBJECT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof JsonArray) {
-        structSize = VertxStructListProtoConverter.computeSize((JsonArray) value);
+        structSize = cache.get(index);
         valueLength += CodedOutputStream.computeTagSize(JSON_ARRAY_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -164,7 +189,7 @@ public class VertxStructProtoConverter {
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof byte[]) {
-        valueLength = CodedOutputStream.computeBytesSize(BYTES_FIELD_NUMBER, ByteString.copyFrom((byte[]) value));
+        valueLength = CodedOutputStream.computeByteArraySize(BYTES_FIELD_NUMBER, (byte[]) value);
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
@@ -207,12 +232,12 @@ public class VertxStructProtoConverter {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(JSON_OBJECT_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);         // value
         output.writeUInt32NoTag(structSize);                                          //
-        VertxStructProtoConverter.toProto((JsonObject) value, output);                      //
+        index = VertxStructProtoConverter.toProto((JsonObject) value, output, cache, index);
       } else if (value instanceof JsonArray) {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(JSON_ARRAY_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);          // value
         output.writeUInt32NoTag(structSize);                                          //
-        VertxStructListProtoConverter.toProto((JsonArray) value, output);
+        index = VertxStructListProtoConverter.toProto((JsonArray) value, output, cache, index);
       } else if (value instanceof Instant) {
         output.writeUInt32NoTag(valueLength);                                         // value length
         output.writeTag(INSTANT_FIELD_NUMBER, WIRETYPE_LENGTH_DELIMITED);             // value
@@ -220,14 +245,32 @@ public class VertxStructProtoConverter {
         InstantProtoConverter.toProto((Instant) value, output);                       //
       } else if (value instanceof byte[]) {
         output.writeUInt32NoTag(valueLength);                                         // value length
-        output.writeBytes(BYTES_FIELD_NUMBER, ByteString.copyFrom((byte[]) value));   // value
+        output.writeByteArray(BYTES_FIELD_NUMBER, (byte[]) value);                     // value
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
     }
+    return index;
   }
 
   public static int computeSize(JsonObject obj) {
+    ExpandableIntArray cache = ExpandableIntArrayPool.acquire();
+    try {
+      VertxStructProtoConverter.computeSize(obj, cache, 0);
+      return cache.get(0);
+    } finally {
+      ExpandableIntArrayPool.release(cache);
+    }
+  }
+
+  /**
+   * Compute the size of the object and of its nested structs in a single pass, the size of the object is stored
+   * at {@code baseIndex} in the {@code cache} followed by the sizes of its nested structs in encounter order.
+   *
+   * @return the index of the next struct in the cache
+   */
+  public static int computeSize(JsonObject obj, ExpandableIntArray cache, final int baseIndex) {
+    int index = baseIndex + 1;
     int totalSize = 0;
     Map<String, Object> fields = obj.getMap();
     for (Map.Entry<String, Object> entry : fields.entrySet()) {
@@ -251,12 +294,16 @@ public class VertxStructProtoConverter {
       } else if (value instanceof Float) {
         valueLength = CodedOutputStream.computeFloatSize(FLOAT_FIELD_NUMBER, (Float) value);
       } else if (value instanceof JsonObject) {
-        int structSize = VertxStructProtoConverter.computeSize((JsonObject) value);
+        int savedIndex = index;
+        index = VertxStructProtoConverter.computeSize((JsonObject) value, cache, index);
+        int structSize = cache.get(savedIndex);
         valueLength += CodedOutputStream.computeTagSize(JSON_OBJECT_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof JsonArray) {
-        int structSize = VertxStructListProtoConverter.computeSize((JsonArray) value);
+        int savedIndex = index;
+        index = VertxStructListProtoConverter.computeSize((JsonArray) value, cache, index);
+        int structSize = cache.get(savedIndex);
         valueLength += CodedOutputStream.computeTagSize(JSON_ARRAY_FIELD_NUMBER);
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
@@ -266,7 +313,7 @@ public class VertxStructProtoConverter {
         valueLength += CodedOutputStream.computeUInt32SizeNoTag(structSize);
         valueLength += structSize;
       } else if (value instanceof byte[]) {
-        valueLength = CodedOutputStream.computeBytesSize(BYTES_FIELD_NUMBER, ByteString.copyFrom((byte[]) value));
+        valueLength = CodedOutputStream.computeByteArraySize(BYTES_FIELD_NUMBER, (byte[]) value);
       } else {
         throw new UnsupportedOperationException("Unsupported type " + value.getClass().getTypeName());
       }
@@ -279,7 +326,7 @@ public class VertxStructProtoConverter {
       totalSize += CodedOutputStream.computeUInt32SizeNoTag(dataSize);              // top-level length
       totalSize += dataSize;                                                        // key and value
     }
-    return totalSize;
+    cache.set(baseIndex, totalSize);
+    return index;
   }
-
 }
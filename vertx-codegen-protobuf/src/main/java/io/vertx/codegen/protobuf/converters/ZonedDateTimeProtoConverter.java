@@ -36,6 +36,10 @@ public class ZonedDateTimeProtoConverter {
           zoneId = input.readString();
           break;
         }
+        default: {
+          input.skipField(tag);
+          break;
+        }
       }
     }
     return (Instant.ofEpochSecond(seconds, nanos)).atZone(ZoneId.of(zoneId));
@@ -0,0 +1,172 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.codegen.writer.CodeWriter;
+
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Generates an event-bus message codec for the {@link ProtobufGen} data objects declaring {@code messageCodec = true},
+ * the codec relies on the generated proto converter of the data object.
+ */
+public class DataObjectMessageCodecGen extends Generator<DataObjectModel> {
+
+  public DataObjectMessageCodecGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_message_codecs";
+    concurrent = true;
+    isolating = true;
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(ProtobufGen.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.getAnnotations().stream().anyMatch(ann -> ann.getName().equals(ProtobufGen.class.getName()) && Boolean.TRUE.equals(ann.getMember("messageCodec")))) {
+      if (!model.isClass() || !model.isConcrete() || !model.hasEmptyConstructor()) {
+        throw new GenException(model.getElement(), "A message codec requires a concrete data object class with an empty constructor");
+      }
+      return model.getFqn() + "MessageCodec.java";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    CodeWriter code = new CodeWriter();
+    PrintWriter writer = code;
+    String simpleName = model.getType().getSimpleName();
+    String converter = simpleName + "ProtoConverter";
+    // the copy converter generated with the JSON converter, otherwise the copy is a protobuf round-trip
+    boolean copyConverter = model.getGenerateConverter() && model.getCopyConverter();
+
+    writer.print("package " + model.getType().getPackageName() + ";\n");
+    writer.print("\n");
+    writer.print("import com.google.protobuf.CodedOutputStream;\n");
+    writer.print("import com.google.protobuf.CodedInputStream;\n");
+    writer.print("import java.io.IOException;\n");
+    writer.print("import java.io.UncheckedIOException;\n");
+    writer.print("import java.util.Objects;\n");
+    writer.print("import java.util.function.UnaryOperator;\n");
+    writer.print("import io.vertx.core.buffer.Buffer;\n");
+    writer.print("import io.vertx.core.eventbus.MessageCodec;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.BufferOutputStream;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ExpandableIntArray;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;\n");
+    writer.print("\n");
+    writer.print("/**\n");
+    writer.print(" * Event-bus message codec encoding {@link " + simpleName + "} with its protobuf representation prefixed by its length.\n");
+    writer.print(" * <p/>\n");
+    writer.print(" * Local deliveries are transformed with the operator given at creation time, the identity by default, or\n");
+    writer.print(" * with a deep copy for the codec created by {@link #copying()}.\n");
+    writer.print(" */\n");
+    writer.print("public class " + simpleName + "MessageCodec implements MessageCodec<" + simpleName + ", " + simpleName + "> {\n");
+    writer.print("\n");
+    writer.print("  public static final String NAME = \"" + model.getFqn() + "MessageCodec\";\n");
+    writer.print("\n");
+    writer.print("  private final UnaryOperator<" + simpleName + "> transform;\n");
+    writer.print("\n");
+    writer.print("  public " + simpleName + "MessageCodec() {\n");
+    writer.print("    this(UnaryOperator.identity());\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public " + simpleName + "MessageCodec(UnaryOperator<" + simpleName + "> transform) {\n");
+    writer.print("    this.transform = Objects.requireNonNull(transform);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  /**\n");
+    writer.print("   * @return a codec transforming local deliveries with a deep copy of the sent object\n");
+    writer.print("   */\n");
+    writer.print("  public static " + simpleName + "MessageCodec copying() {\n");
+    writer.print("    return new " + simpleName + "MessageCodec(" + simpleName + "MessageCodec::copy);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    if (copyConverter) {
+      writer.print("  private static " + simpleName + " copy(" + simpleName + " obj) {\n");
+      writer.print("    return " + simpleName + "Converter.copy(obj);\n");
+      writer.print("  }\n");
+    } else {
+      // the copy holds the properties encoded in protobuf
+      writer.print("  private static " + simpleName + " copy(" + simpleName + " obj) {\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + DataObjectProtobufGen.CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      byte[] bytes = new byte[" + converter + ".computeSize(obj, cache)];\n");
+      writer.print("      CodedOutputStream output = CodedOutputStream.newInstance(bytes);\n");
+      writer.print("      " + converter + ".toProto(obj, output, cache, 0);\n");
+      writer.print("      output.checkNoSpaceLeft();\n");
+      writer.print("      CodedInputStream input = CodedInputStream.newInstance(bytes);\n");
+      writer.print("      // the bytes are not shared, binary values can alias them\n");
+      writer.print("      input.enableAliasing(true);\n");
+      writer.print("      " + simpleName + " copy = new " + simpleName + "();\n");
+      writer.print("      " + converter + ".fromProto(input, copy);\n");
+      writer.print("      return copy;\n");
+      writer.print("    } catch (IOException e) {\n");
+      writer.print("      throw new UncheckedIOException(e);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+    }
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public void encodeToWire(Buffer buffer, " + simpleName + " obj) {\n");
+    writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + DataObjectProtobufGen.CACHE_INITIAL_CAPACITY + ");\n");
+    writer.print("    try {\n");
+    writer.print("      int size = " + converter + ".computeSize(obj, cache);\n");
+    writer.print("      buffer.appendInt(size);\n");
+    writer.print("      // the message is appended to the buffer through a chunk of at most 4096 bytes instead of a copy of the whole message\n");
+    writer.print("      CodedOutputStream output = CodedOutputStream.newInstance(new BufferOutputStream(buffer), Math.min(size, 4096));\n");
+    writer.print("      " + converter + ".toProto(obj, output, cache, 0);\n");
+    writer.print("      output.flush();\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    } finally {\n");
+    writer.print("      ExpandableIntArrayPool.release(cache);\n");
+    writer.print("    }\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public " + simpleName + " decodeFromWire(int pos, Buffer buffer) {\n");
+    writer.print("    int length = buffer.getInt(pos);\n");
+    writer.print("    pos += 4;\n");
+    writer.print("    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes(pos, pos + length));\n");
+    writer.print("    // the bytes are not shared, binary values can alias them\n");
+    writer.print("    input.enableAliasing(true);\n");
+    writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+    writer.print("    try {\n");
+    writer.print("      " + converter + ".fromProto(input, obj);\n");
+    writer.print("    } catch (IOException e) {\n");
+    writer.print("      throw new UncheckedIOException(e);\n");
+    writer.print("    }\n");
+    writer.print("    return obj;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public " + simpleName + " transform(" + simpleName + " obj) {\n");
+    writer.print("    return transform.apply(obj);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public String name() {\n");
+    writer.print("    return NAME;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  @Override\n");
+    writer.print("  public byte systemCodecID() {\n");
+    writer.print("    return -1;\n");
+    writer.print("  }\n");
+    writer.print("}\n");
+
+    return code.writer().toString();
+  }
+}
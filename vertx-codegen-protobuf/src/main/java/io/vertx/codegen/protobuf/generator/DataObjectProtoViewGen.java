@@ -0,0 +1,223 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
+import io.vertx.codegen.Generator;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.writer.CodeWriter;
+
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Generates a lazy view of the protobuf representation of the {@link ProtobufGen} data objects declaring
+ * {@code protoView = true}, the properties are decoded with the same code than the generated proto converter.
+ */
+public class DataObjectProtoViewGen extends Generator<DataObjectModel> {
+
+  public DataObjectProtoViewGen() {
+    kinds = Collections.singleton("dataObject");
+    name = "data_object_proto_views";
+    concurrent = true;
+    isolating = true;
+  }
+
+  @Override
+  public Collection<Class<? extends Annotation>> annotations() {
+    return Collections.singletonList(ProtobufGen.class);
+  }
+
+  @Override
+  public String filename(DataObjectModel model) {
+    if (model.getAnnotations().stream().anyMatch(ann -> ann.getName().equals(ProtobufGen.class.getName()) && Boolean.TRUE.equals(ann.getMember("protoView")))) {
+      if (!model.isClass() || !model.isConcrete() || !model.hasEmptyConstructor()) {
+        throw new GenException(model.getElement(), "A proto view requires a concrete data object class with an empty constructor");
+      }
+      return model.getFqn() + "ProtoView.java";
+    }
+    return null;
+  }
+
+  @Override
+  public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
+    CodeWriter code = new CodeWriter();
+    PrintWriter writer = code;
+    String simpleName = model.getType().getSimpleName();
+    String view = simpleName + "ProtoView";
+
+    JsonProtoEncoding jsonProtoEncoding = JsonProtoEncodingSelector.select(model);
+    Map<Integer, PropertyInfo> fields = ProtoFieldNumbers.select(model);
+
+    writer.print("package " + model.getType().getPackageName() + ";\n");
+    writer.print("\n");
+    writer.print("import com.google.protobuf.CodedOutputStream;\n");
+    writer.print("import com.google.protobuf.CodedInputStream;\n");
+    writer.print("import java.io.IOException;\n");
+    writer.print("import java.nio.ByteBuffer;\n");
+    writer.print("import java.time.Instant;\n");
+    writer.print("import java.time.ZonedDateTime;\n");
+    writer.print("import java.util.ArrayList;\n");
+    writer.print("import java.util.List;\n");
+    writer.print("import java.util.HashMap;\n");
+    writer.print("import java.util.Map;\n");
+    writer.print("import java.util.Arrays;\n");
+    writer.print("import io.vertx.core.buffer.Buffer;\n");
+    writer.print("import io.vertx.core.json.JsonObject;\n");
+    writer.print("import io.vertx.codegen.protobuf.converters.*;\n");
+    writer.print("\n");
+    writer.print("/**\n");
+    writer.print(" * Lazy view of the protobuf representation of {@link " + simpleName + "}.\n");
+    writer.print(" * <p/>\n");
+    writer.print(" * The fields are located with a single scan of the bytes when the view is created, each property is decoded from\n");
+    writer.print(" * the bytes when its getter is called and the bytes can be written again as is. The bytes must not be modified\n");
+    writer.print(" * while the view is used.\n");
+    writer.print(" */\n");
+    writer.print("public class " + view + " {\n");
+    writer.print("\n");
+    writer.print("  private final byte[] bytes;\n");
+    writer.print("  private final int offset;\n");
+    writer.print("  private final int length;\n");
+    writer.print("  // Position of the field decoded first for each property, -1 when absent\n");
+    writer.print("  private final int[] positions;\n");
+    writer.print("\n");
+    writer.print("  private " + view + "(byte[] bytes, int offset, int length, int[] positions) {\n");
+    writer.print("    this.bytes = bytes;\n");
+    writer.print("    this.offset = offset;\n");
+    writer.print("    this.length = length;\n");
+    writer.print("    this.positions = positions;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public static " + view + " of(byte[] bytes) throws IOException {\n");
+    writer.print("    return " + view + ".of(bytes, 0, bytes.length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public static " + view + " of(Buffer buffer) throws IOException {\n");
+    writer.print("    return " + view + ".of(buffer.getBytes());\n");
+    writer.print("  }\n");
+    writer.print("\n");
+
+    // of(), the scan
+    writer.print("  public static " + view + " of(byte[] bytes, int offset, int length) throws IOException {\n");
+    writer.print("    int[] positions = new int[" + fields.size() + "];\n");
+    writer.print("    Arrays.fill(positions, -1);\n");
+    writer.print("    CodedInputStream input = CodedInputStream.newInstance(bytes, offset, length);\n");
+    writer.print("    int position = 0;\n");
+    writer.print("    int tag;\n");
+    writer.print("    while ((tag = input.readTag()) != 0) {\n");
+    writer.print("      switch (tag) {\n");
+    int propIndex = 0;
+    for (Map.Entry<Integer, PropertyInfo> field : fields.entrySet()) {
+      PropertyInfo prop = field.getValue();
+      ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, field.getKey());
+      writer.print("        case " + protoProperty.getTag() + ":\n");
+      if (!protoProperty.isBytes() && (prop.getKind().isArray() || protoProperty.isPacked())) {
+        writer.print("        case " + protoProperty.getElementTag() + ":\n");
+      }
+      if (prop.getKind().isValue()) {
+        // the last occurrence wins
+        writer.print("          positions[" + propIndex + "] = position;\n");
+      } else {
+        // the occurrences are accumulated
+        writer.print("          if (positions[" + propIndex + "] == -1) {\n");
+        writer.print("            positions[" + propIndex + "] = position;\n");
+        writer.print("          }\n");
+      }
+      writer.print("          break;\n");
+      propIndex++;
+    }
+    writer.print("      }\n");
+    writer.print("      input.skipField(tag);\n");
+    writer.print("      position = input.getTotalBytesRead();\n");
+    writer.print("    }\n");
+    writer.print("    return new " + view + "(bytes, offset, length, positions);\n");
+    writer.print("  }\n");
+
+    // getters
+    propIndex = 0;
+    for (Map.Entry<Integer, PropertyInfo> field : fields.entrySet()) {
+      PropertyInfo prop = field.getValue();
+      writer.print("\n");
+      writer.print("  public " + javaType(prop) + " " + prop.getGetterMethod() + "() throws IOException {\n");
+      writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+      writer.print("    CodedInputStream input = input(positions[" + propIndex + "]);\n");
+      writer.print("    int tag;\n");
+      if (prop.getKind().isValue()) {
+        writer.print("    if ((tag = input.readTag()) != 0) {\n");
+      } else {
+        writer.print("    while ((tag = input.readTag()) != 0) {\n");
+      }
+      writer.print("      switch (tag) {\n");
+      DataObjectProtobufGen.genFromProtoCases(prop, field.getKey(), jsonProtoEncoding, simpleName + "ProtoConverter", false, writer);
+      if (!prop.getKind().isValue()) {
+        writer.print("        default: {\n");
+        writer.print("          input.skipField(tag);\n");
+        writer.print("          break;\n");
+        writer.print("        }\n");
+      }
+      writer.print("      }\n");
+      writer.print("    }\n");
+      writer.print("    return obj." + prop.getGetterMethod() + "();\n");
+      writer.print("  }\n");
+      propIndex++;
+    }
+    writer.print("\n");
+
+    writer.print("  public " + simpleName + " decode() throws IOException {\n");
+    writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+    writer.print("    " + simpleName + "ProtoConverter.fromProto(CodedInputStream.newInstance(bytes, offset, length), obj);\n");
+    writer.print("    return obj;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public int length() {\n");
+    writer.print("    return length;\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public byte[] toByteArray() {\n");
+    writer.print("    return Arrays.copyOfRange(bytes, offset, offset + length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public Buffer toBuffer() {\n");
+    writer.print("    return Buffer.buffer(toByteArray());\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public void writeTo(CodedOutputStream output) throws IOException {\n");
+    writer.print("    output.writeRawBytes(bytes, offset, length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  public void writeTo(ByteBuffer dst) {\n");
+    writer.print("    dst.put(bytes, offset, length);\n");
+    writer.print("  }\n");
+    writer.print("\n");
+    writer.print("  private CodedInputStream input(int position) {\n");
+    writer.print("    // an absent property is decoded from an empty input\n");
+    writer.print("    int from = position == -1 ? length : position;\n");
+    writer.print("    return CodedInputStream.newInstance(bytes, offset + from, length - from);\n");
+    writer.print("  }\n");
+    writer.print("}\n");
+
+    return code.writer().toString();
+  }
+
+  private static String javaType(PropertyInfo prop) {
+    // enums may be declared in another package
+    String type = prop.getType().getKind() == ClassKind.ENUM ? prop.getType().getName() : prop.getType().getSimpleName();
+    switch (prop.getKind()) {
+      case ARRAY:
+        return type + "[]";
+      case LIST:
+        return "List<" + type + ">";
+      case SET:
+        return "java.util.Set<" + type + ">";
+      case MAP:
+        return "Map<String, " + type + ">";
+      default:
+        return type;
+    }
+  }
+}
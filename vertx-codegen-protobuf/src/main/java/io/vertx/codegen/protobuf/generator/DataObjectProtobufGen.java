@@ -6,13 +6,14 @@ import io.vertx.codegen.PropertyInfo;
 import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
 import io.vertx.codegen.protobuf.annotations.ProtobufGen;
 import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.EnumTypeInfo;
 import io.vertx.codegen.writer.CodeWriter;
 
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -22,9 +23,15 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
 
   public static int CACHE_INITIAL_CAPACITY = 16;
 
+  // Upper bound of the element count presized from the length of a packed field, the length is read from the input
+  // and is not checked against the available bytes
+  private static final int MAX_PRESIZED_ELEMENTS = 1024;
+
   public DataObjectProtobufGen() {
     kinds = Collections.singleton("dataObject");
     name = "data_object_converters";
+    concurrent = true;
+    isolating = true;
   }
 
   @Override
@@ -46,18 +53,21 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
   }
 
   public String renderProto(DataObjectModel model, int index, int size, Map<String, Object> session) {
-    StringWriter buffer = new StringWriter();
-    PrintWriter writer = new PrintWriter(buffer);
-    CodeWriter code = new CodeWriter(writer);
+    CodeWriter code = new CodeWriter();
+    PrintWriter writer = code;
     String visibility = model.isPublicConverter() ? "public" : "";
 
     JsonProtoEncoding jsonProtoEncoding = JsonProtoEncodingSelector.select(model);
+    Map<Integer, PropertyInfo> fields = ProtoFieldNumbers.select(model);
+    PropertyInfo unknownFields = ProtoFieldNumbers.unknownFields(model);
 
     writer.print("package " + model.getType().getPackageName() + ";\n");
     writer.print("\n");
     writer.print("import com.google.protobuf.CodedOutputStream;\n");
     writer.print("import com.google.protobuf.CodedInputStream;\n");
     writer.print("import java.io.IOException;\n");
+    writer.print("import java.nio.BufferOverflowException;\n");
+    writer.print("import java.nio.ByteBuffer;\n");
     writer.print("import java.time.Instant;\n");
     writer.print("import java.time.ZonedDateTime;\n");
     writer.print("import java.util.ArrayList;\n");
@@ -65,8 +75,10 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
     writer.print("import java.util.HashMap;\n");
     writer.print("import java.util.Map;\n");
     writer.print("import java.util.Arrays;\n");
+    writer.print("import io.vertx.core.buffer.Buffer;\n");
     writer.print("import io.vertx.core.json.JsonObject;\n");
     writer.print("import io.vertx.codegen.protobuf.utils.ExpandableIntArray;\n");
+    writer.print("import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;\n");
     writer.print("import io.vertx.codegen.protobuf.converters.*;\n");
     writer.print("\n");
     code
@@ -79,157 +91,96 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
     {
       writer.print("  " + visibility + " static void fromProto(CodedInputStream input, " + simpleName + " obj) throws IOException {\n");
       writer.print("    int tag;\n");
+      if (unknownFields != null) {
+        writer.print("    java.io.ByteArrayOutputStream unknownFields = null;\n");
+        writer.print("    CodedOutputStream unknownOutput = null;\n");
+      }
       writer.print("    while ((tag = input.readTag()) != 0) {\n");
       writer.print("      switch (tag) {\n");
-      int fieldNumber = 1;
-      for (PropertyInfo prop : model.getPropertyMap().values()) {
-        ClassKind propKind = prop.getType().getKind();
-        ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
-        writer.print("        case " + protoProperty.getTag() + ": {\n");
-        if (prop.getKind().isList()) {
-          if (propKind.basic) {
-            writer.print("          int length = input.readRawVarint32();\n");
-            writer.print("          int limit = input.pushLimit(length);\n");
-            writer.print("          List<Integer> list = new ArrayList<>();\n");
-            writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
-            writer.print("            list.add(input." + protoProperty.getProtoType().read() + "());\n");
-            writer.print("          }\n");
-            writer.print("          obj." + prop.getSetterMethod() + "(list);\n");
-            writer.print("          input.popLimit(limit);\n");
-            writer.print("          break;\n");
-          } else {
-            if (protoProperty.isBuiltinType()) {
-              String builtInType = prop.getType().getSimpleName();
-              writer.print("          int length = input.readUInt32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
-              writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
-              writer.print("          }\n");
-              writer.print("          obj." + prop.getGetterMethod() + "().add(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
-              writer.print("          input.popLimit(limit);\n");
-              writer.print("          break;\n");
-            } else {
-              writer.print("          int length = input.readUInt32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
-              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, nested);\n");
-              writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
-              writer.print("            obj." + prop.getSetterMethod() + "(new ArrayList<>());\n");
-              writer.print("          }\n");
-              writer.print("          obj." + prop.getGetterMethod() + "().add(nested);\n");
-              writer.print("          input.popLimit(limit);\n");
-              writer.print("          break;\n");
-            }
-          }
-        } else if (prop.getKind().isMap()) {
-          if (propKind.basic) {
-            writer.print("          int length = input.readRawVarint32();\n");
-            writer.print("          int limit = input.pushLimit(length);\n");
-            writer.print("          Map<String, " + prop.getType().getSimpleName() + "> map = obj." + prop.getGetterMethod() + "();\n");
-            writer.print("          if (map == null) {\n");
-            writer.print("            map = new HashMap<>();\n");
-            writer.print("          }\n");
-            writer.print("          input.readTag();\n");
-            writer.print("          String key = input.readString();\n");
-            writer.print("          input.readTag();\n");
-            writer.print("          " + prop.getType().getSimpleName() + " value = input." + protoProperty.getProtoType().read() + "();\n");
-            writer.print("          map.put(key, value);\n");
-            writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
-            writer.print("          input.popLimit(limit);\n");
-            writer.print("          break;\n");
-          } else {
-            if (protoProperty.isBuiltinType()) {
-              String builtInType = prop.getType().getSimpleName();
-              writer.print("          int length = input.readUInt32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          Map<String, " + builtInType + "> map = obj." + prop.getGetterMethod() + "();\n");
-              writer.print("          if (map == null) {\n");
-              writer.print("            map = new HashMap<>();\n");
-              writer.print("          }\n");
-              writer.print("          input.readTag();\n");
-              writer.print("          String key = input.readString();\n");
-              writer.print("          input.readTag();\n");
-              writer.print("          int vlength = input.readUInt32();\n");
-              writer.print("          int vlimit = input.pushLimit(vlength);\n");
-              writer.print("          map.put(key, " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
-              writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
-              writer.print("          input.popLimit(vlimit);\n");
-              writer.print("          input.popLimit(limit);\n");
-              writer.print("          break;\n");
-            } else {
-              writer.print("          int length = input.readUInt32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          Map<String, " + protoProperty.getMessage() + "> map = obj." + prop.getGetterMethod() + "();\n");
-              writer.print("          if (map == null) {\n");
-              writer.print("            map = new HashMap<>();\n");
-              writer.print("          }\n");
-              writer.print("          input.readTag();\n");
-              writer.print("          String key = input.readString();\n");
-              writer.print("          input.readTag();\n");
-              writer.print("          int vlength = input.readUInt32();\n");
-              writer.print("          int vlimit = input.pushLimit(vlength);\n");
-              writer.print("          " + protoProperty.getMessage() + " value = new " + protoProperty.getMessage() + "();\n");
-              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, value);\n");
-              writer.print("          map.put(key, value);\n");
-              writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
-              writer.print("          input.popLimit(vlimit);\n");
-              writer.print("          input.popLimit(limit);\n");
-              writer.print("          break;\n");
-            }
-          }
-        } else {
-          if (propKind.basic) {
-            String javaDataType = prop.getType().getName();
-            String casting = "";
-            if ("java.lang.Short".equals(javaDataType) || "short".equals(javaDataType)) {
-              casting = "(short) ";
-            } else if ("java.lang.Character".equals(javaDataType) || "char".equals(javaDataType)) {
-              casting = "(char) ";
-            } else if ("java.lang.Byte".equals(javaDataType) || "byte".equals(javaDataType)) {
-              casting = "(byte) ";
-            }
-            writer.print("          obj." + prop.getSetterMethod() + "(" + casting + "input." + protoProperty.getProtoType().read() + "());\n");
-          } else {
-            if (protoProperty.isBuiltinType()) {
-              String builtInType = prop.getType().getSimpleName();
-              writer.print("          int length = input.readUInt32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          obj." + prop.getSetterMethod() + "(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
-              writer.print("          input.popLimit(limit);\n");
-            } else {
-              writer.print("          int length = input.readUInt32();\n");
-              writer.print("          int limit = input.pushLimit(length);\n");
-              writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
-              writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, nested);\n");
-              writer.print("          obj." + prop.getSetterMethod() + "(nested);\n");
-              writer.print("          input.popLimit(limit);\n");
-            }
-          }
-          writer.print("          break;\n");
-        }
-        writer.print("        }\n");
-        fieldNumber++;
+      for (Map.Entry<Integer, PropertyInfo> field : fields.entrySet()) {
+        genFromProtoCases(field.getValue(), field.getKey(), jsonProtoEncoding, simpleName + "ProtoConverter", unknownFields != null, writer);
+      }
+      writer.print("        default: {\n");
+      if (unknownFields != null) {
+        writer.print("          if (unknownOutput == null) {\n");
+        writer.print("            unknownFields = new java.io.ByteArrayOutputStream();\n");
+        writer.print("            unknownOutput = CodedOutputStream.newInstance(unknownFields);\n");
+        writer.print("          }\n");
+        writer.print("          input.skipField(tag, unknownOutput);\n");
+      } else {
+        writer.print("          input.skipField(tag);\n");
       }
+      writer.print("          break;\n");
+      writer.print("        }\n");
       writer.print("      }\n");
       writer.print("    }\n");
+      if (unknownFields != null) {
+        writer.print("    if (unknownOutput != null) {\n");
+        writer.print("      unknownOutput.flush();\n");
+        writer.print("      obj." + unknownFields.getSetterMethod() + "(unknownFields.toByteArray());\n");
+        writer.print("    }\n");
+      }
       writer.print("  }\n");
       writer.print("\n");
     }
 
+    // fromBuffer()
+    {
+      writer.print("  " + visibility + " static void fromBuffer(Buffer buffer, " + simpleName + " obj) throws IOException {\n");
+      writer.print("    CodedInputStream input = CodedInputStream.newInstance(buffer.getBytes());\n");
+      writer.print("    // the bytes are not shared, binary values can alias them\n");
+      writer.print("    input.enableAliasing(true);\n");
+      writer.print("    " + simpleName + "ProtoConverter.fromProto(input, obj);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void readFrom(ByteBuffer src, " + simpleName + " obj) throws IOException {\n");
+      writer.print("    " + simpleName + "ProtoConverter.fromProto(CodedInputStream.newInstance(src), obj);\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      if (model.isConcrete() && model.hasEmptyConstructor()) {
+        // a message of a sequence of length-delimited messages, the size counter is reset so the sequence is not
+        // bounded by the input size limit, the input must not have a pushed limit
+        writer.print("  " + visibility + " static " + simpleName + " readDelimited(CodedInputStream input) throws IOException {\n");
+        writer.print("    if (input.isAtEnd()) {\n");
+        writer.print("      return null;\n");
+        writer.print("    }\n");
+        writer.print("    input.resetSizeCounter();\n");
+        writer.print("    int length = input.readRawVarint32();\n");
+        writer.print("    int limit = input.pushLimit(length);\n");
+        writer.print("    " + simpleName + " obj = new " + simpleName + "();\n");
+        writer.print("    " + simpleName + "ProtoConverter.fromProto(input, obj);\n");
+        writer.print("    input.popLimit(limit);\n");
+        writer.print("    return obj;\n");
+        writer.print("  }\n");
+        writer.print("\n");
+      }
+    }
+
     // toProto()
     {
       writer.print("  public static void toProto(" + simpleName + " obj, CodedOutputStream output) throws IOException {\n");
-      writer.print("    ExpandableIntArray cache = new ExpandableIntArray(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  public static void toProto(" + simpleName + " obj, CodedOutputStream output, ExpandableIntArray cache) throws IOException {\n");
+      writer.print("    cache.reset();\n");
       writer.print("    " + simpleName + "ProtoConverter.computeSize(obj, cache, 0);\n");
       writer.print("    " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0);\n");
       writer.print("  }\n");
       writer.print("\n");
       writer.print("  " + visibility + " static int toProto(" + simpleName + " obj, CodedOutputStream output, ExpandableIntArray cache, int index) throws IOException {\n");
       writer.print("    index = index + 1;\n");
-      int fieldNumber = 1;
-      for (PropertyInfo prop : model.getPropertyMap().values()) {
+      for (Map.Entry<Integer, PropertyInfo> field : fields.entrySet()) {
+        int fieldNumber = field.getKey();
+        PropertyInfo prop = field.getValue();
         ClassKind propKind = prop.getType().getKind();
         ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
+        String nestedConverter = protoProperty.isStruct() ? ProtoProperty.getBuiltInProtoConverter(prop.getType().getSimpleName(), jsonProtoEncoding) : protoProperty.getMessage() + "ProtoConverter";
         if (protoProperty.isNullable()) {
           writer.print("    if (obj." + prop.getGetterMethod() + "() != null) {\n");
         } else {
@@ -239,24 +190,61 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             writer.print("    if (obj." + prop.getGetterMethod() + "() != 0) {\n");
           }
         }
-        if (prop.getKind().isList()) {
-          if (propKind.basic) {
-            writer.print("      // list | tag | data size | value[0] | value[1] | value[2] |\n");
-            writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
+        if (protoProperty.isBytes()) {
+          if (prop.getKind().isList()) {
+            writer.print("      // list[0] | tag | data size | value |\n");
+            writer.print("      // list[1] | tag | data size | value |\n");
+            writer.print("      for (" + prop.getType().getName() + " element: obj." + prop.getGetterMethod() + "()) {\n");
             writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
-            writer.print("        int dataSize = 0;\n");
-            writer.print("        for (Integer element: obj." + prop.getGetterMethod() + "()) {\n");
-            writer.print("          dataSize += CodedOutputStream.computeInt32SizeNoTag(element);\n");
-            writer.print("        }\n");
-            writer.print("        output.writeUInt32NoTag(dataSize);\n");
-            writer.print("        for (Integer element: obj." + prop.getGetterMethod() + "()) {\n");
-            writer.print("          output." + protoProperty.getProtoType().writeNoTag() + "(element);\n");
-            writer.print("        }\n");
+            writer.print("        BytesProtoConverter.toProto(element, output);\n");
             writer.print("      }\n");
+          } else {
+            writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+            writer.print("      BytesProtoConverter.toProto(obj." + prop.getGetterMethod() + "(), output);\n");
+          }
+        } else if (prop.getKind().isArray()) {
+          writer.print("      // array | tag | data size | value[0] | value[1] | value[2] |\n");
+          writer.print("      if (obj." + prop.getGetterMethod() + "().length > 0) {\n");
+          writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+          if (protoProperty.getProtoType().isFixedSize()) {
+            writer.print("        output.writeUInt32NoTag(obj." + prop.getGetterMethod() + "().length * " + protoProperty.getProtoType().fixedSize + ");\n");
+          } else {
+            writer.print("        output.writeUInt32NoTag(cache.get(index));\n");
+            writer.print("        index = index + 1;\n");
+          }
+          writer.print("        for (" + prop.getType().getName() + " element: obj." + prop.getGetterMethod() + "()) {\n");
+          writer.print("          output." + protoProperty.getProtoType().writeNoTag() + "(element);\n");
+          writer.print("        }\n");
+          writer.print("      }\n");
+        } else if (prop.getKind().isList() || prop.getKind().isSet()) {
+          if (propKind.basic || protoProperty.isEnum()) {
+            String elementType = scalarType(prop);
+            String element = encodeValue(prop, simpleName + "ProtoConverter", "element");
+            if (protoProperty.isPacked()) {
+              writer.print("      // list | tag | data size | value[0] | value[1] | value[2] |\n");
+              writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
+              writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
+              if (protoProperty.getProtoType().isFixedSize()) {
+                writer.print("        output.writeUInt32NoTag(obj." + prop.getGetterMethod() + "().size() * " + protoProperty.getProtoType().fixedSize + ");\n");
+              } else {
+                writer.print("        output.writeUInt32NoTag(cache.get(index));\n");
+                writer.print("        index = index + 1;\n");
+              }
+              writer.print("        for (" + elementType + " element: obj." + prop.getGetterMethod() + "()) {\n");
+              writer.print("          output." + protoProperty.getProtoType().writeNoTag() + "(" + element + ");\n");
+              writer.print("        }\n");
+              writer.print("      }\n");
+            } else {
+              writer.print("      // list[0] | tag | value |\n");
+              writer.print("      // list[1] | tag | value |\n");
+              writer.print("      for (" + elementType + " element: obj." + prop.getGetterMethod() + "()) {\n");
+              writer.print("        output." + protoProperty.getProtoType().write() + "(" + fieldNumber + ", " + element + ");\n");
+              writer.print("      }\n");
+            }
           } else {
             writer.print("      // list[0] | tag | data size | value |\n");
             writer.print("      // list[1] | tag | data size | value |\n");
-            if (protoProperty.isBuiltinType()) {
+            if (protoProperty.isBuiltinType() && !protoProperty.isStruct()) {
               String builtInType = prop.getType().getSimpleName();
               writer.print("      for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() +"()) {\n");
               writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
@@ -267,7 +255,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
               writer.print("      for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() +"()) {\n");
               writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
               writer.print("        output.writeUInt32NoTag(cache.get(index));\n");
-              writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.toProto(element, output, cache, index);\n");
+              writer.print("        index = " + nestedConverter + ".toProto(element, output, cache, index);\n");
               writer.print("      }\n");
             }
           }
@@ -290,7 +278,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
           } else {
             writer.print("      // map[0] | tag | data size | key | value |\n");
             writer.print("      // map[1] | tag | data size | key | value |\n");
-            if (protoProperty.isBuiltinType()) {
+            if (protoProperty.isBuiltinType() && !protoProperty.isStruct()) {
               String builtInType = prop.getType().getSimpleName();
               writer.print("      for (Map.Entry<String, " + builtInType + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
               writer.print("        output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
@@ -325,15 +313,15 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
               writer.print("        output.writeString(1, entry.getKey());\n");
               writer.print("        output.writeUInt32NoTag(18);\n");
               writer.print("        output.writeUInt32NoTag(elementSize);\n");
-              writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.toProto(entry.getValue(), output, cache, index);\n");
+              writer.print("        index = " + nestedConverter + ".toProto(entry.getValue(), output, cache, index);\n");
               writer.print("      }\n");
             }
           }
         } else {
-          if (propKind.basic) {
-            writer.print("      output." + protoProperty.getProtoType().write() + "(" + fieldNumber + ", obj." + prop.getGetterMethod() + "());\n");
+          if (propKind.basic || protoProperty.isEnum()) {
+            writer.print("      output." + protoProperty.getProtoType().write() + "(" + fieldNumber + ", " + encodeValue(prop, simpleName + "ProtoConverter", "obj." + prop.getGetterMethod() + "()") + ");\n");
           } else {
-            if (protoProperty.isBuiltinType()) {
+            if (protoProperty.isBuiltinType() && !protoProperty.isStruct()) {
               String builtInType = prop.getType().getSimpleName();
               writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
               writer.print("      output.writeUInt32NoTag(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".computeSize(obj." + prop.getGetterMethod() + "()));\n");
@@ -341,22 +329,98 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             } else {
               writer.print("      output.writeUInt32NoTag(" + protoProperty.getTag() + ");\n");
               writer.print("      output.writeUInt32NoTag(cache.get(index));\n");
-              writer.print("      index = " + protoProperty.getMessage() + "ProtoConverter.toProto(obj." + prop.getGetterMethod() + "(), output, cache, index);\n");
+              writer.print("      index = " + nestedConverter + ".toProto(obj." + prop.getGetterMethod() + "(), output, cache, index);\n");
             }
           }
         }
         writer.print("    }\n");
-        fieldNumber++;
+      }
+      if (unknownFields != null) {
+        writer.print("    if (obj." + unknownFields.getGetterMethod() + "() != null) {\n");
+        writer.print("      output.writeRawBytes(obj." + unknownFields.getGetterMethod() + "());\n");
+        writer.print("    }\n");
       }
       writer.print("    return index;\n");
       writer.print("  }\n");
       writer.print("\n");
     }
 
+    // toBuffer()
+    {
+      writer.print("  " + visibility + " static Buffer toBuffer(" + simpleName + " obj) throws IOException {\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      byte[] bytes = new byte[" + simpleName + "ProtoConverter.computeSize(obj, cache)];\n");
+      writer.print("      CodedOutputStream output = CodedOutputStream.newInstance(bytes);\n");
+      writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0);\n");
+      writer.print("      output.checkNoSpaceLeft();\n");
+      writer.print("      return Buffer.buffer(bytes);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static void writeTo(" + simpleName + " obj, ByteBuffer dst) throws IOException {\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      " + simpleName + "ProtoConverter.computeSize(obj, cache);\n");
+      writer.print("      " + simpleName + "ProtoConverter.writeTo(obj, dst, cache);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      // the cache must have been computed for obj
+      writer.print("  " + visibility + " static void writeTo(" + simpleName + " obj, ByteBuffer dst, ExpandableIntArray cache) throws IOException {\n");
+      writer.print("    if (dst.remaining() < cache.get(0)) {\n");
+      writer.print("      throw new BufferOverflowException();\n");
+      writer.print("    }\n");
+      writer.print("    CodedOutputStream output = CodedOutputStream.newInstance(dst);\n");
+      writer.print("    " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0);\n");
+      writer.print("    output.flush();\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      // a message prefixed by its length, messages are written one after the other in a sequence
+      writer.print("  " + visibility + " static void writeDelimited(" + simpleName + " obj, CodedOutputStream output) throws IOException {\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      output.writeUInt32NoTag(" + simpleName + "ProtoConverter.computeSize(obj, cache));\n");
+      writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static Buffer toDelimitedBuffer(" + simpleName + " obj) throws IOException {\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      int size = " + simpleName + "ProtoConverter.computeSize(obj, cache);\n");
+      writer.print("      byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];\n");
+      writer.print("      CodedOutputStream output = CodedOutputStream.newInstance(bytes);\n");
+      writer.print("      output.writeUInt32NoTag(size);\n");
+      writer.print("      " + simpleName + "ProtoConverter.toProto(obj, output, cache, 0);\n");
+      writer.print("      output.checkNoSpaceLeft();\n");
+      writer.print("      return Buffer.buffer(bytes);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+    }
+
     // computeSize()
     {
       writer.print("  " + visibility + " static int computeSize(" + simpleName + " obj) {\n");
-      writer.print("    ExpandableIntArray cache = new ExpandableIntArray(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    ExpandableIntArray cache = ExpandableIntArrayPool.acquire(" + CACHE_INITIAL_CAPACITY + ");\n");
+      writer.print("    try {\n");
+      writer.print("      return " + simpleName + "ProtoConverter.computeSize(obj, cache);\n");
+      writer.print("    } finally {\n");
+      writer.print("      ExpandableIntArrayPool.release(cache);\n");
+      writer.print("    }\n");
+      writer.print("  }\n");
+      writer.print("\n");
+      writer.print("  " + visibility + " static int computeSize(" + simpleName + " obj, ExpandableIntArray cache) {\n");
+      writer.print("    cache.reset();\n");
       writer.print("    " + simpleName + "ProtoConverter.computeSize(obj, cache, 0);\n");
       writer.print("    return cache.get(0);\n");
       writer.print("  }\n");
@@ -364,10 +428,12 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
       writer.print("  " + visibility + " static int computeSize(" + simpleName + " obj, ExpandableIntArray cache, final int baseIndex) {\n");
       writer.print("    int size = 0;\n");
       writer.print("    int index = baseIndex + 1;\n");
-      int fieldNumber = 1;
-      for (PropertyInfo prop : model.getPropertyMap().values()) {
+      for (Map.Entry<Integer, PropertyInfo> field : fields.entrySet()) {
+        int fieldNumber = field.getKey();
+        PropertyInfo prop = field.getValue();
         ClassKind propKind = prop.getType().getKind();
         ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
+        String nestedConverter = protoProperty.isStruct() ? ProtoProperty.getBuiltInProtoConverter(prop.getType().getSimpleName(), jsonProtoEncoding) : protoProperty.getMessage() + "ProtoConverter";
         if (protoProperty.isNullable()) {
           writer.print("    if (obj." + prop.getGetterMethod() + "() != null) {\n");
         } else {
@@ -377,22 +443,68 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             writer.print("    if (obj." + prop.getGetterMethod() + "() != 0) {\n");
           }
         }
-        if (prop.getKind().isList()) {
-          if (propKind.basic) {
-            writer.print("      // list | tag | data size | value[0] | value[1] | value[2] |\n");
-            writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
+        if (protoProperty.isBytes()) {
+          // the size of binary values only depends on their length
+          if (prop.getKind().isList()) {
+            writer.print("      // list[0] | tag | data size | value |\n");
+            writer.print("      // list[1] | tag | data size | value |\n");
+            writer.print("      for (" + prop.getType().getName() + " element: obj." + prop.getGetterMethod() + "()) {\n");
             writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+            writer.print("        size += BytesProtoConverter.computeSize(element);\n");
+            writer.print("      }\n");
+          } else {
+            writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+            writer.print("      size += BytesProtoConverter.computeSize(obj." + prop.getGetterMethod() + "());\n");
+          }
+        } else if (prop.getKind().isArray()) {
+          writer.print("      // array | tag | data size | value[0] | value[1] | value[2] |\n");
+          writer.print("      if (obj." + prop.getGetterMethod() + "().length > 0) {\n");
+          writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+          if (protoProperty.getProtoType().isFixedSize()) {
+            writer.print("        int dataSize = obj." + prop.getGetterMethod() + "().length * " + protoProperty.getProtoType().fixedSize + ";\n");
+          } else {
             writer.print("        int dataSize = 0;\n");
-            writer.print("        for (Integer element: obj." + prop.getGetterMethod() + "()) {\n");
+            writer.print("        for (" + prop.getType().getName() + " element: obj." + prop.getGetterMethod() + "()) {\n");
             writer.print("          dataSize += CodedOutputStream." + protoProperty.getProtoType().computeSizeNoTag() + "(element);\n");
             writer.print("        }\n");
-            writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
-            writer.print("        size += dataSize;\n");
-            writer.print("      }\n");
+            writer.print("        cache.set(index, dataSize);\n");
+            writer.print("        index = index + 1;\n");
+          }
+          writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
+          writer.print("        size += dataSize;\n");
+          writer.print("      }\n");
+        } else if (prop.getKind().isList() || prop.getKind().isSet()) {
+          if (propKind.basic || protoProperty.isEnum()) {
+            String elementType = scalarType(prop);
+            String element = encodeValue(prop, simpleName + "ProtoConverter", "element");
+            if (protoProperty.isPacked()) {
+              writer.print("      // list | tag | data size | value[0] | value[1] | value[2] |\n");
+              writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
+              writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
+              if (protoProperty.getProtoType().isFixedSize()) {
+                writer.print("        int dataSize = obj." + prop.getGetterMethod() + "().size() * " + protoProperty.getProtoType().fixedSize + ";\n");
+              } else {
+                writer.print("        int dataSize = 0;\n");
+                writer.print("        for (" + elementType + " element: obj." + prop.getGetterMethod() + "()) {\n");
+                writer.print("          dataSize += CodedOutputStream." + protoProperty.getProtoType().computeSizeNoTag() + "(" + element + ");\n");
+                writer.print("        }\n");
+                writer.print("        cache.set(index, dataSize);\n");
+                writer.print("        index = index + 1;\n");
+              }
+              writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
+              writer.print("        size += dataSize;\n");
+              writer.print("      }\n");
+            } else {
+              writer.print("      // list[0] | tag | value |\n");
+              writer.print("      // list[1] | tag | value |\n");
+              writer.print("      for (" + elementType + " element: obj." + prop.getGetterMethod() + "()) {\n");
+              writer.print("        size += CodedOutputStream." + protoProperty.getProtoType().computeSize() + "(" + fieldNumber + ", " + element + ");\n");
+              writer.print("      }\n");
+            }
           } else {
             writer.print("      // list[0] | tag | data size | value |\n");
             writer.print("      // list[1] | tag | data size | value |\n");
-            if (protoProperty.isBuiltinType()) {
+            if (protoProperty.isBuiltinType() && !protoProperty.isStruct()) {
               String builtInType = prop.getType().getSimpleName();
               writer.print("      if (obj." + prop.getGetterMethod() + "().size() > 0) {\n");
               writer.print("        for (" + builtInType + " element: obj." + prop.getGetterMethod() + "()) {\n");
@@ -407,7 +519,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
               writer.print("        for (" + protoProperty.getMessage() + " element: obj." + prop.getGetterMethod() + "()) {\n");
               writer.print("          size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
               writer.print("          int savedIndex = index;\n");
-              writer.print("          index = " + protoProperty.getMessage() + "ProtoConverter.computeSize(element, cache, index);\n");
+              writer.print("          index = " + nestedConverter + ".computeSize(element, cache, index);\n");
               writer.print("          int dataSize = cache.get(savedIndex);\n");
               writer.print("          size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
               writer.print("          size += dataSize;\n");
@@ -430,7 +542,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
           } else {
             writer.print("        // map[0] | tag | data size | key | value |\n");
             writer.print("        // map[1] | tag | data size | key | value |\n");
-            if (protoProperty.isBuiltinType()) {
+            if (protoProperty.isBuiltinType() && !protoProperty.isStruct()) {
               String builtInType = prop.getType().getSimpleName();
               writer.print("      for (Map.Entry<String, " + builtInType + "> entry : obj." + prop.getGetterMethod() + "().entrySet()) {\n");
               writer.print("        size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
@@ -456,7 +568,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
               writer.print("        dataSize += CodedOutputStream.computeStringSize(1, entry.getKey());\n");
               writer.print("        // value\n");
               writer.print("        int savedIndex = index;\n");
-              writer.print("        index = " + protoProperty.getMessage() + "ProtoConverter.computeSize(entry.getValue(), cache, index);\n");
+              writer.print("        index = " + nestedConverter + ".computeSize(entry.getValue(), cache, index);\n");
               writer.print("        int elementSize = cache.get(savedIndex);\n");
               writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(18);\n");
               writer.print("        dataSize += CodedOutputStream.computeInt32SizeNoTag(elementSize);\n");
@@ -468,10 +580,10 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             }
           }
         } else {
-          if (propKind.basic) {
-            writer.print("      size += CodedOutputStream." + protoProperty.getProtoType().computeSize() + "(" + fieldNumber + ", obj." + prop.getGetterMethod() + "());\n");
+          if (propKind.basic || protoProperty.isEnum()) {
+            writer.print("      size += CodedOutputStream." + protoProperty.getProtoType().computeSize() + "(" + fieldNumber + ", " + encodeValue(prop, simpleName + "ProtoConverter", "obj." + prop.getGetterMethod() + "()") + ");\n");
           } else {
-            if (protoProperty.isBuiltinType()) {
+            if (protoProperty.isBuiltinType() && !protoProperty.isStruct()) {
               String builtInType = prop.getType().getSimpleName();
               writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
               writer.print("      int dataSize = " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".computeSize(obj." + prop.getGetterMethod() + "());\n");
@@ -480,7 +592,7 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
             } else {
               writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(" + protoProperty.getTag() + ");\n");
               writer.print("      int savedIndex = index;\n");
-              writer.print("      index = " + protoProperty.getMessage() + "ProtoConverter.computeSize(obj." + prop.getGetterMethod() + "(), cache, index);\n");
+              writer.print("      index = " + nestedConverter + ".computeSize(obj." + prop.getGetterMethod() + "(), cache, index);\n");
               writer.print("      int dataSize = cache.get(savedIndex);\n");
               writer.print("      size += CodedOutputStream.computeUInt32SizeNoTag(dataSize);\n");
               writer.print("      size += dataSize;\n");
@@ -488,15 +600,361 @@ public class DataObjectProtobufGen extends Generator<DataObjectModel> {
           }
         }
         writer.print("    }\n");
-        fieldNumber++;
+      }
+      if (unknownFields != null) {
+        writer.print("    if (obj." + unknownFields.getGetterMethod() + "() != null) {\n");
+        writer.print("      size += obj." + unknownFields.getGetterMethod() + "().length;\n");
+        writer.print("    }\n");
       }
       writer.print("    cache.set(baseIndex, size);\n");
       writer.print("    return index;\n");
       writer.print("  }\n");
       writer.print("\n");
-      writer.print("}\n");
     }
 
-    return buffer.toString();
+    // encode/decode methods of the enums
+    {
+      Map<String, EnumTypeInfo> enums = new LinkedHashMap<>();
+      for (PropertyInfo prop : fields.values()) {
+        if (prop.getType().getKind() == ClassKind.ENUM) {
+          enums.putIfAbsent(prop.getType().getName(), (EnumTypeInfo) prop.getType());
+        }
+      }
+      for (EnumTypeInfo type : enums.values()) {
+        Map<Integer, String> values = ProtoEnumValues.select(model, type);
+        writer.print("  static int encode" + type.getSimpleName() + "(" + type.getName() + " value) {\n");
+        writer.print("    switch (value) {\n");
+        for (Map.Entry<Integer, String> value : values.entrySet()) {
+          writer.print("      case " + value.getValue() + ":\n");
+          writer.print("        return " + value.getKey() + ";\n");
+        }
+        writer.print("      default:\n");
+        writer.print("        throw new IllegalArgumentException(\"Unknown constant \" + value);\n");
+        writer.print("    }\n");
+        writer.print("  }\n");
+        writer.print("\n");
+        writer.print("  // unknown numbers, e.g. added by a newer version of the enum, are decoded as null\n");
+        writer.print("  static " + type.getName() + " decode" + type.getSimpleName() + "(int number) {\n");
+        writer.print("    switch (number) {\n");
+        for (Map.Entry<Integer, String> value : values.entrySet()) {
+          writer.print("      case " + value.getKey() + ":\n");
+          writer.print("        return " + type.getName() + "." + value.getValue() + ";\n");
+        }
+        writer.print("      default:\n");
+        writer.print("        return null;\n");
+        writer.print("    }\n");
+        writer.print("  }\n");
+        writer.print("\n");
+      }
+    }
+
+    writer.print("}\n");
+
+    return code.writer().toString();
+  }
+
+  /**
+   * Generate the {@code fromProto} switch cases decoding the {@code prop} into {@code obj}, enums are decoded by the
+   * methods of the {@code converter}. Unknown enum numbers are retained in the {@code unknownOutput} of
+   * {@code fromProto} when {@code retainUnknown} is set, otherwise they are skipped.
+   */
+  static void genFromProtoCases(PropertyInfo prop, int fieldNumber, JsonProtoEncoding jsonProtoEncoding, String converter, boolean retainUnknown, PrintWriter writer) {
+    ClassKind propKind = prop.getType().getKind();
+    ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
+    // lists and sets are decoded the same way
+    String collectionType = prop.getKind().isSet() ? "java.util.Set" : "List";
+    String collection = prop.getKind().isSet() ? "set" : "list";
+    writer.print("        case " + protoProperty.getTag() + ": {\n");
+    if (protoProperty.isEnum()) {
+      String enumType = prop.getType().getName();
+      String read = converter + ".decode" + prop.getType().getSimpleName() + "(number)";
+      if (prop.getKind().isValue()) {
+        writer.print("          int number = input.readEnum();\n");
+        writer.print("          " + enumType + " value = " + read + ";\n");
+        writer.print("          if (value != null) {\n");
+        writer.print("            obj." + prop.getSetterMethod() + "(value);\n");
+        genCloseEnumDecoding(fieldNumber, retainUnknown, "          ", writer);
+      } else {
+        // packed, enum numbers are usually encoded on a single byte, the element count is at most the data length
+        writer.print("          int length = input.readRawVarint32();\n");
+        writer.print("          int limit = input.pushLimit(length);\n");
+        writer.print("          " + collectionType + "<" + enumType + "> " + collection + " = obj." + prop.getGetterMethod() + "();\n");
+        writer.print("          if (" + collection + " == null) {\n");
+        writer.print("            " + collection + " = " + newCollection(prop, "length") + ";\n");
+        writer.print("            obj." + prop.getSetterMethod() + "(" + collection + ");\n");
+        writer.print("          }\n");
+        writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
+        writer.print("            int number = input.readEnum();\n");
+        writer.print("            " + enumType + " element = " + read + ";\n");
+        writer.print("            if (element != null) {\n");
+        writer.print("              " + collection + ".add(element);\n");
+        genCloseEnumDecoding(fieldNumber, retainUnknown, "            ", writer);
+        writer.print("          }\n");
+        writer.print("          input.popLimit(limit);\n");
+        writer.print("          break;\n");
+        writer.print("        }\n");
+        // unpacked
+        writer.print("        case " + protoProperty.getElementTag() + ": {\n");
+        writer.print("          int number = input.readEnum();\n");
+        writer.print("          " + enumType + " element = " + read + ";\n");
+        writer.print("          if (element != null) {\n");
+        writer.print("            " + collectionType + "<" + enumType + "> " + collection + " = obj." + prop.getGetterMethod() + "();\n");
+        writer.print("            if (" + collection + " == null) {\n");
+        writer.print("              " + collection + " = " + newCollection(prop, null) + ";\n");
+        writer.print("              obj." + prop.getSetterMethod() + "(" + collection + ");\n");
+        writer.print("            }\n");
+        writer.print("            " + collection + ".add(element);\n");
+        genCloseEnumDecoding(fieldNumber, retainUnknown, "          ", writer);
+      }
+      writer.print("          break;\n");
+    } else if (protoProperty.isBytes()) {
+      String read = "BytesProtoConverter." + readBytes(prop.getType().getName()) + "(input)";
+      if (prop.getKind().isList()) {
+        writer.print("          List<" + prop.getType().getName() + "> list = obj." + prop.getGetterMethod() + "();\n");
+        writer.print("          if (list == null) {\n");
+        writer.print("            list = new ArrayList<>();\n");
+        writer.print("            obj." + prop.getSetterMethod() + "(list);\n");
+        writer.print("          }\n");
+        writer.print("          list.add(" + read + ");\n");
+      } else {
+        writer.print("          obj." + prop.getSetterMethod() + "(" + read + ");\n");
+      }
+      writer.print("          break;\n");
+    } else if (prop.getKind().isArray()) {
+      String elementType = prop.getType().getName();
+      String read = "input." + protoProperty.getProtoType().read() + "()";
+      // packed, fixed size elements are presized from the length, varints grow as they are read
+      boolean fixedSize = protoProperty.getProtoType().isFixedSize();
+      String count = "Math.min(length / " + protoProperty.getProtoType().fixedSize + ", " + MAX_PRESIZED_ELEMENTS + ")";
+      writer.print("          int length = input.readRawVarint32();\n");
+      writer.print("          int limit = input.pushLimit(length);\n");
+      writer.print("          " + elementType + "[] array = obj." + prop.getGetterMethod() + "();\n");
+      writer.print("          int size = 0;\n");
+      writer.print("          if (array == null) {\n");
+      writer.print("            array = new " + elementType + "[" + (fixedSize ? count : "Math.min(length, 16)") + "];\n");
+      writer.print("          } else {\n");
+      writer.print("            size = array.length;\n");
+      if (fixedSize) {
+        writer.print("            array = Arrays.copyOf(array, size + " + count + ");\n");
+      }
+      writer.print("          }\n");
+      writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
+      writer.print("            if (size == array.length) {\n");
+      writer.print("              array = Arrays.copyOf(array, Math.max(size * 2, 16));\n");
+      writer.print("            }\n");
+      writer.print("            array[size++] = " + read + ";\n");
+      writer.print("          }\n");
+      writer.print("          obj." + prop.getSetterMethod() + "(size == array.length ? array : Arrays.copyOf(array, size));\n");
+      writer.print("          input.popLimit(limit);\n");
+      writer.print("          break;\n");
+      writer.print("        }\n");
+      // unpacked
+      writer.print("        case " + protoProperty.getElementTag() + ": {\n");
+      writer.print("          " + elementType + "[] array = obj." + prop.getGetterMethod() + "();\n");
+      writer.print("          array = array == null ? new " + elementType + "[1] : Arrays.copyOf(array, array.length + 1);\n");
+      writer.print("          array[array.length - 1] = " + read + ";\n");
+      writer.print("          obj." + prop.getSetterMethod() + "(array);\n");
+      writer.print("          break;\n");
+    } else if (prop.getKind().isList() || prop.getKind().isSet()) {
+      if (propKind.basic) {
+        String elementType = prop.getType().getSimpleName();
+        String read = readCasting(prop.getType().getName()) + "input." + protoProperty.getProtoType().read() + "()";
+        if (protoProperty.isPacked()) {
+          // packed
+          writer.print("          int length = input.readRawVarint32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          " + collectionType + "<" + elementType + "> " + collection + " = obj." + prop.getGetterMethod() + "();\n");
+          writer.print("          if (" + collection + " == null) {\n");
+          if (protoProperty.getProtoType().fixedSize == 1) {
+            writer.print("            " + collection + " = " + newCollection(prop, "length") + ";\n");
+          } else if (protoProperty.getProtoType().isFixedSize()) {
+            writer.print("            " + collection + " = " + newCollection(prop, "length / " + protoProperty.getProtoType().fixedSize) + ";\n");
+          } else {
+            writer.print("            " + collection + " = " + newCollection(prop, null) + ";\n");
+          }
+          writer.print("            obj." + prop.getSetterMethod() + "(" + collection + ");\n");
+          writer.print("          }\n");
+          writer.print("          while (input.getBytesUntilLimit() > 0) {\n");
+          writer.print("            " + collection + ".add(" + read + ");\n");
+          writer.print("          }\n");
+          writer.print("          input.popLimit(limit);\n");
+          writer.print("          break;\n");
+          writer.print("        }\n");
+          // unpacked
+          writer.print("        case " + protoProperty.getElementTag() + ": {\n");
+        }
+        writer.print("          " + collectionType + "<" + elementType + "> " + collection + " = obj." + prop.getGetterMethod() + "();\n");
+        writer.print("          if (" + collection + " == null) {\n");
+        writer.print("            " + collection + " = " + newCollection(prop, null) + ";\n");
+        writer.print("            obj." + prop.getSetterMethod() + "(" + collection + ");\n");
+        writer.print("          }\n");
+        writer.print("          " + collection + ".add(" + read + ");\n");
+        writer.print("          break;\n");
+      } else {
+        if (protoProperty.isBuiltinType()) {
+          String builtInType = prop.getType().getSimpleName();
+          writer.print("          int length = input.readUInt32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
+          writer.print("            obj." + prop.getSetterMethod() + "(" + newCollection(prop, null) + ");\n");
+          writer.print("          }\n");
+          writer.print("          obj." + prop.getGetterMethod() + "().add(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
+          writer.print("          input.popLimit(limit);\n");
+          writer.print("          break;\n");
+        } else {
+          writer.print("          int length = input.readUInt32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
+          writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, nested);\n");
+          writer.print("          if (obj." + prop.getGetterMethod() + "() == null) {\n");
+          writer.print("            obj." + prop.getSetterMethod() + "(" + newCollection(prop, null) + ");\n");
+          writer.print("          }\n");
+          writer.print("          obj." + prop.getGetterMethod() + "().add(nested);\n");
+          writer.print("          input.popLimit(limit);\n");
+          writer.print("          break;\n");
+        }
+      }
+    } else if (prop.getKind().isMap()) {
+      if (propKind.basic) {
+        writer.print("          int length = input.readRawVarint32();\n");
+        writer.print("          int limit = input.pushLimit(length);\n");
+        writer.print("          Map<String, " + prop.getType().getSimpleName() + "> map = obj." + prop.getGetterMethod() + "();\n");
+        writer.print("          if (map == null) {\n");
+        writer.print("            map = new HashMap<>();\n");
+        writer.print("          }\n");
+        writer.print("          input.readTag();\n");
+        writer.print("          String key = input.readString();\n");
+        writer.print("          input.readTag();\n");
+        writer.print("          " + prop.getType().getSimpleName() + " value = input." + protoProperty.getProtoType().read() + "();\n");
+        writer.print("          map.put(key, value);\n");
+        writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
+        writer.print("          input.popLimit(limit);\n");
+        writer.print("          break;\n");
+      } else {
+        if (protoProperty.isBuiltinType()) {
+          String builtInType = prop.getType().getSimpleName();
+          writer.print("          int length = input.readUInt32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          Map<String, " + builtInType + "> map = obj." + prop.getGetterMethod() + "();\n");
+          writer.print("          if (map == null) {\n");
+          writer.print("            map = new HashMap<>();\n");
+          writer.print("          }\n");
+          writer.print("          input.readTag();\n");
+          writer.print("          String key = input.readString();\n");
+          writer.print("          input.readTag();\n");
+          writer.print("          int vlength = input.readUInt32();\n");
+          writer.print("          int vlimit = input.pushLimit(vlength);\n");
+          writer.print("          map.put(key, " + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
+          writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
+          writer.print("          input.popLimit(vlimit);\n");
+          writer.print("          input.popLimit(limit);\n");
+          writer.print("          break;\n");
+        } else {
+          writer.print("          int length = input.readUInt32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          Map<String, " + protoProperty.getMessage() + "> map = obj." + prop.getGetterMethod() + "();\n");
+          writer.print("          if (map == null) {\n");
+          writer.print("            map = new HashMap<>();\n");
+          writer.print("          }\n");
+          writer.print("          input.readTag();\n");
+          writer.print("          String key = input.readString();\n");
+          writer.print("          input.readTag();\n");
+          writer.print("          int vlength = input.readUInt32();\n");
+          writer.print("          int vlimit = input.pushLimit(vlength);\n");
+          writer.print("          " + protoProperty.getMessage() + " value = new " + protoProperty.getMessage() + "();\n");
+          writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, value);\n");
+          writer.print("          map.put(key, value);\n");
+          writer.print("          obj." + prop.getSetterMethod() + "(map);\n");
+          writer.print("          input.popLimit(vlimit);\n");
+          writer.print("          input.popLimit(limit);\n");
+          writer.print("          break;\n");
+        }
+      }
+    } else {
+      if (propKind.basic) {
+        String casting = readCasting(prop.getType().getName());
+        writer.print("          obj." + prop.getSetterMethod() + "(" + casting + "input." + protoProperty.getProtoType().read() + "());\n");
+      } else {
+        if (protoProperty.isBuiltinType()) {
+          String builtInType = prop.getType().getSimpleName();
+          writer.print("          int length = input.readUInt32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          obj." + prop.getSetterMethod() + "(" + ProtoProperty.getBuiltInProtoConverter(builtInType, jsonProtoEncoding) + ".fromProto(input));\n");
+          writer.print("          input.popLimit(limit);\n");
+        } else {
+          writer.print("          int length = input.readUInt32();\n");
+          writer.print("          int limit = input.pushLimit(length);\n");
+          writer.print("          " + protoProperty.getMessage() + " nested = new " + protoProperty.getMessage() + "();\n");
+          writer.print("          " + protoProperty.getMessage() + "ProtoConverter.fromProto(input, nested);\n");
+          writer.print("          obj." + prop.getSetterMethod() + "(nested);\n");
+          writer.print("          input.popLimit(limit);\n");
+        }
+      }
+      writer.print("          break;\n");
+    }
+    writer.print("        }\n");
+  }
+
+  // Close the decoding of an enum number, a number unknown to the decoder, e.g. added by a newer version of the enum,
+  // is retained as an unknown field, the elements of a packed field are retained one by one
+  private static void genCloseEnumDecoding(int fieldNumber, boolean retainUnknown, String indent, PrintWriter writer) {
+    if (retainUnknown) {
+      writer.print(indent + "} else {\n");
+      writer.print(indent + "  if (unknownOutput == null) {\n");
+      writer.print(indent + "    unknownFields = new java.io.ByteArrayOutputStream();\n");
+      writer.print(indent + "    unknownOutput = CodedOutputStream.newInstance(unknownFields);\n");
+      writer.print(indent + "  }\n");
+      writer.print(indent + "  unknownOutput.writeEnum(" + fieldNumber + ", number);\n");
+    }
+    writer.print(indent + "}\n");
+  }
+
+  // Java type of the elements of a scalar property, enums may be declared in another package
+  private static String scalarType(PropertyInfo prop) {
+    return prop.getType().getKind() == ClassKind.ENUM ? prop.getType().getName() : prop.getType().getSimpleName();
+  }
+
+  // Java expression of the protobuf value of a scalar property value
+  private static String encodeValue(PropertyInfo prop, String converter, String value) {
+    if (prop.getType().getKind() == ClassKind.ENUM) {
+      return converter + ".encode" + prop.getType().getSimpleName() + "(" + value + ")";
+    }
+    return value;
+  }
+
+  // New list or set decoding a repeated field, presized when the element count is known, the count is decoded
+  // from untrusted data and is capped
+  private static String newCollection(PropertyInfo prop, String count) {
+    if (prop.getKind().isSet()) {
+      if (count == null) {
+        return "new java.util.LinkedHashSet<>()";
+      }
+      return "new java.util.LinkedHashSet<>(Math.min(" + count + ", " + MAX_PRESIZED_ELEMENTS + ") * 4 / 3 + 1)";
+    }
+    return count == null ? "new ArrayList<>()" : "new ArrayList<>(Math.min(" + count + ", " + MAX_PRESIZED_ELEMENTS + "))";
+  }
+
+  // BytesProtoConverter method decoding a binary java type
+  private static String readBytes(String javaDataType) {
+    switch (javaDataType) {
+      case "byte[]":
+        return "fromProtoByteArray";
+      case "java.nio.ByteBuffer":
+        return "fromProtoByteBuffer";
+      default:
+        return "fromProtoBuffer";
+    }
+  }
+
+  // Narrowing cast of the int32 value read for java types encoded as int32
+  private static String readCasting(String javaDataType) {
+    if ("java.lang.Short".equals(javaDataType) || "short".equals(javaDataType)) {
+      return "(short) ";
+    } else if ("java.lang.Character".equals(javaDataType) || "char".equals(javaDataType)) {
+      return "(char) ";
+    } else if ("java.lang.Byte".equals(javaDataType) || "byte".equals(javaDataType)) {
+      return "(byte) ";
+    }
+    return "";
   }
 }
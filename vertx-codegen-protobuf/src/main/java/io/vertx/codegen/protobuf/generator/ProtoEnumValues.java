@@ -0,0 +1,72 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
+import io.vertx.codegen.protobuf.annotations.ProtoEnumValue;
+import io.vertx.codegen.type.AnnotationValueInfo;
+import io.vertx.codegen.type.EnumTypeInfo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Assign the protobuf numbers of the constants of an enum, honouring ProtoEnumValue.number()
+public class ProtoEnumValues {
+
+  /**
+   * @return the constants of the {@code type} of a {@code model} property sorted by number
+   */
+  static public Map<Integer, String> select(DataObjectModel model, EnumTypeInfo type) {
+    Map<String, Integer> declared = new HashMap<>();
+    for (String value : type.getValues()) {
+      for (AnnotationValueInfo ann : type.getValueAnnotations(value)) {
+        if (ann.getName().equals(ProtoEnumValue.class.getName())) {
+          declared.put(value, (Integer) ann.getMember("number"));
+        }
+      }
+    }
+    TreeMap<Integer, String> values = new TreeMap<>();
+    for (String value : type.getValues()) {
+      Integer number = declared.get(value);
+      if (number != null) {
+        if (number < 0) {
+          throw new GenException(model.getElement(), "Invalid protobuf enum number " + number + " for constant " + value + ", must be positive or zero");
+        }
+        String existing = values.put(number, value);
+        if (existing != null) {
+          throw new GenException(model.getElement(), "Duplicate protobuf enum number " + number + " for constants " + existing + " and " + value);
+        }
+      }
+    }
+    int next = 0;
+    for (String value : type.getValues()) {
+      if (!declared.containsKey(value)) {
+        while (values.containsKey(next)) {
+          next++;
+        }
+        values.put(next++, value);
+      }
+    }
+    if (!values.containsKey(0)) {
+      throw new GenException(model.getElement(), "Enum " + type.getName() + " must declare a constant numbered 0, the protobuf default value");
+    }
+    return values;
+  }
+
+  /**
+   * @return the name of the protobuf enum value of a {@code constant}, prefixed by the enum name since the enum values
+   * share the scope of the enum
+   */
+  static public String valueName(EnumTypeInfo type, String constant) {
+    String name = type.getSimpleName();
+    StringBuilder prefix = new StringBuilder();
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+        prefix.append('_');
+      }
+      prefix.append(Character.toUpperCase(c));
+    }
+    return prefix + "_" + constant;
+  }
+}
@@ -0,0 +1,109 @@
+package io.vertx.codegen.protobuf.generator;
+
+import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
+import io.vertx.codegen.PropertyInfo;
+import io.vertx.codegen.PropertyKind;
+import io.vertx.codegen.protobuf.annotations.ProtoEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtoField;
+import io.vertx.codegen.protobuf.annotations.ProtoUnknownFields;
+import io.vertx.codegen.protobuf.annotations.ProtobufGen;
+import io.vertx.codegen.type.AnnotationValueInfo;
+import io.vertx.codegen.type.ClassKind;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Assign the protobuf field numbers of a data object, honouring ProtoField.number()
+public class ProtoFieldNumbers {
+
+  public static final int MIN_FIELD_NUMBER = 1;
+  public static final int MAX_FIELD_NUMBER = (1 << 29) - 1;
+  public static final int FIRST_RESERVED_FIELD_NUMBER = 19000;
+  public static final int LAST_RESERVED_FIELD_NUMBER = 19999;
+
+  /**
+   * @return the properties of the {@code model} sorted by field number, unsupported properties of a model without
+   * {@code @ProtobufGen} are numbered and must be skipped with {@link ProtoProperty#isSupported}
+   */
+  static public Map<Integer, PropertyInfo> select(DataObjectModel model) {
+    TreeMap<Integer, PropertyInfo> fields = new TreeMap<>();
+    Map<String, Integer> declared = new HashMap<>();
+    boolean protobufGen = isProtobufGen(model);
+    Map<String, String> enums = new HashMap<>();
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if (isUnknownFields(prop)) {
+        continue;
+      }
+      if (protobufGen) {
+        if (!ProtoProperty.isSupported(prop)) {
+          throw new GenException(model.getElement(), "Unsupported protobuf " + prop.getKind().name().toLowerCase() + " property " + prop.getName() + " of type " + prop.getType().getName());
+        }
+        if (prop.getType().getKind() == ClassKind.ENUM) {
+          // enums are named by their simple name in the proto file and the converter
+          String existing = enums.putIfAbsent(prop.getType().getSimpleName(), prop.getType().getName());
+          if (existing != null && !existing.equals(prop.getType().getName())) {
+            throw new GenException(model.getElement(), "Enums " + existing + " and " + prop.getType().getName() + " have the same protobuf name " + prop.getType().getSimpleName());
+          }
+        }
+      }
+      AnnotationValueInfo encoding = prop.getAnnotation(ProtoEncoding.class.getName());
+      if (encoding != null && !ProtoProperty.isInteger(prop)) {
+        throw new GenException(model.getElement(), "Unsupported " + encoding.getMember("value") + " encoding of non integer property " + prop.getName());
+      }
+      AnnotationValueInfo ann = prop.getAnnotation(ProtoField.class.getName());
+      if (ann != null) {
+        int number = (Integer) ann.getMember("number");
+        if (number < MIN_FIELD_NUMBER || number > MAX_FIELD_NUMBER) {
+          throw new GenException(model.getElement(), "Invalid protobuf field number " + number + " for property " + prop.getName() + ", must be between " + MIN_FIELD_NUMBER + " and " + MAX_FIELD_NUMBER);
+        }
+        if (number >= FIRST_RESERVED_FIELD_NUMBER && number <= LAST_RESERVED_FIELD_NUMBER) {
+          throw new GenException(model.getElement(), "Invalid protobuf field number " + number + " for property " + prop.getName() + ", numbers " + FIRST_RESERVED_FIELD_NUMBER + " to " + LAST_RESERVED_FIELD_NUMBER + " are reserved");
+        }
+        PropertyInfo existing = fields.put(number, prop);
+        if (existing != null) {
+          throw new GenException(model.getElement(), "Duplicate protobuf field number " + number + " for properties " + existing.getName() + " and " + prop.getName());
+        }
+        declared.put(prop.getName(), number);
+      }
+    }
+    int next = MIN_FIELD_NUMBER;
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if (!declared.containsKey(prop.getName()) && !isUnknownFields(prop)) {
+        while (fields.containsKey(next) || (next >= FIRST_RESERVED_FIELD_NUMBER && next <= LAST_RESERVED_FIELD_NUMBER)) {
+          next++;
+        }
+        fields.put(next++, prop);
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * @return the property retaining the unknown fields of the {@code model} or {@code null}
+   */
+  static public PropertyInfo unknownFields(DataObjectModel model) {
+    PropertyInfo unknownFields = null;
+    for (PropertyInfo prop : model.getPropertyMap().values()) {
+      if (isUnknownFields(prop)) {
+        if (unknownFields != null) {
+          throw new GenException(model.getElement(), "Duplicate unknown fields properties " + unknownFields.getName() + " and " + prop.getName());
+        }
+        if (prop.getKind() != PropertyKind.VALUE || !prop.getType().getName().equals("byte[]") || prop.getGetterMethod() == null || prop.getSetterMethod() == null) {
+          throw new GenException(model.getElement(), "Unknown fields property " + prop.getName() + " must be a byte[] property with a getter and a setter");
+        }
+        unknownFields = prop;
+      }
+    }
+    return unknownFields;
+  }
+
+  static boolean isProtobufGen(DataObjectModel model) {
+    return model.getAnnotations().stream().anyMatch(ann -> ann.getName().equals(ProtobufGen.class.getName()));
+  }
+
+  private static boolean isUnknownFields(PropertyInfo prop) {
+    return prop.getAnnotation(ProtoUnknownFields.class.getName()) != null;
+  }
+}
@@ -1,12 +1,14 @@
 package io.vertx.codegen.protobuf.generator;
 
 import io.vertx.codegen.DataObjectModel;
+import io.vertx.codegen.GenException;
 import io.vertx.codegen.Generator;
 import io.vertx.codegen.PropertyInfo;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.ModuleGen;
 import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
 import io.vertx.codegen.type.ClassKind;
+import io.vertx.codegen.type.EnumTypeInfo;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -14,6 +16,8 @@ import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class ProtoFileGen extends Generator<DataObjectModel> {
@@ -22,6 +26,7 @@ public class ProtoFileGen extends Generator<DataObjectModel> {
     name = "protobuf";
     kinds = Collections.singleton("dataObject");
     incremental = true;
+    concurrent = true;
   }
 
   @Override
@@ -34,6 +39,7 @@ public class ProtoFileGen extends Generator<DataObjectModel> {
     return "resources/dataobjects.proto";
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public String render(DataObjectModel model, int index, int size, Map<String, Object> session) {
     StringWriter buffer = new StringWriter();
@@ -61,15 +67,52 @@ public class ProtoFileGen extends Generator<DataObjectModel> {
     }
 
     String messageName = model.getType().getSimpleName();
-    int fieldNumber = 1;
+    Map<Integer, PropertyInfo> fields = ProtoFieldNumbers.select(model);
+
+    // enums are defined once, before the first message using them, and are named by their simple name
+    Map<String, String> enums = (Map<String, String>) session.computeIfAbsent("enums", k -> new HashMap<>());
+    if (index == 0) {
+      enums.clear();
+    }
+    boolean protobufGen = ProtoFieldNumbers.isProtobufGen(model);
+    Map<Integer, PropertyInfo> supported = new LinkedHashMap<>();
+    for (Map.Entry<Integer, PropertyInfo> field : fields.entrySet()) {
+      PropertyInfo prop = field.getValue();
+      // the properties of a @ProtobufGen model are checked by ProtoFieldNumbers, the other models skip what cannot be encoded
+      if (!ProtoProperty.isSupported(prop)) {
+        continue;
+      }
+      if (prop.getType().getKind() == ClassKind.ENUM) {
+        EnumTypeInfo type = (EnumTypeInfo) prop.getType();
+        String existing = enums.putIfAbsent(type.getSimpleName(), type.getName());
+        if (existing == null) {
+          writer.print("enum " + type.getSimpleName() + " {\n");
+          for (Map.Entry<Integer, String> value : ProtoEnumValues.select(model, type).entrySet()) {
+            writer.print("  " + ProtoEnumValues.valueName(type, value.getValue()) + " = " + value.getKey() + ";\n");
+          }
+          writer.print("}\n");
+          writer.print("\n");
+        } else if (!existing.equals(type.getName())) {
+          if (protobufGen) {
+            throw new GenException(model.getElement(), "Enums " + existing + " and " + type.getName() + " have the same protobuf name " + type.getSimpleName());
+          }
+          continue;
+        }
+      }
+      supported.put(field.getKey(), prop);
+    }
 
     writer.print("message " + messageName + " {\n");
-    for (PropertyInfo prop : model.getPropertyMap().values()) {
+    for (Map.Entry<Integer, PropertyInfo> field : supported.entrySet()) {
+      int fieldNumber = field.getKey();
+      PropertyInfo prop = field.getValue();
       ClassKind propKind = prop.getType().getKind();
       ProtoProperty protoProperty = ProtoProperty.getProtoProperty(prop, fieldNumber);
 
       String protoType;
-      if (propKind.basic) {
+      if (protoProperty.isEnum()) {
+        protoType = prop.getType().getSimpleName();
+      } else if (propKind.basic || protoProperty.isBytes()) {
         protoType = protoProperty.getProtoType().value;
       } else {
         if (protoProperty.isBuiltinType()) {
@@ -79,14 +122,13 @@ public class ProtoFileGen extends Generator<DataObjectModel> {
         }
       }
 
-      if (prop.getKind().isList()) {
+      if (prop.getKind().isList() || prop.getKind().isSet() || prop.getKind().isArray()) {
         writer.print("  repeated " + protoType + " " + prop.getName() + " = " + fieldNumber + ";\n");
       } else if (prop.getKind().isMap()) {
         writer.print("  map<string, " + protoType + "> " + prop.getName() + " = " + fieldNumber + ";\n");
       } else {
         writer.print("  " + protoType + " " + prop.getName() + " = " + fieldNumber + ";\n");
       }
-      fieldNumber++;
     }
     writer.print("}\n");
     writer.print("\n");
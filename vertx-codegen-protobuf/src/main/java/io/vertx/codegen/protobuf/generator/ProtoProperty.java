@@ -2,7 +2,10 @@ package io.vertx.codegen.protobuf.generator;
 
 import io.vertx.codegen.PropertyInfo;
 import io.vertx.codegen.PropertyKind;
+import io.vertx.codegen.protobuf.annotations.IntegerProtoEncoding;
 import io.vertx.codegen.protobuf.annotations.JsonProtoEncoding;
+import io.vertx.codegen.protobuf.annotations.ProtoEncoding;
+import io.vertx.codegen.type.AnnotationValueInfo;
 import io.vertx.codegen.type.ClassKind;
 
 // This class store the protobuf properties of a given field
@@ -10,6 +13,11 @@ public class ProtoProperty {
   private int fieldNumber;
   private int wireType;
   private int tag;
+  // Wire type and tag of a single element of a repeated field
+  private int elementWireType;
+  private int elementTag;
+  // Indicate if a repeated field uses the packed encoding
+  private boolean isPacked;
   private ProtoType protoType;
   // Indicate if field is nullable.
   private boolean isNullable;
@@ -23,25 +31,45 @@ public class ProtoProperty {
     ProtoProperty protoProperty = new ProtoProperty();
     ClassKind propKind = prop.getType().getKind();
     ProtoType protoType;
-    boolean isNullable = determineIsNullable(prop.getType().getName());
+    boolean isNullable = prop.getKind() == PropertyKind.ARRAY || determineIsNullable(prop.getType().getName());
     String message = null;
     String builtInProtoType = null;
     int wireType;
-    if (propKind.basic) {
-      protoType = determinePrimitiveProtoType(prop.getType().getName());
+    if (isBytes(prop.getType().getName())) {
+      if (!isSupported(prop)) {
+        throw new UnsupportedOperationException("Unsupported bytes property " + prop.getName());
+      }
+      protoType = ProtoType.BYTES;
+      wireType = 2;
+    } else if (propKind == ClassKind.ENUM) {
+      if (!isSupported(prop)) {
+        throw new UnsupportedOperationException("Unsupported enum property " + prop.getName());
+      }
+      protoType = ProtoType.ENUM;
+      wireType = 0;
+    } else if (propKind.basic) {
+      protoType = determineIntegerProtoType(prop, determinePrimitiveProtoType(prop.getType().getName()));
       switch (protoType) {
         case BOOL:
         case INT64:
         case INT32:
+        case SINT32:
+        case SINT64:
+        case UINT32:
+        case UINT64:
           wireType = 0;
           break;
         case DOUBLE:
+        case FIXED64:
+        case SFIXED64:
           wireType = 1;
           break;
         case STRING:
           wireType = 2;
           break;
         case FLOAT:
+        case FIXED32:
+        case SFIXED32:
           wireType = 5;
           break;
         default:
@@ -54,8 +82,13 @@ public class ProtoProperty {
       builtInProtoType = determineBuiltInType(prop);
     }
 
-    // Override wire type if property is a list, map or set
+    int elementWireType = wireType;
+    boolean isPacked = (prop.getKind() == PropertyKind.LIST || prop.getKind() == PropertyKind.SET || prop.getKind() == PropertyKind.ARRAY) &&
+      (propKind.basic || protoType == ProtoType.ENUM) && protoType != ProtoType.STRING;
+
+    // Override wire type if property is a list, map, set or array
     if (prop.getKind() == PropertyKind.LIST ||
+      prop.getKind() == PropertyKind.ARRAY ||
       prop.getKind() == PropertyKind.MAP ||
       prop.getKind() == PropertyKind.SET) {
       wireType = 2;
@@ -66,6 +99,9 @@ public class ProtoProperty {
     protoProperty.fieldNumber = fieldNumber;
     protoProperty.wireType = wireType;
     protoProperty.tag = tag;
+    protoProperty.elementWireType = elementWireType;
+    protoProperty.elementTag = (fieldNumber << 3) | elementWireType;
+    protoProperty.isPacked = isPacked;
     protoProperty.protoType = protoType;
     protoProperty.isNullable = isNullable;
     protoProperty.message = message;
@@ -97,6 +133,61 @@ public class ProtoProperty {
     }
   }
 
+  // Whether a property can be encoded, binary maps and sets and enum maps are not supported
+  static boolean isSupported(PropertyInfo prop) {
+    if (isBytes(prop.getType().getName())) {
+      return prop.getKind() == PropertyKind.VALUE || prop.getKind() == PropertyKind.LIST;
+    } else if (prop.getType().getKind() == ClassKind.ENUM) {
+      return prop.getKind() == PropertyKind.VALUE || prop.getKind() == PropertyKind.LIST || prop.getKind() == PropertyKind.SET;
+    }
+    return true;
+  }
+
+  // Whether the ProtoEncoding annotation can apply to a property
+  static boolean isInteger(PropertyInfo prop) {
+    if (!prop.getType().getKind().basic) {
+      return false;
+    }
+    ProtoType protoType = determinePrimitiveProtoType(prop.getType().getName());
+    return protoType == ProtoType.INT32 || protoType == ProtoType.INT64;
+  }
+
+  // Apply the ProtoEncoding annotation of an integer property, other properties are rejected by ProtoFieldNumbers
+  private static ProtoType determineIntegerProtoType(PropertyInfo prop, ProtoType protoType) {
+    AnnotationValueInfo ann = prop.getAnnotation(ProtoEncoding.class.getName());
+    if (ann == null) {
+      return protoType;
+    }
+    IntegerProtoEncoding encoding = IntegerProtoEncoding.valueOf((String) ann.getMember("value"));
+    boolean is64 = protoType == ProtoType.INT64;
+    switch (encoding) {
+      case INT:
+        return protoType;
+      case SINT:
+        return is64 ? ProtoType.SINT64 : ProtoType.SINT32;
+      case UINT:
+        return is64 ? ProtoType.UINT64 : ProtoType.UINT32;
+      case FIXED:
+        return is64 ? ProtoType.FIXED64 : ProtoType.FIXED32;
+      case SFIXED:
+        return is64 ? ProtoType.SFIXED64 : ProtoType.SFIXED32;
+      default:
+        throw new InternalError("Unknown encoding " + encoding);
+    }
+  }
+
+  // Binary types encoded as bytes
+  static boolean isBytes(String javaDataType) {
+    switch (javaDataType) {
+      case "byte[]":
+      case "java.nio.ByteBuffer":
+      case "io.vertx.core.buffer.Buffer":
+        return true;
+      default:
+        return false;
+    }
+  }
+
   // Anything other than java primitive type should be nullable
   private static boolean determineIsNullable(String javaDataType) {
     switch (javaDataType) {
@@ -161,10 +252,33 @@ public class ProtoProperty {
     return tag;
   }
 
+  public int getElementWireType() {
+    return elementWireType;
+  }
+
+  public int getElementTag() {
+    return elementTag;
+  }
+
+  // Scalar lists and sets (except strings) and arrays are encoded as packed repeated fields, elements may be decoded from either form
+  public boolean isPacked() {
+    return isPacked;
+  }
+
   public ProtoType getProtoType() {
     return protoType;
   }
 
+  // Binary values are encoded by BytesProtoConverter
+  public boolean isBytes() {
+    return protoType == ProtoType.BYTES;
+  }
+
+  // Enum values are encoded as varints by the encode/decode methods generated in the proto converter
+  public boolean isEnum() {
+    return protoType == ProtoType.ENUM;
+  }
+
   public boolean isNullable() {
     return isNullable;
   }
@@ -177,6 +291,11 @@ public class ProtoProperty {
     return builtInType != null;
   }
 
+  // Struct built-in types cache their nested sizes like nested messages
+  public boolean isStruct() {
+    return "Struct".equals(builtInType);
+  }
+
   public String getBuiltInType() {
     return builtInType;
   }
@@ -1,20 +1,36 @@
 package io.vertx.codegen.protobuf.generator;
 
 public enum ProtoType {
-  STRING  ("string",  "String"),
-  INT32   ("int32",   "Int32"),
-  INT64   ("int64",   "Int64"),
-  DOUBLE  ("double",  "Double"),
-  FLOAT   ("float",   "Float"),
-  BOOL    ("bool",    "Bool"),
-  BYTES   ("bytes",   "Bytes");
+  STRING   ("string",   "String",   -1),
+  INT32    ("int32",    "Int32",    -1),
+  INT64    ("int64",    "Int64",    -1),
+  SINT32   ("sint32",   "SInt32",   -1),
+  SINT64   ("sint64",   "SInt64",   -1),
+  UINT32   ("uint32",   "UInt32",   -1),
+  UINT64   ("uint64",   "UInt64",   -1),
+  FIXED32  ("fixed32",  "Fixed32",   4),
+  FIXED64  ("fixed64",  "Fixed64",   8),
+  SFIXED32 ("sfixed32", "SFixed32",  4),
+  SFIXED64 ("sfixed64", "SFixed64",  8),
+  DOUBLE   ("double",   "Double",    8),
+  FLOAT    ("float",    "Float",     4),
+  BOOL     ("bool",     "Bool",      1),
+  BYTES    ("bytes",    "Bytes",    -1),
+  ENUM     ("enum",     "Enum",     -1);
 
   public final String value;
   public final String camelValue;
+  // Encoded size of a value without tag, -1 when the size depends on the value
+  public final int fixedSize;
 
-  ProtoType(String value, String camelValue) {
+  ProtoType(String value, String camelValue, int fixedSize) {
     this.value = value;
     this.camelValue = camelValue;
+    this.fixedSize = fixedSize;
+  }
+
+  public boolean isFixedSize() {
+    return fixedSize > 0;
   }
 
   public String read() {
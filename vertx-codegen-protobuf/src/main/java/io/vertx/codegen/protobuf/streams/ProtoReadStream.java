@@ -0,0 +1,233 @@
+package io.vertx.codegen.protobuf.streams;
+
+import com.google.protobuf.CodedInputStream;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A stream of data objects decoded from a stream of buffers carrying a sequence of length-delimited protobuf
+ * messages, as written by the generated {@code writeDelimited} and {@code toDelimitedBuffer} methods.
+ * <p/>
+ * The messages are parsed incrementally, a message can span several buffers and a buffer can carry several
+ * messages. Only the bytes not yet decoded are retained and the source is paused while the decoded messages cannot be
+ * delivered, so a sequence of any length is processed with a memory bounded by its largest message.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * ReadStream&lt;User&gt; users = new ProtoReadStream&lt;&gt;(file, UserProtoConverter::readDelimited);
+ * </pre>
+ */
+public class ProtoReadStream<T> implements ReadStream<T> {
+
+  /**
+   * Decodes a length-delimited message, e.g. the generated {@code readDelimited} method.
+   */
+  @FunctionalInterface
+  public interface Decoder<T> {
+    T decode(CodedInputStream input) throws IOException;
+  }
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private final ReadStream<Buffer> source;
+  private final Decoder<T> decoder;
+  // The bytes received and not yet decoded are pending[start, end)
+  private byte[] pending = new byte[INITIAL_CAPACITY];
+  private int start;
+  private int end;
+  private long demand = Long.MAX_VALUE;
+  private boolean sourcePaused;
+  private boolean delivering;
+  private boolean ended;
+  private boolean completed;
+  private boolean failed;
+  private Handler<T> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+
+  public ProtoReadStream(ReadStream<Buffer> source, Decoder<T> decoder) {
+    this.source = Objects.requireNonNull(source);
+    this.decoder = Objects.requireNonNull(decoder);
+  }
+
+  @Override
+  public ProtoReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+    exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> handler(Handler<T> handler) {
+    this.handler = handler;
+    if (handler != null) {
+      source.exceptionHandler(this::handleException);
+      source.endHandler(v -> handleEnd());
+      source.handler(this::handleBuffer);
+    } else {
+      source.handler(null);
+    }
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> pause() {
+    demand = 0L;
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> resume() {
+    return fetch(Long.MAX_VALUE);
+  }
+
+  @Override
+  public ProtoReadStream<T> fetch(long amount) {
+    if (amount < 0L) {
+      throw new IllegalArgumentException("Invalid amount " + amount);
+    }
+    demand += amount;
+    if (demand < 0L) {
+      demand = Long.MAX_VALUE;
+    }
+    deliver();
+    return this;
+  }
+
+  @Override
+  public ProtoReadStream<T> endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    return this;
+  }
+
+  private void handleBuffer(Buffer buffer) {
+    if (failed) {
+      return;
+    }
+    int length = buffer.length();
+    if (end + length > pending.length) {
+      // move the pending bytes to the front and grow to the size of the message being parsed
+      int size = end - start;
+      byte[] dst = size + length > pending.length ? new byte[Math.max(pending.length * 2, size + length)] : pending;
+      System.arraycopy(pending, start, dst, 0, size);
+      pending = dst;
+      start = 0;
+      end = size;
+    }
+    buffer.getBytes(0, length, pending, end);
+    end += length;
+    deliver();
+  }
+
+  private void handleEnd() {
+    ended = true;
+    deliver();
+  }
+
+  private void handleException(Throwable cause) {
+    Handler<Throwable> h = exceptionHandler;
+    if (h != null) {
+      h.handle(cause);
+    }
+  }
+
+  private void deliver() {
+    if (delivering || completed || failed) {
+      // a handler fetching more messages while one is delivered
+      return;
+    }
+    delivering = true;
+    try {
+      while (demand > 0L) {
+        T obj = parse();
+        if (obj == null) {
+          break;
+        }
+        if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+        Handler<T> h = handler;
+        if (h != null) {
+          h.handle(obj);
+        }
+      }
+    } finally {
+      delivering = false;
+    }
+    if (failed) {
+      return;
+    }
+    if (demand == 0L) {
+      if (!sourcePaused && !ended) {
+        sourcePaused = true;
+        source.pause();
+      }
+    } else if (ended) {
+      if (start < end) {
+        fail(new EOFException("Truncated message at the end of the stream"));
+      } else {
+        completed = true;
+        Handler<Void> h = endHandler;
+        if (h != null) {
+          h.handle(null);
+        }
+      }
+    } else if (sourcePaused) {
+      sourcePaused = false;
+      source.resume();
+    }
+  }
+
+  // Decode the next message or return null when its bytes are not yet received
+  private T parse() {
+    int pos = start;
+    int length = 0;
+    int shift = 0;
+    while (true) {
+      if (pos == end) {
+        return null;
+      }
+      byte b = pending[pos++];
+      length |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        break;
+      }
+      shift += 7;
+      if (shift == 35) {
+        fail(new IOException("Malformed message length"));
+        return null;
+      }
+    }
+    if (length < 0) {
+      fail(new IOException("Invalid message length " + (length & 0xFFFFFFFFL)));
+      return null;
+    }
+    if (end - pos < length) {
+      return null;
+    }
+    int offset = start;
+    start = pos + length;
+    if (start == end) {
+      start = 0;
+      end = 0;
+    }
+    try {
+      // the input copies the binary values, the pending bytes can be overwritten afterwards
+      return decoder.decode(CodedInputStream.newInstance(pending, offset, pos + length - offset));
+    } catch (IOException e) {
+      fail(e);
+      return null;
+    }
+  }
+
+  private void fail(Throwable cause) {
+    failed = true;
+    pending = null;
+    source.handler(null);
+    handleException(cause);
+  }
+}
@@ -0,0 +1,91 @@
+package io.vertx.codegen.protobuf.streams;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A stream of data objects written to a stream of buffers as a sequence of length-delimited protobuf messages, that
+ * a {@link ProtoReadStream} or the generated {@code readDelimited} method decodes.
+ * <p/>
+ * Each data object is encoded in a single buffer allocated with its exact size, the write queue and the back-pressure
+ * are the ones of the target stream. A data object that cannot be encoded is not written and fails the returned
+ * future.
+ * <p/>
+ * Example usage:
+ * <pre>
+ * WriteStream&lt;User&gt; users = new ProtoWriteStream&lt;&gt;(file, UserProtoConverter::toDelimitedBuffer);
+ * </pre>
+ */
+public class ProtoWriteStream<T> implements WriteStream<T> {
+
+  /**
+   * Encodes a length-delimited message, e.g. the generated {@code toDelimitedBuffer} method.
+   */
+  @FunctionalInterface
+  public interface Encoder<T> {
+    Buffer encode(T obj) throws IOException;
+  }
+
+  private final WriteStream<Buffer> target;
+  private final Encoder<T> encoder;
+
+  public ProtoWriteStream(WriteStream<Buffer> target, Encoder<T> encoder) {
+    this.target = Objects.requireNonNull(target);
+    this.encoder = Objects.requireNonNull(encoder);
+  }
+
+  @Override
+  public ProtoWriteStream<T> exceptionHandler(Handler<Throwable> handler) {
+    target.exceptionHandler(handler);
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(T data) {
+    Buffer buffer;
+    try {
+      buffer = encoder.encode(data);
+    } catch (IOException e) {
+      return Future.failedFuture(e);
+    }
+    return target.write(buffer);
+  }
+
+  @Override
+  public Future<Void> end() {
+    return target.end();
+  }
+
+  @Override
+  public Future<Void> end(T data) {
+    Buffer buffer;
+    try {
+      buffer = encoder.encode(data);
+    } catch (IOException e) {
+      return Future.failedFuture(e);
+    }
+    return target.end(buffer);
+  }
+
+  @Override
+  public ProtoWriteStream<T> setWriteQueueMaxSize(int maxSize) {
+    target.setWriteQueueMaxSize(maxSize);
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return target.writeQueueFull();
+  }
+
+  @Override
+  public ProtoWriteStream<T> drainHandler(Handler<Void> handler) {
+    target.drainHandler(handler);
+    return this;
+  }
+}
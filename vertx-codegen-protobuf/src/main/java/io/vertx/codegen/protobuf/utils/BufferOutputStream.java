@@ -0,0 +1,28 @@
+package io.vertx.codegen.protobuf.utils;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.io.OutputStream;
+
+/**
+ * An output stream appending the written bytes to a {@link Buffer}, used by the generated message codecs to encode a
+ * data object directly into the event-bus buffer.
+ */
+public class BufferOutputStream extends OutputStream {
+
+  private final Buffer buffer;
+
+  public BufferOutputStream(Buffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.appendByte((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    buffer.appendBytes(b, off, len);
+  }
+}
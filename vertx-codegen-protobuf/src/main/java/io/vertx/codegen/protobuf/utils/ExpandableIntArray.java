@@ -34,6 +34,21 @@ public class ExpandableIntArray {
     data[size++] = v;
   }
 
+  /**
+   * Clear the array so it can be reused, the backing storage is retained.
+   */
+  public void reset() {
+    size = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return data.length;
+  }
+
   private void ensureCapacity(int minCapacity) {
     if (minCapacity - data.length > 0) {
       grow(minCapacity);
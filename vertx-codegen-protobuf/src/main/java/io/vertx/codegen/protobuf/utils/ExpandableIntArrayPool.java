@@ -0,0 +1,58 @@
+package io.vertx.codegen.protobuf.utils;
+
+/**
+ * A per thread pool of {@link ExpandableIntArray} used as size cache by the generated proto converters, so that
+ * steady state encoding does not allocate a new cache for each message.
+ * <p>
+ * An acquired array is owned by the caller until it is released, a nested acquisition on the same thread gets
+ * a fresh array.
+ */
+public class ExpandableIntArrayPool {
+
+  /**
+   * The initial capacity of the arrays allocated by {@link #acquire()}.
+   */
+  public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  /**
+   * Arrays that grew beyond this capacity are not retained by the pool, {@code 4096} unless the
+   * {@code vertx.codegen.protobuf.maxRetainedCapacity} system property is set.
+   */
+  public static final int MAX_RETAINED_CAPACITY = Integer.getInteger("vertx.codegen.protobuf.maxRetainedCapacity", 4096);
+
+  private static final ThreadLocal<ExpandableIntArray> POOL = new ThreadLocal<>();
+
+  /**
+   * Like {@link #acquire(int)} with {@link #DEFAULT_INITIAL_CAPACITY}.
+   */
+  public static ExpandableIntArray acquire() {
+    return acquire(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Acquire a reset array from the current thread pool.
+   *
+   * @param initialCapacity the initial capacity of the array when a new array needs to be allocated
+   * @return the array
+   */
+  public static ExpandableIntArray acquire(int initialCapacity) {
+    ExpandableIntArray array = POOL.get();
+    if (array == null) {
+      return new ExpandableIntArray(initialCapacity);
+    }
+    POOL.set(null);
+    array.reset();
+    return array;
+  }
+
+  /**
+   * Give back an array previously obtained with {@link #acquire(int)} to the current thread pool.
+   *
+   * @param array the array
+   */
+  public static void release(ExpandableIntArray array) {
+    if (array.capacity() <= MAX_RETAINED_CAPACITY) {
+      POOL.set(array);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package io.vertx.core;
+
+/**
+ * Compile stub
+ */
+public interface Future<T> {
+
+  static <T> Future<T> failedFuture(Throwable t) {
+    return new Future<T>() {
+      @Override
+      public boolean failed() {
+        return true;
+      }
+      @Override
+      public Throwable cause() {
+        return t;
+      }
+    };
+  }
+
+  boolean failed();
+
+  Throwable cause();
+}
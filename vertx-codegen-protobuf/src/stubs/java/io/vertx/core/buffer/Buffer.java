@@ -0,0 +1,38 @@
+package io.vertx.core.buffer;
+
+import io.vertx.core.buffer.impl.BufferImpl;
+
+/**
+ * Compile stub
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public interface Buffer {
+
+  static Buffer buffer() {
+    return new BufferImpl(new byte[0]);
+  }
+
+  static Buffer buffer(byte[] bytes) {
+    return new BufferImpl(bytes.clone());
+  }
+
+  byte[] getBytes();
+
+  byte[] getBytes(int start, int end);
+
+  Buffer getBytes(int start, int end, byte[] dst, int dstIndex);
+
+  int getInt(int pos);
+
+  int length();
+
+  Buffer appendBytes(byte[] bytes);
+
+  Buffer appendBytes(byte[] bytes, int offset, int len);
+
+  Buffer appendByte(byte b);
+
+  Buffer appendInt(int i);
+
+}
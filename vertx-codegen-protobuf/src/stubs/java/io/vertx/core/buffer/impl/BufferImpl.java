@@ -0,0 +1,82 @@
+package io.vertx.core.buffer.impl;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compile stub
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public class BufferImpl implements Buffer {
+
+  private byte[] bytes;
+
+  public BufferImpl(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    return bytes.clone();
+  }
+
+  @Override
+  public byte[] getBytes(int start, int end) {
+    return Arrays.copyOfRange(bytes, start, end);
+  }
+
+  @Override
+  public Buffer getBytes(int start, int end, byte[] dst, int dstIndex) {
+    System.arraycopy(bytes, start, dst, dstIndex, end - start);
+    return this;
+  }
+
+  @Override
+  public int getInt(int pos) {
+    return ByteBuffer.wrap(bytes).getInt(pos);
+  }
+
+  @Override
+  public int length() {
+    return bytes.length;
+  }
+
+  @Override
+  public Buffer appendBytes(byte[] other) {
+    int length = bytes.length;
+    bytes = Arrays.copyOf(bytes, length + other.length);
+    System.arraycopy(other, 0, bytes, length, other.length);
+    return this;
+  }
+
+  @Override
+  public Buffer appendBytes(byte[] other, int offset, int len) {
+    int length = bytes.length;
+    bytes = Arrays.copyOf(bytes, length + len);
+    System.arraycopy(other, offset, bytes, length, len);
+    return this;
+  }
+
+  @Override
+  public Buffer appendByte(byte b) {
+    return appendBytes(new byte[] { b });
+  }
+
+  @Override
+  public Buffer appendInt(int i) {
+    return appendBytes(ByteBuffer.allocate(4).putInt(i).array());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof BufferImpl && Arrays.equals(bytes, ((BufferImpl) obj).bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+}
@@ -0,0 +1,22 @@
+package io.vertx.core.eventbus;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compile stub
+ *
+ * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
+ */
+public interface MessageCodec<S, R> {
+
+  void encodeToWire(Buffer buffer, S s);
+
+  R decodeFromWire(int pos, Buffer buffer);
+
+  R transform(S s);
+
+  String name();
+
+  byte systemCodecID();
+
+}
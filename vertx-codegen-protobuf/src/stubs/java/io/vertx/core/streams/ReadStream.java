@@ -0,0 +1,22 @@
+package io.vertx.core.streams;
+
+import io.vertx.core.Handler;
+
+/**
+ * Compile stub
+ */
+public interface ReadStream<T> extends StreamBase {
+
+  ReadStream<T> exceptionHandler(Handler<Throwable> handler);
+
+  ReadStream<T> handler(Handler<T> handler);
+
+  ReadStream<T> pause();
+
+  ReadStream<T> resume();
+
+  ReadStream<T> fetch(long amount);
+
+  ReadStream<T> endHandler(Handler<Void> endHandler);
+
+}
@@ -0,0 +1,25 @@
+package io.vertx.core.streams;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * Compile stub
+ */
+public interface WriteStream<T> extends StreamBase {
+
+  WriteStream<T> exceptionHandler(Handler<Throwable> handler);
+
+  Future<Void> write(T data);
+
+  Future<Void> end();
+
+  Future<Void> end(T data);
+
+  WriteStream<T> setWriteQueueMaxSize(int maxSize);
+
+  boolean writeQueueFull();
+
+  WriteStream<T> drainHandler(Handler<Void> handler);
+
+}
@@ -0,0 +1,126 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.vertx.test.codegen.converter.ArrayItem;
+import io.vertx.test.codegen.converter.ArrayItemProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ArrayProtoTest {
+  @Test
+  public void testArrays() throws IOException {
+    ArrayItem item = new ArrayItem();
+    item.setDoubles(new double[] { 1.5d, -2.25d, Double.MAX_VALUE });
+    item.setInts(new int[] { 1, -300, Integer.MAX_VALUE });
+    item.setLongs(new long[] { 1L, 1700000000000L, Long.MIN_VALUE });
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(item);
+
+    // Decode using Google's protoc plugin
+    io.vertx.protobuf.generated.ArrayItem protocObj = io.vertx.protobuf.generated.ArrayItem.parseFrom(encoded);
+    assertEquals(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE), protocObj.getDoublesList());
+    assertEquals(Arrays.asList(1, -300, Integer.MAX_VALUE), protocObj.getIntsList());
+    assertEquals(Arrays.asList(1L, 1700000000000L, Long.MIN_VALUE), protocObj.getLongsList());
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocObj.toByteArray();
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    ArrayItem decoded = vertxDecode(protocEncoded);
+    assertEquals(item, decoded);
+
+    // Assert total size is equal to computed size
+    Assert.assertEquals(encoded.length, ArrayItemProtoConverter.computeSize(item));
+  }
+
+  @Test
+  public void testEmptyArrays() throws IOException {
+    ArrayItem item = new ArrayItem();
+    item.setDoubles(new double[0]);
+    item.setInts(new int[0]);
+
+    byte[] encoded = vertxEncode(item);
+    assertEquals(0, encoded.length);
+
+    ArrayItem decoded = vertxDecode(encoded);
+    assertNull(decoded.getDoubles());
+    assertNull(decoded.getInts());
+    assertNull(decoded.getLongs());
+  }
+
+  @Test
+  public void testDecodeUnpackedAndSplitArrays() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeInt32(2, 1);
+    output.writeUInt32NoTag(18);
+    output.writeUInt32NoTag(CodedOutputStream.computeInt32SizeNoTag(2) + CodedOutputStream.computeInt32SizeNoTag(-3));
+    output.writeInt32NoTag(2);
+    output.writeInt32NoTag(-3);
+    output.writeInt32(2, 4);
+    output.writeDouble(1, 0.5d);
+    output.flush();
+
+    ArrayItem decoded = vertxDecode(baos.toByteArray());
+    assertArrayEquals(new int[] { 1, 2, -3, 4 }, decoded.getInts());
+    assertArrayEquals(new double[] { 0.5d }, decoded.getDoubles(), 0d);
+    assertNull(decoded.getLongs());
+  }
+
+  @Test
+  public void testDecodeTruncatedPackedArrays() throws IOException {
+    for (int tag : new int[] { 10, 18, 26 }) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      CodedOutputStream output = CodedOutputStream.newInstance(baos);
+      output.writeUInt32NoTag(tag);
+      output.writeUInt32NoTag(Integer.MAX_VALUE - 16);
+      output.writeInt64NoTag(1L);
+      output.flush();
+
+      Assert.assertThrows(InvalidProtocolBufferException.class, () -> vertxDecode(baos.toByteArray()));
+    }
+  }
+
+  @Test
+  public void testDecodeLargePackedArrays() throws IOException {
+    ArrayItem item = new ArrayItem();
+    item.setInts(new int[2000]);
+    item.setDoubles(new double[2000]);
+    for (int i = 0; i < 2000; i++) {
+      item.getInts()[i] = i * 31;
+      item.getDoubles()[i] = i / 2d;
+    }
+
+    ArrayItem decoded = vertxDecode(vertxEncode(item));
+    assertEquals(item, decoded);
+  }
+
+  private byte[] vertxEncode(ArrayItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    ArrayItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+
+  private ArrayItem vertxDecode(byte[] arr) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(arr);
+    ArrayItem obj = new ArrayItem();
+    ArrayItemProtoConverter.fromProto(input, obj);
+    return obj;
+  }
+}
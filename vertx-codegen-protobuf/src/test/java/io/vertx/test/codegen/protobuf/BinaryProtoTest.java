@@ -0,0 +1,103 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.test.codegen.converter.BinaryItem;
+import io.vertx.test.codegen.converter.BinaryItemProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BinaryProtoTest {
+  @Test
+  public void testBinary() throws IOException {
+    BinaryItem item = new BinaryItem();
+    item.setBuffer(Buffer.buffer("buffer".getBytes(StandardCharsets.UTF_8)));
+    item.setBufferList(Arrays.asList(Buffer.buffer(new byte[] { 1, 2 }), Buffer.buffer(new byte[] { 3 })));
+    item.setByteArray(new byte[] { 0, -1, 127 });
+    item.setByteBuffer(ByteBuffer.wrap("byte-buffer".getBytes(StandardCharsets.UTF_8)));
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(item);
+
+    // Decode using Google's protoc plugin
+    io.vertx.protobuf.generated.BinaryItem protocObj = io.vertx.protobuf.generated.BinaryItem.parseFrom(encoded);
+    assertEquals(ByteString.copyFromUtf8("buffer"), protocObj.getBuffer());
+    assertEquals(Arrays.asList(ByteString.copyFrom(new byte[] { 1, 2 }), ByteString.copyFrom(new byte[] { 3 })), protocObj.getBufferListList());
+    assertEquals(ByteString.copyFrom(new byte[] { 0, -1, 127 }), protocObj.getByteArray());
+    assertEquals(ByteString.copyFromUtf8("byte-buffer"), protocObj.getByteBuffer());
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocObj.toByteArray();
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    BinaryItem decoded = vertxDecode(protocEncoded, false);
+    assertEquals(item, decoded);
+
+    // Assert total size is equal to computed size
+    Assert.assertEquals(encoded.length, BinaryItemProtoConverter.computeSize(item));
+  }
+
+  @Test
+  public void testByteBufferRemaining() throws IOException {
+    BinaryItem item = new BinaryItem();
+    ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5 }, 1, 3);
+    item.setByteBuffer(byteBuffer);
+
+    byte[] encoded = vertxEncode(item);
+    assertEquals(1, byteBuffer.position());
+    assertEquals(ByteString.copyFrom(new byte[] { 2, 3, 4 }), io.vertx.protobuf.generated.BinaryItem.parseFrom(encoded).getByteBuffer());
+    Assert.assertEquals(encoded.length, BinaryItemProtoConverter.computeSize(item));
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(3);
+    direct.put(new byte[] { 2, 3, 4 });
+    direct.flip();
+    item.setByteBuffer(direct);
+    assertArrayEquals(encoded, vertxEncode(item));
+    assertEquals(0, direct.position());
+  }
+
+  @Test
+  public void testAliasing() throws IOException {
+    BinaryItem item = new BinaryItem();
+    item.setByteBuffer(ByteBuffer.wrap("byte-buffer".getBytes(StandardCharsets.UTF_8)));
+    byte[] encoded = vertxEncode(item);
+
+    BinaryItem copied = vertxDecode(encoded, false);
+    assertEquals(item, copied);
+
+    BinaryItem aliased = vertxDecode(encoded, true);
+    assertEquals(item, aliased);
+    assertSame(encoded, aliased.getByteBuffer().array());
+  }
+
+  private byte[] vertxEncode(BinaryItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    BinaryItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+
+  private BinaryItem vertxDecode(byte[] arr, boolean aliasing) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(arr);
+    input.enableAliasing(aliasing);
+    BinaryItem obj = new BinaryItem();
+    BinaryItemProtoConverter.fromProto(input, obj);
+    return obj;
+  }
+}
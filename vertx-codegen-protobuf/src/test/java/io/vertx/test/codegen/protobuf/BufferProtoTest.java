@@ -0,0 +1,87 @@
+package io.vertx.test.codegen.protobuf;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.AddressProtoConverter;
+import io.vertx.test.codegen.converter.BinaryItem;
+import io.vertx.test.codegen.converter.BinaryItemProtoConverter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BufferProtoTest {
+
+  private static Address address() {
+    Address address = new Address();
+    address.setName("Paris");
+    address.setLatitude(48.8566f);
+    address.setLongitude(2.3522f);
+    return address;
+  }
+
+  @Test
+  public void testBuffer() throws IOException {
+    Address address = address();
+    Buffer buffer = AddressProtoConverter.toBuffer(address);
+    assertEquals(AddressProtoConverter.computeSize(address), buffer.length());
+    assertArrayEquals(io.vertx.protobuf.generated.Address.newBuilder()
+      .setName("Paris")
+      .setLatitude(48.8566f)
+      .setLongitude(2.3522f)
+      .build()
+      .toByteArray(), buffer.getBytes());
+    Address decoded = new Address();
+    AddressProtoConverter.fromBuffer(buffer, decoded);
+    assertEquals(address, decoded);
+  }
+
+  @Test
+  public void testBinaryBuffer() throws IOException {
+    BinaryItem item = new BinaryItem();
+    item.setByteArray(new byte[] { 1, 2, 3 });
+    item.setByteBuffer(ByteBuffer.wrap("byte-buffer".getBytes(StandardCharsets.UTF_8)));
+    Buffer buffer = BinaryItemProtoConverter.toBuffer(item);
+    BinaryItem decoded = new BinaryItem();
+    BinaryItemProtoConverter.fromBuffer(buffer, decoded);
+    assertEquals(item, decoded);
+  }
+
+  @Test
+  public void testByteBuffer() throws IOException {
+    Address address = address();
+    byte[] expected = AddressProtoConverter.toBuffer(address).getBytes();
+    for (ByteBuffer dst : new ByteBuffer[] { ByteBuffer.allocate(expected.length + 4), ByteBuffer.allocateDirect(expected.length + 4) }) {
+      dst.position(2);
+      AddressProtoConverter.writeTo(address, dst);
+      assertEquals(2 + expected.length, dst.position());
+      dst.flip();
+      dst.position(2);
+      byte[] actual = new byte[expected.length];
+      dst.duplicate().get(actual);
+      assertArrayEquals(expected, actual);
+      Address decoded = new Address();
+      AddressProtoConverter.readFrom(dst, decoded);
+      assertEquals(address, decoded);
+      assertEquals(2, dst.position());
+    }
+  }
+
+  @Test
+  public void testByteBufferOverflow() throws IOException {
+    Address address = address();
+    ByteBuffer dst = ByteBuffer.allocate(AddressProtoConverter.computeSize(address) - 1);
+    try {
+      AddressProtoConverter.writeTo(address, dst);
+      fail();
+    } catch (BufferOverflowException expected) {
+    }
+    assertEquals(0, dst.position());
+  }
+}
@@ -0,0 +1,273 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.codegen.protobuf.streams.ProtoReadStream;
+import io.vertx.codegen.protobuf.streams.ProtoWriteStream;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.AddressProtoConverter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DelimitedProtoTest {
+
+  private static List<Address> addresses() {
+    List<Address> addresses = new ArrayList<>();
+    for (String name : Arrays.asList("Paris", "", new String(new char[300]).replace('\0', 'x'), "Lyon")) {
+      Address address = new Address();
+      address.setName(name);
+      address.setLatitude(45.764f);
+      address.setLongitude(4.8357f);
+      addresses.add(address);
+    }
+    // an empty message
+    addresses.add(new Address());
+    return addresses;
+  }
+
+  private static byte[] encode(List<Address> addresses) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    for (Address address : addresses) {
+      AddressProtoConverter.writeDelimited(address, output);
+    }
+    output.flush();
+    return baos.toByteArray();
+  }
+
+  @Test
+  public void testDelimited() throws IOException {
+    List<Address> addresses = addresses();
+    byte[] encoded = encode(addresses);
+
+    // Decode using Google's protoc plugin
+    CodedInputStream protocInput = CodedInputStream.newInstance(encoded);
+    for (Address address : addresses) {
+      io.vertx.protobuf.generated.Address protocObj = io.vertx.protobuf.generated.Address.parseDelimitedFrom(protocInput);
+      assertEquals(address.getName() == null ? "" : address.getName(), protocObj.getName());
+    }
+    assertTrue(protocInput.isAtEnd());
+
+    // Vertx Decode
+    CodedInputStream input = CodedInputStream.newInstance(encoded);
+    for (Address address : addresses) {
+      assertEquals(address, AddressProtoConverter.readDelimited(input));
+    }
+    assertNull(AddressProtoConverter.readDelimited(input));
+  }
+
+  @Test
+  public void testDelimitedBuffer() throws IOException {
+    List<Address> addresses = addresses();
+    Buffer buffer = Buffer.buffer();
+    for (Address address : addresses) {
+      buffer.appendBytes(AddressProtoConverter.toDelimitedBuffer(address).getBytes());
+    }
+    assertArrayEquals(encode(addresses), buffer.getBytes());
+  }
+
+  @Test
+  public void testReadStream() throws IOException {
+    List<Address> addresses = addresses();
+    byte[] encoded = encode(addresses);
+    for (int chunkSize : new int[] { 1, 2, 7, 64, encoded.length }) {
+      FakeReadStream source = new FakeReadStream();
+      List<Address> received = new ArrayList<>();
+      List<Throwable> failures = new ArrayList<>();
+      boolean[] ended = new boolean[1];
+      ProtoReadStream<Address> stream = new ProtoReadStream<>(source, AddressProtoConverter::readDelimited);
+      stream.exceptionHandler(failures::add);
+      stream.endHandler(v -> ended[0] = true);
+      stream.handler(received::add);
+      for (int i = 0; i < encoded.length; i += chunkSize) {
+        source.emit(Arrays.copyOfRange(encoded, i, Math.min(encoded.length, i + chunkSize)));
+      }
+      source.end();
+      assertEquals(addresses, received);
+      assertEquals(0, failures.size());
+      assertTrue(ended[0]);
+    }
+  }
+
+  @Test
+  public void testReadStreamBackPressure() throws IOException {
+    List<Address> addresses = addresses();
+    FakeReadStream source = new FakeReadStream();
+    List<Address> received = new ArrayList<>();
+    boolean[] ended = new boolean[1];
+    ProtoReadStream<Address> stream = new ProtoReadStream<>(source, AddressProtoConverter::readDelimited);
+    stream.endHandler(v -> ended[0] = true);
+    stream.handler(received::add);
+    stream.pause();
+    source.emit(encode(addresses));
+    assertEquals(0, received.size());
+    assertTrue(source.paused);
+    stream.fetch(2);
+    assertEquals(addresses.subList(0, 2), received);
+    assertTrue(source.paused);
+    source.end();
+    assertFalse(ended[0]);
+    stream.resume();
+    assertEquals(addresses, received);
+    assertTrue(ended[0]);
+  }
+
+  @Test
+  public void testReadStreamTruncated() throws IOException {
+    byte[] encoded = encode(addresses());
+    FakeReadStream source = new FakeReadStream();
+    List<Throwable> failures = new ArrayList<>();
+    boolean[] ended = new boolean[1];
+    ProtoReadStream<Address> stream = new ProtoReadStream<>(source, AddressProtoConverter::readDelimited);
+    stream.exceptionHandler(failures::add);
+    stream.endHandler(v -> ended[0] = true);
+    stream.handler(address -> {});
+    source.emit(Arrays.copyOf(encoded, encoded.length - 3));
+    source.end();
+    assertEquals(1, failures.size());
+    assertTrue(failures.get(0) instanceof EOFException);
+    assertFalse(ended[0]);
+  }
+
+  @Test
+  public void testWriteStream() throws IOException {
+    List<Address> addresses = addresses();
+    FakeWriteStream target = new FakeWriteStream();
+    ProtoWriteStream<Address> stream = new ProtoWriteStream<>(target, AddressProtoConverter::toDelimitedBuffer);
+    for (Address address : addresses.subList(0, addresses.size() - 1)) {
+      stream.write(address);
+    }
+    stream.end(addresses.get(addresses.size() - 1));
+    assertTrue(target.ended);
+    assertArrayEquals(encode(addresses), target.written.getBytes());
+  }
+
+  @Test
+  public void testWriteStreamEncodingFailure() {
+    FakeWriteStream target = new FakeWriteStream();
+    IOException failure = new IOException();
+    ProtoWriteStream<Address> stream = new ProtoWriteStream<>(target, address -> {
+      throw failure;
+    });
+    Future<Void> fut = stream.write(new Address());
+    assertTrue(fut.failed());
+    assertSame(failure, fut.cause());
+    fut = stream.end(new Address());
+    assertTrue(fut.failed());
+    assertSame(failure, fut.cause());
+    assertEquals(0, target.written.length());
+    assertFalse(target.ended);
+  }
+
+  private static class FakeReadStream implements ReadStream<Buffer> {
+
+    private Handler<Buffer> handler;
+    private Handler<Void> endHandler;
+    private boolean paused;
+
+    void emit(byte[] bytes) {
+      handler.handle(Buffer.buffer(bytes));
+    }
+
+    void end() {
+      endHandler.handle(null);
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+      paused = true;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      paused = false;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+      paused = false;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+  }
+
+  private static class FakeWriteStream implements WriteStream<Buffer> {
+
+    private final Buffer written = Buffer.buffer();
+    private boolean ended;
+
+    @Override
+    public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public Future<Void> write(Buffer data) {
+      written.appendBytes(data.getBytes());
+      return null;
+    }
+
+    @Override
+    public Future<Void> end() {
+      ended = true;
+      return null;
+    }
+
+    @Override
+    public Future<Void> end(Buffer data) {
+      write(data);
+      return end();
+    }
+
+    @Override
+    public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+      return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return false;
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+      return this;
+    }
+  }
+}
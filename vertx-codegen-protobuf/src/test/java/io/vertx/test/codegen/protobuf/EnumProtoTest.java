@@ -0,0 +1,124 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.vertx.test.codegen.converter.Color;
+import io.vertx.test.codegen.converter.EnumItem;
+import io.vertx.test.codegen.converter.EnumItemProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EnumProtoTest {
+  @Test
+  public void testEnumsAndSets() throws IOException {
+    EnumItem item = new EnumItem();
+    item.setColor(Color.BLUE);
+    item.setColorList(Arrays.asList(Color.RED, Color.NONE, Color.BLUE, Color.RED));
+    item.setColorSet(new LinkedHashSet<>(Arrays.asList(Color.GREEN, Color.BLUE)));
+    item.setDoubleSet(new LinkedHashSet<>(Arrays.asList(1.5d, -2.25d)));
+    item.setStringSet(new LinkedHashSet<>(Arrays.asList("b", "a")));
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(item);
+
+    // Decode using Google's protoc plugin, the constants keep their pinned numbers
+    io.vertx.protobuf.generated.EnumItem protocObj = io.vertx.protobuf.generated.EnumItem.parseFrom(encoded);
+    assertEquals(io.vertx.protobuf.generated.Color.COLOR_BLUE, protocObj.getColor());
+    assertEquals(5, protocObj.getColorValue());
+    assertEquals(Arrays.asList(
+      io.vertx.protobuf.generated.Color.COLOR_RED,
+      io.vertx.protobuf.generated.Color.COLOR_NONE,
+      io.vertx.protobuf.generated.Color.COLOR_BLUE,
+      io.vertx.protobuf.generated.Color.COLOR_RED), protocObj.getColorListList());
+    assertEquals(Arrays.asList(2, 5), protocObj.getColorSetValueList());
+    assertEquals(Arrays.asList(1.5d, -2.25d), protocObj.getDoubleSetList());
+    assertEquals(Arrays.asList("b", "a"), protocObj.getStringSetList());
+
+    // Encode using Google's protoc plugin, proto3 packs enum lists
+    byte[] protocEncoded = protocObj.toByteArray();
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    EnumItem decoded = vertxDecode(protocEncoded);
+    assertEquals(item, decoded);
+    assertTrue(decoded.getColorSet() instanceof LinkedHashSet);
+    assertEquals(Arrays.asList(Color.GREEN, Color.BLUE), Arrays.asList(decoded.getColorSet().toArray()));
+    assertEquals(Arrays.asList("b", "a"), Arrays.asList(decoded.getStringSet().toArray()));
+
+    // Assert total size is equal to computed size
+    Assert.assertEquals(encoded.length, EnumItemProtoConverter.computeSize(item));
+  }
+
+  @Test
+  public void testDecodeUnpackedEnums() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeEnum(2, 1);
+    output.writeEnum(2, 5);
+    output.writeEnum(3, 2);
+    output.writeEnum(3, 2);
+    output.flush();
+
+    EnumItem decoded = vertxDecode(baos.toByteArray());
+    assertEquals(Arrays.asList(Color.RED, Color.BLUE), decoded.getColorList());
+    assertEquals(Collections.singleton(Color.GREEN), decoded.getColorSet());
+  }
+
+  @Test
+  public void testDecodeUnknownEnumNumbers() throws IOException {
+    io.vertx.protobuf.generated.EnumItem protocObj = io.vertx.protobuf.generated.EnumItem.newBuilder()
+      .setColorValue(7)
+      .addColorListValue(1)
+      .addColorListValue(7)
+      .addColorListValue(2)
+      .build();
+
+    EnumItem decoded = vertxDecode(protocObj.toByteArray());
+    assertNull(decoded.getColor());
+    assertEquals(Arrays.asList(Color.RED, Color.GREEN), decoded.getColorList());
+  }
+
+  @Test
+  public void testDecodeTruncatedPackedSets() throws IOException {
+    // Packed color set and double set announcing more data than available
+    for (int tag : new int[] { 26, 34 }) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      CodedOutputStream output = CodedOutputStream.newInstance(baos);
+      output.writeUInt32NoTag(tag);
+      output.writeUInt32NoTag(Integer.MAX_VALUE - 16);
+      output.writeEnumNoTag(2);
+      output.flush();
+
+      Assert.assertThrows(InvalidProtocolBufferException.class, () -> vertxDecode(baos.toByteArray()));
+    }
+  }
+
+  private byte[] vertxEncode(EnumItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    EnumItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+
+  private EnumItem vertxDecode(byte[] arr) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(arr);
+    EnumItem obj = new EnumItem();
+    EnumItemProtoConverter.fromProto(input, obj);
+    return obj;
+  }
+}
@@ -141,6 +141,34 @@ public class GoogleStructProtoTest {
     Assert.assertEquals(encoded.length, GoogleStructProtoConverter.computeSize(jsonObject));
   }
 
+  @Test
+  public void TestDeeplyNestedJsonObject() throws IOException {
+    JsonObject jsonObject = new JsonObject().put("Name", "level-0");
+    JsonObject current = jsonObject;
+    for (int depth = 1; depth <= 12; depth++) {
+      JsonObject child = new JsonObject().put("Name", "level-" + depth);
+      current.put("Sibling", new JsonObject().put("Name", "sibling-" + depth));
+      current.put("Child", child);
+      current.put("List", new JsonArray().add("level-" + depth).add(new JsonObject().put("Name", "item-" + depth)));
+      current = child;
+    }
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(jsonObject);
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocEncode(com.google.protobuf.Struct.parseFrom(encoded));
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    CodedInputStream input = CodedInputStream.newInstance(protocEncoded);
+    JsonObject decoded = GoogleStructProtoConverter.fromProto(input);
+    assertEquals(jsonObject, decoded);
+
+    // Verify ComputeSize
+    Assert.assertEquals(encoded.length, GoogleStructProtoConverter.computeSize(jsonObject));
+  }
+
   @Test
   public void TestJsonArray() throws IOException {
     JsonObject jsonObject = new JsonObject();
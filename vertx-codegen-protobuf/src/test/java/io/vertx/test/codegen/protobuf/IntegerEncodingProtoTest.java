@@ -0,0 +1,84 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.test.codegen.converter.IntegerEncodingItem;
+import io.vertx.test.codegen.converter.IntegerEncodingItemProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class IntegerEncodingProtoTest {
+  @Test
+  public void testIntegerEncodings() throws IOException {
+    IntegerEncodingItem item = new IntegerEncodingItem();
+    item.setCounter(-1L);
+    item.setDelta(-3);
+    item.setDeltaList(Arrays.asList(-1L, 2L, -300L, Long.MIN_VALUE));
+    item.setHash(0x9E3779B9);
+    item.setId(0xCAFEBABEDEADBEEFL);
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(item);
+
+    // Decode using Google's protoc plugin
+    io.vertx.protobuf.generated.IntegerEncodingItem protocObj = io.vertx.protobuf.generated.IntegerEncodingItem.parseFrom(encoded);
+    assertEquals(-1L, protocObj.getCounter());
+    assertEquals(-3, protocObj.getDelta());
+    assertEquals(item.getDeltaList(), protocObj.getDeltaListList());
+    assertEquals(0x9E3779B9, protocObj.getHash());
+    assertEquals(0xCAFEBABEDEADBEEFL, protocObj.getId());
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocObj.toByteArray();
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    IntegerEncodingItem decoded = vertxDecode(protocEncoded);
+    assertEquals(item, decoded);
+
+    // Assert total size is equal to computed size
+    Assert.assertEquals(encoded.length, IntegerEncodingItemProtoConverter.computeSize(item));
+  }
+
+  @Test
+  public void testEncodedSizes() throws IOException {
+    IntegerEncodingItem item = new IntegerEncodingItem();
+    item.setDelta(-1);
+    // tag + zigzag varint instead of tag + 10 bytes
+    assertEquals(2, vertxEncode(item).length);
+
+    item = new IntegerEncodingItem();
+    item.setId(Long.MIN_VALUE);
+    // tag + 8 bytes instead of tag + 10 bytes
+    assertEquals(9, vertxEncode(item).length);
+
+    item = new IntegerEncodingItem();
+    item.setHash(-1);
+    // tag + 4 bytes instead of tag + 10 bytes
+    assertEquals(5, vertxEncode(item).length);
+  }
+
+  private byte[] vertxEncode(IntegerEncodingItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    IntegerEncodingItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+
+  private IntegerEncodingItem vertxDecode(byte[] arr) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(arr);
+    IntegerEncodingItem obj = new IntegerEncodingItem();
+    IntegerEncodingItemProtoConverter.fromProto(input, obj);
+    return obj;
+  }
+}
@@ -0,0 +1,68 @@
+package io.vertx.test.codegen.protobuf;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.AddressMessageCodec;
+import io.vertx.test.codegen.converter.AddressProtoConverter;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class MessageCodecTest {
+
+  private static Address address() {
+    Address address = new Address();
+    address.setName("Paris");
+    address.setLatitude(48.8566f);
+    address.setLongitude(2.3522f);
+    return address;
+  }
+
+  @Test
+  public void testWire() throws IOException {
+    Address address = address();
+    AddressMessageCodec codec = new AddressMessageCodec();
+    Buffer buffer = Buffer.buffer(new byte[] { 1, 2, 3 });
+    codec.encodeToWire(buffer, address);
+    byte[] encoded = AddressProtoConverter.toBuffer(address).getBytes();
+    assertEquals(3 + 4 + encoded.length, buffer.length());
+    assertEquals(encoded.length, buffer.getInt(3));
+    assertArrayEquals(encoded, buffer.getBytes(7, buffer.length()));
+    Address decoded = codec.decodeFromWire(3, buffer);
+    assertEquals(address, decoded);
+  }
+
+  @Test
+  public void testTransform() {
+    Address address = address();
+    assertSame(address, new AddressMessageCodec().transform(address));
+    Address copy = new AddressMessageCodec(a -> {
+      Address c = new Address();
+      c.setName(a.getName());
+      c.setLatitude(a.getLatitude());
+      c.setLongitude(a.getLongitude());
+      return c;
+    }).transform(address);
+    assertNotSame(address, copy);
+    assertEquals(address, copy);
+  }
+
+  @Test
+  public void testCopying() {
+    Address address = address();
+    Address copy = AddressMessageCodec.copying().transform(address);
+    assertNotSame(address, copy);
+    assertEquals(address, copy);
+  }
+
+  @Test
+  public void testName() {
+    assertEquals(AddressMessageCodec.class.getName(), new AddressMessageCodec().name());
+    assertEquals(-1, new AddressMessageCodec().systemCodecID());
+  }
+}
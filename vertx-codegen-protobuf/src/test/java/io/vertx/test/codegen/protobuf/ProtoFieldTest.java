@@ -0,0 +1,72 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.test.codegen.converter.EvolvingItem;
+import io.vertx.test.codegen.converter.EvolvingItemProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ProtoFieldTest {
+  @Test
+  public void testFieldNumbers() throws IOException {
+    EvolvingItem item = new EvolvingItem();
+    item.setName("item");
+    item.setCount(7);
+    item.setActive(true);
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(item);
+
+    // Annotated properties keep their number, the others are numbered around them
+    io.vertx.protobuf.generated.EvolvingItem protocObj = io.vertx.protobuf.generated.EvolvingItem.parseFrom(encoded);
+    assertEquals("item", protocObj.getName());
+    assertEquals(7, protocObj.getCount());
+    assertEquals(true, protocObj.getActive());
+    assertEquals(1, io.vertx.protobuf.generated.EvolvingItem.NAME_FIELD_NUMBER);
+    assertEquals(2, io.vertx.protobuf.generated.EvolvingItem.ACTIVE_FIELD_NUMBER);
+    assertEquals(5, io.vertx.protobuf.generated.EvolvingItem.COUNT_FIELD_NUMBER);
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocObj.toByteArray();
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    EvolvingItem decoded = new EvolvingItem();
+    EvolvingItemProtoConverter.fromProto(CodedInputStream.newInstance(protocEncoded), decoded);
+    assertEquals(item, decoded);
+
+    // Assert total size is equal to computed size
+    Assert.assertEquals(encoded.length, EvolvingItemProtoConverter.computeSize(item));
+  }
+
+  @Test
+  public void testDecodeFromProtoc() throws IOException {
+    byte[] encoded = io.vertx.protobuf.generated.EvolvingItem.newBuilder()
+      .setCount(3)
+      .build()
+      .toByteArray();
+
+    EvolvingItem decoded = new EvolvingItem();
+    EvolvingItemProtoConverter.fromProto(CodedInputStream.newInstance(encoded), decoded);
+    assertEquals(Integer.valueOf(3), decoded.getCount());
+    assertEquals(null, decoded.getName());
+    assertEquals(null, decoded.getActive());
+  }
+
+  private byte[] vertxEncode(EvolvingItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    EvolvingItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+}
@@ -0,0 +1,101 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import io.vertx.core.json.JsonObject;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.User;
+import io.vertx.test.codegen.converter.UserProtoConverter;
+import io.vertx.test.codegen.converter.UserProtoView;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ProtoViewTest {
+
+  private static User user() {
+    Address address = new Address();
+    address.setName("Paris");
+    address.setLatitude(48.8566f);
+    User user = new User();
+    user.setUserName("jviet");
+    user.setAge(21);
+    user.setAddress(address);
+    user.setPrimitiveInt(3000);
+    user.setInstantField(Instant.ofEpochSecond(1234, 5678));
+    user.setJsonObjectField(new JsonObject().put("tenant", "acme"));
+    user.setIntegerListField(Arrays.asList(100, 101));
+    user.setStructListField(Arrays.asList(address, new Address()));
+    user.setStringValueMap(Collections.singletonMap("key", "value"));
+    return user;
+  }
+
+  @Test
+  public void testGetters() throws IOException {
+    User user = user();
+    UserProtoView view = UserProtoView.of(UserProtoConverter.toBuffer(user));
+    assertEquals("jviet", view.getUserName());
+    assertEquals(Integer.valueOf(21), view.getAge());
+    assertEquals(user.getAddress(), view.getAddress());
+    assertEquals(3000, view.getPrimitiveInt());
+    assertEquals(user.getInstantField(), view.getInstantField());
+    assertEquals(user.getJsonObjectField(), view.getJsonObjectField());
+    assertEquals(user.getIntegerListField(), view.getIntegerListField());
+    assertEquals(user.getStructListField(), view.getStructListField());
+    assertEquals(user.getStringValueMap(), view.getStringValueMap());
+    assertNull(view.getLongField());
+    assertNull(view.getZonedDateTimeListField());
+    assertNull(view.getJsonValueMap());
+    assertEquals(0L, view.getPrimitiveLong());
+    assertEquals(user, view.decode());
+  }
+
+  @Test
+  public void testWriteOriginalBytes() throws IOException {
+    byte[] encoded = UserProtoConverter.toBuffer(user()).getBytes();
+    byte[] embedded = new byte[encoded.length + 6];
+    System.arraycopy(encoded, 0, embedded, 3, encoded.length);
+    UserProtoView view = UserProtoView.of(embedded, 3, encoded.length);
+    assertEquals("jviet", view.getUserName());
+    assertEquals(encoded.length, view.length());
+    assertArrayEquals(encoded, view.toByteArray());
+    assertArrayEquals(encoded, view.toBuffer().getBytes());
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    view.writeTo(output);
+    output.flush();
+    assertArrayEquals(encoded, baos.toByteArray());
+
+    ByteBuffer dst = ByteBuffer.allocate(encoded.length);
+    view.writeTo(dst);
+    assertArrayEquals(encoded, dst.array());
+  }
+
+  @Test
+  public void testLastValueWins() throws IOException {
+    User first = new User();
+    first.setUserName("first");
+    first.setIntegerListField(Collections.singletonList(1));
+    User second = new User();
+    second.setUserName("second");
+    second.setIntegerListField(Collections.singletonList(2));
+    byte[] a = UserProtoConverter.toBuffer(first).getBytes();
+    byte[] b = UserProtoConverter.toBuffer(second).getBytes();
+    byte[] concatenated = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, concatenated, a.length, b.length);
+
+    // Same semantic than a protobuf merge
+    UserProtoView view = UserProtoView.of(concatenated);
+    assertEquals("second", view.getUserName());
+    assertEquals(Arrays.asList(1, 2), view.getIntegerListField());
+  }
+}
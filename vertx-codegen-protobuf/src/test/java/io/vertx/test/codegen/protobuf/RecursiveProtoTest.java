@@ -3,6 +3,7 @@ package io.vertx.test.codegen.protobuf;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
 import io.vertx.test.codegen.converter.RecursiveItem;
 import io.vertx.test.codegen.converter.RecursiveItemProtoConverter;
 import org.junit.Assert;
@@ -77,6 +78,30 @@ public class RecursiveProtoTest {
     Assert.assertEquals(encoded.length, RecursiveItemProtoConverter.computeSize(root));
   }
 
+  @Test
+  public void testReuseCache() throws IOException {
+    RecursiveItem big = new RecursiveItem("big");
+    big.setChildA(new RecursiveItem("a"));
+    big.getChildA().setChildA(new RecursiveItem("a_a"));
+    big.setChildC(new RecursiveItem("c"));
+    RecursiveItem small = new RecursiveItem("small");
+    small.setChildB(new RecursiveItem("b"));
+
+    ExpandableIntArray cache = new ExpandableIntArray(1);
+    assertEquals(RecursiveItemProtoConverter.computeSize(big), RecursiveItemProtoConverter.computeSize(big, cache));
+    Assert.assertArrayEquals(vertxEncode(small), vertxEncode(small, cache));
+    Assert.assertArrayEquals(vertxEncode(big), vertxEncode(big, cache));
+    Assert.assertArrayEquals(vertxEncode(small), vertxEncode(small, cache));
+  }
+
+  private byte[] vertxEncode(RecursiveItem obj, ExpandableIntArray cache) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    RecursiveItemProtoConverter.toProto(obj, output, cache);
+    output.flush();
+    return baos.toByteArray();
+  }
+
   private byte[] vertxEncode(RecursiveItem obj) throws IOException {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     CodedOutputStream output = CodedOutputStream.newInstance(baos);
@@ -0,0 +1,135 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.vertx.test.codegen.converter.RepeatedItem;
+import io.vertx.test.codegen.converter.RepeatedItemProtoConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class RepeatedProtoTest {
+  @Test
+  public void testPackedLists() throws IOException {
+    RepeatedItem item = new RepeatedItem();
+    item.setBooleanList(Arrays.asList(true, false, true));
+    item.setByteList(Arrays.asList((byte) 1, (byte) -2, Byte.MAX_VALUE));
+    item.setDoubleList(Arrays.asList(1.5d, -2.25d, Double.MAX_VALUE));
+    item.setFloatList(Arrays.asList(1.5f, -2.25f, Float.MIN_VALUE));
+    item.setIntegerList(Arrays.asList(1, -300, Integer.MAX_VALUE));
+    item.setLongList(Arrays.asList(1L, 1700000000000L, Long.MIN_VALUE));
+    item.setShortList(Arrays.asList((short) 1, (short) -300, Short.MAX_VALUE));
+    item.setStringList(Arrays.asList("a", "", "ccc"));
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(item);
+
+    // Decode using Google's protoc plugin
+    io.vertx.protobuf.generated.RepeatedItem protocObj = io.vertx.protobuf.generated.RepeatedItem.parseFrom(encoded);
+    assertEquals(item.getBooleanList(), protocObj.getBooleanListList());
+    assertEquals(item.getDoubleList(), protocObj.getDoubleListList());
+    assertEquals(item.getFloatList(), protocObj.getFloatListList());
+    assertEquals(item.getIntegerList(), protocObj.getIntegerListList());
+    assertEquals(item.getLongList(), protocObj.getLongListList());
+    assertEquals(item.getStringList(), protocObj.getStringListList());
+
+    // Encode using Google's protoc plugin, proto3 packs scalar lists
+    byte[] protocEncoded = protocObj.toByteArray();
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    RepeatedItem decoded = vertxDecode(protocEncoded);
+    assertEquals(item, decoded);
+
+    // Assert total size is equal to computed size
+    Assert.assertEquals(encoded.length, RepeatedItemProtoConverter.computeSize(item));
+  }
+
+  @Test
+  public void testDecodeUnpackedLists() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeBool(1, true);
+    output.writeBool(1, false);
+    output.writeDouble(3, 1.5d);
+    output.writeFloat(4, 2.5f);
+    output.writeInt32(5, 1);
+    output.writeInt32(5, -300);
+    output.writeInt64(6, 1700000000000L);
+    output.writeInt32(7, -3);
+    output.flush();
+
+    RepeatedItem decoded = vertxDecode(baos.toByteArray());
+    assertEquals(Arrays.asList(true, false), decoded.getBooleanList());
+    assertEquals(Collections.singletonList(1.5d), decoded.getDoubleList());
+    assertEquals(Collections.singletonList(2.5f), decoded.getFloatList());
+    assertEquals(Arrays.asList(1, -300), decoded.getIntegerList());
+    assertEquals(Collections.singletonList(1700000000000L), decoded.getLongList());
+    assertEquals(Collections.singletonList((short) -3), decoded.getShortList());
+  }
+
+  @Test
+  public void testDecodeMixedPackedAndUnpacked() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeInt64(6, 1L);
+    output.writeUInt32NoTag(50);
+    output.writeUInt32NoTag(CodedOutputStream.computeInt64SizeNoTag(2L) + CodedOutputStream.computeInt64SizeNoTag(3L));
+    output.writeInt64NoTag(2L);
+    output.writeInt64NoTag(3L);
+    output.writeInt64(6, 4L);
+    output.flush();
+
+    RepeatedItem decoded = vertxDecode(baos.toByteArray());
+    assertEquals(Arrays.asList(1L, 2L, 3L, 4L), decoded.getLongList());
+  }
+
+  @Test
+  public void testDecodeTruncatedPackedList() throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    output.writeUInt32NoTag(10);
+    output.writeUInt32NoTag(Integer.MAX_VALUE - 16);
+    output.writeBoolNoTag(true);
+    output.flush();
+
+    Assert.assertThrows(InvalidProtocolBufferException.class, () -> vertxDecode(baos.toByteArray()));
+  }
+
+  @Test
+  public void testEmptyLists() throws IOException {
+    RepeatedItem item = new RepeatedItem();
+    item.setIntegerList(Collections.emptyList());
+    item.setDoubleList(Collections.emptyList());
+    item.setStringList(Collections.emptyList());
+
+    byte[] encoded = vertxEncode(item);
+    assertEquals(0, encoded.length);
+    Assert.assertEquals(0, RepeatedItemProtoConverter.computeSize(item));
+  }
+
+  private byte[] vertxEncode(RepeatedItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    RepeatedItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+
+  private RepeatedItem vertxDecode(byte[] arr) throws IOException {
+    CodedInputStream input = CodedInputStream.newInstance(arr);
+    RepeatedItem obj = new RepeatedItem();
+    RepeatedItemProtoConverter.fromProto(input, obj);
+    return obj;
+  }
+}
@@ -0,0 +1,164 @@
+package io.vertx.test.codegen.protobuf;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import io.vertx.codegen.protobuf.converters.InstantProtoConverter;
+import io.vertx.codegen.protobuf.converters.VertxStructProtoConverter;
+import io.vertx.core.json.JsonObject;
+import io.vertx.protobuf.Struct;
+import io.vertx.protobuf.Value;
+import io.vertx.test.codegen.converter.Address;
+import io.vertx.test.codegen.converter.AddressProtoConverter;
+import io.vertx.test.codegen.converter.Color;
+import io.vertx.test.codegen.converter.EvolvingItem;
+import io.vertx.test.codegen.converter.EvolvingItemProtoConverter;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class UnknownFieldsTest {
+
+  // Fields a newer version of the messages could send
+  private static UnknownFieldSet newerFields() {
+    return UnknownFieldSet.newBuilder()
+      .addField(3, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("new")).build())
+      .addField(4, UnknownFieldSet.Field.newBuilder().addVarint(300).build())
+      .addField(10, UnknownFieldSet.Field.newBuilder().addFixed64(Long.MAX_VALUE).build())
+      .addField(11, UnknownFieldSet.Field.newBuilder().addFixed32(7).build())
+      .addField(12, UnknownFieldSet.Field.newBuilder().addGroup(UnknownFieldSet.newBuilder()
+        .addField(1, UnknownFieldSet.Field.newBuilder().addVarint(1).build())
+        .build()).build())
+      .build();
+  }
+
+  @Test
+  public void testSkipUnknownFields() throws IOException {
+    byte[] encoded = io.vertx.protobuf.generated.Address.newBuilder()
+      .setLatitude(1.5f)
+      .setName("name")
+      .setUnknownFields(UnknownFieldSet.newBuilder()
+        .addField(7, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("new")).build())
+        .addField(8, UnknownFieldSet.Field.newBuilder().addVarint(300).build())
+        .build())
+      .build()
+      .toByteArray();
+
+    Address decoded = new Address();
+    AddressProtoConverter.fromProto(CodedInputStream.newInstance(encoded), decoded);
+    assertEquals(Float.valueOf(1.5f), decoded.getLatitude());
+    assertNull(decoded.getLongitude());
+    assertEquals("name", decoded.getName());
+  }
+
+  @Test
+  public void testRetainUnknownFields() throws IOException {
+    io.vertx.protobuf.generated.EvolvingItem newer = io.vertx.protobuf.generated.EvolvingItem.newBuilder()
+      .setName("item")
+      .setCount(7)
+      .setUnknownFields(newerFields())
+      .build();
+
+    EvolvingItem decoded = new EvolvingItem();
+    EvolvingItemProtoConverter.fromProto(CodedInputStream.newInstance(newer.toByteArray()), decoded);
+    assertEquals("item", decoded.getName());
+    assertEquals(Integer.valueOf(7), decoded.getCount());
+    assertNull(decoded.getActive());
+    assertEquals(newerFields().toByteString(), ByteString.copyFrom(decoded.getUnknownFields()));
+
+    // The unknown fields are written back
+    byte[] encoded = vertxEncode(decoded);
+    assertEquals(encoded.length, EvolvingItemProtoConverter.computeSize(decoded));
+    assertEquals(newer, io.vertx.protobuf.generated.EvolvingItem.parseFrom(encoded));
+  }
+
+  @Test
+  public void testRetainUnknownEnumNumbers() throws IOException {
+    // 99 and 98 are constants of a newer version of the enum
+    io.vertx.protobuf.generated.EvolvingItem newer = io.vertx.protobuf.generated.EvolvingItem.newBuilder()
+      .setName("item")
+      .setColorValue(99)
+      .addColorListValue(5)
+      .addColorListValue(98)
+      .build();
+
+    EvolvingItem decoded = new EvolvingItem();
+    EvolvingItemProtoConverter.fromProto(CodedInputStream.newInstance(newer.toByteArray()), decoded);
+    assertEquals("item", decoded.getName());
+    assertNull(decoded.getColor());
+    assertEquals(Collections.singletonList(Color.BLUE), decoded.getColorList());
+
+    // The unknown numbers are written back
+    byte[] encoded = vertxEncode(decoded);
+    assertEquals(encoded.length, EvolvingItemProtoConverter.computeSize(decoded));
+    io.vertx.protobuf.generated.EvolvingItem reencoded = io.vertx.protobuf.generated.EvolvingItem.parseFrom(encoded);
+    assertEquals(99, reencoded.getColorValue());
+    assertEquals(Arrays.asList(5, 98), reencoded.getColorListValueList());
+    assertEquals(newer, reencoded);
+  }
+
+  @Test
+  public void testNoUnknownFields() throws IOException {
+    byte[] encoded = io.vertx.protobuf.generated.EvolvingItem.newBuilder()
+      .setName("item")
+      .build()
+      .toByteArray();
+    EvolvingItem decoded = new EvolvingItem();
+    EvolvingItemProtoConverter.fromProto(CodedInputStream.newInstance(encoded), decoded);
+    assertNull(decoded.getUnknownFields());
+  }
+
+  @Test
+  public void testStructUnknownFields() throws IOException {
+    byte[] encoded = Struct.newBuilder()
+      .putFields("known", Value.newBuilder().setIntegerValue(5).build())
+      .putFields("trailing", Value.newBuilder()
+        .setStringValue("value")
+        .setUnknownFields(UnknownFieldSet.newBuilder()
+          .addField(30, UnknownFieldSet.Field.newBuilder().addVarint(1).build())
+          .build())
+        .build())
+      .putFields("unknown", Value.newBuilder()
+        .setUnknownFields(UnknownFieldSet.newBuilder()
+          .addField(30, UnknownFieldSet.Field.newBuilder().addLengthDelimited(ByteString.copyFromUtf8("new")).build())
+          .build())
+        .build())
+      .setUnknownFields(newerFields())
+      .build()
+      .toByteArray();
+
+    JsonObject decoded = VertxStructProtoConverter.fromProto(CodedInputStream.newInstance(encoded));
+    assertEquals(new JsonObject().put("known", 5).put("trailing", "value"), decoded);
+  }
+
+  @Test
+  public void testInstantUnknownFields() throws IOException {
+    Instant instant = Instant.ofEpochSecond(1234, 5678);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    InstantProtoConverter.toProto(instant, output);
+    output.writeString(3, "zone");
+    output.writeFixed64(4, 1L);
+    output.flush();
+
+    assertEquals(instant, InstantProtoConverter.fromProto(CodedInputStream.newInstance(baos.toByteArray())));
+  }
+
+  private byte[] vertxEncode(EvolvingItem obj) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    EvolvingItemProtoConverter.toProto(obj, output);
+    output.flush();
+    byte[] encoded = baos.toByteArray();
+    TestUtils.debug("Vertx encoded", encoded);
+    return encoded;
+  }
+}
@@ -5,6 +5,7 @@ import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.CodedOutputStream;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.codegen.protobuf.converters.VertxStructListProtoConverter;
 import io.vertx.codegen.protobuf.converters.VertxStructProtoConverter;
 import io.vertx.protobuf.Value;
 import org.junit.Assert;
@@ -124,6 +125,64 @@ public class VertxStructProtoTest {
     Assert.assertEquals(encoded.length, VertxStructProtoConverter.computeSize(jsonObject));
   }
 
+  @Test
+  public void TestDeeplyNestedJsonObject() throws IOException {
+    JsonObject jsonObject = new JsonObject().put("Depth", 0);
+    JsonObject current = jsonObject;
+    for (int depth = 1; depth <= 12; depth++) {
+      JsonObject child = new JsonObject().put("Depth", depth).put("Name", "level-" + depth);
+      current.put("Sibling", new JsonObject().put("Depth", depth));
+      current.put("Child", child);
+      current.put("List", new JsonArray().add("level-" + depth).add(depth));
+      current = child;
+    }
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(jsonObject);
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocEncode(io.vertx.protobuf.Struct.parseFrom(encoded));
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    CodedInputStream input = CodedInputStream.newInstance(protocEncoded);
+    JsonObject decoded = VertxStructProtoConverter.fromProto(input);
+    assertEquals(jsonObject, decoded);
+
+    // Verify ComputeSize
+    Assert.assertEquals(encoded.length, VertxStructProtoConverter.computeSize(jsonObject));
+  }
+
+  @Test
+  public void TestNestedJsonArray() throws IOException {
+    // The array takes a single entry of the size cache, between the entries of the structs around it
+    JsonArray array = new JsonArray().add("One").add(2).add(3000L);
+    JsonObject jsonObject = new JsonObject()
+      .put("Before", new JsonObject().put("Name", "before"))
+      .put("List", array)
+      .put("After", new JsonObject().put("Name", "after").put("List", new JsonArray().add("nested")));
+
+    // Vertx Encode
+    byte[] encoded = vertxEncode(jsonObject);
+
+    // Encode using Google's protoc plugin
+    byte[] protocEncoded = protocEncode(io.vertx.protobuf.Struct.parseFrom(encoded));
+    assertArrayEquals(protocEncoded, encoded);
+
+    // Vertx Decode
+    CodedInputStream input = CodedInputStream.newInstance(protocEncoded);
+    JsonObject decoded = VertxStructProtoConverter.fromProto(input);
+    assertEquals(jsonObject, decoded);
+
+    // Verify ComputeSize
+    Assert.assertEquals(encoded.length, VertxStructProtoConverter.computeSize(jsonObject));
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    CodedOutputStream output = CodedOutputStream.newInstance(baos);
+    VertxStructListProtoConverter.toProto(array, output);
+    output.flush();
+    Assert.assertEquals(baos.size(), VertxStructListProtoConverter.computeSize(array));
+  }
+
   @Test
   public void TestJsonArray() throws IOException {
     JsonObject jsonObject = new JsonObject();
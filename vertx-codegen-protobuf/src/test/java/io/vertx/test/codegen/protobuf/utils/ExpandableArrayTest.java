@@ -1,6 +1,7 @@
 package io.vertx.test.codegen.protobuf.utils;
 
 import io.vertx.codegen.protobuf.utils.ExpandableIntArray;
+import io.vertx.codegen.protobuf.utils.ExpandableIntArrayPool;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -64,6 +65,45 @@ public class ExpandableArrayTest {
     });
   }
 
+  @Test
+  public void testReset() {
+    ExpandableIntArray arr = new ExpandableIntArray(2);
+    arr.add(1);
+    arr.add(2);
+    arr.add(3);
+    int capacity = arr.capacity();
+    arr.reset();
+    Assert.assertEquals(0, arr.size());
+    Assert.assertEquals(capacity, arr.capacity());
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> {
+      arr.get(0);
+    });
+    arr.add(4);
+    Assert.assertEquals(4, arr.get(0));
+    Assert.assertEquals(1, arr.size());
+  }
+
+  @Test
+  public void testPool() {
+    ExpandableIntArray arr = ExpandableIntArrayPool.acquire(2);
+    arr.add(1);
+    ExpandableIntArray nested = ExpandableIntArrayPool.acquire(2);
+    Assert.assertNotSame(arr, nested);
+    ExpandableIntArrayPool.release(nested);
+    ExpandableIntArrayPool.release(arr);
+    ExpandableIntArray reused = ExpandableIntArrayPool.acquire(2);
+    Assert.assertSame(arr, reused);
+    Assert.assertEquals(0, reused.size());
+    ExpandableIntArrayPool.release(reused);
+  }
+
+  @Test
+  public void testPoolDoesNotRetainLargeArray() {
+    ExpandableIntArray arr = new ExpandableIntArray(ExpandableIntArrayPool.MAX_RETAINED_CAPACITY + 1);
+    ExpandableIntArrayPool.release(arr);
+    Assert.assertNotSame(arr, ExpandableIntArrayPool.acquire(2));
+  }
+
   @Test(expected = OutOfMemoryError.class)
   public void testOutOfMemory() {
     new ExpandableIntArray(Integer.MAX_VALUE);
@@ -5,7 +5,7 @@ package io.vertx.codegen;
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
-@javax.annotation.processing.SupportedOptions({"codegen.output","codegen.generators"})
+@javax.annotation.processing.SupportedOptions({"codegen.output","codegen.generators","codegen.parallelism","codegen.cache"})
 @javax.annotation.processing.SupportedSourceVersion(javax.lang.model.SourceVersion.RELEASE_8)
 public class CodeGenProcessor extends Processor {
 }